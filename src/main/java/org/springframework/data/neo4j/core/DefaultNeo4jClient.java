@@ -15,22 +15,24 @@
  */
 package org.springframework.data.neo4j.core;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.convert.ConversionService;
@@ -69,14 +71,18 @@ class DefaultNeo4jClient implements Neo4jClient {
 	}
 
 	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase) {
+		return getQueryRunner(targetDatabase, false);
+	}
+
+	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase, boolean readOnly) {
 
 		QueryRunner queryRunner = Neo4jTransactionManager.retrieveTransaction(driver, targetDatabase);
 		if (queryRunner == null) {
-			queryRunner = driver.session(Neo4jTransactionUtils.defaultSessionConfig(targetDatabase));
+			queryRunner = driver.session(
+					Neo4jTransactionUtils.sessionConfig(readOnly, Collections.emptyList(), targetDatabase));
 		}
 
-		return (AutoCloseableQueryRunner) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				new Class<?>[] { AutoCloseableQueryRunner.class }, new AutoCloseableQueryRunnerHandler(queryRunner));
+		return new DelegatingQueryRunner(queryRunner);
 	}
 
 	/**
@@ -88,26 +94,50 @@ class DefaultNeo4jClient implements Neo4jClient {
 		void close();
 	}
 
-	static class AutoCloseableQueryRunnerHandler implements InvocationHandler {
+	/**
+	 * Delegates all queries to the runner retrieved for the current operation and closes it only when it is a session.
+	 * Transactions are managed elsewhere and stay open.
+	 */
+	static final class DelegatingQueryRunner implements AutoCloseableQueryRunner {
 
-		private final QueryRunner target;
+		private final QueryRunner delegate;
 
-		AutoCloseableQueryRunnerHandler(QueryRunner target) {
-			this.target = target;
+		DelegatingQueryRunner(QueryRunner delegate) {
+			this.delegate = delegate;
 		}
 
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		public void close() {
 
-			if ("close".equals(method.getName())) {
-				if (this.target instanceof Session) {
-					((Session) this.target).close();
-				}
-				return null;
-			} else {
-				return method.invoke(target, args);
+			if (this.delegate instanceof Session) {
+				((Session) this.delegate).close();
 			}
 		}
+
+		@Override
+		public Result run(String query, Value parameters) {
+			return delegate.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query, Map<String, Object> parameters) {
+			return delegate.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query, Record parameters) {
+			return delegate.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query) {
+			return delegate.run(query);
+		}
+
+		@Override
+		public Result run(Query query) {
+			return delegate.run(query);
+		}
 	}
 
 	// Below are all the implementations (methods and classes) as defined by the contracts of Neo4jClient
@@ -181,6 +211,8 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 		private String targetDatabase;
 
+		private boolean readOnly;
+
 		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
 			this.runnableStatement = new RunnableStatement(cypherSupplier);
 		}
@@ -192,6 +224,13 @@ class DefaultNeo4jClient implements Neo4jClient {
 			return this;
 		}
 
+		@Override
+		public RunnableSpecTightToDatabase readOnly() {
+
+			this.readOnly = true;
+			return this;
+		}
+
 		class DefaultOngoingBindSpec<T> implements OngoingBindSpec<T, RunnableSpecTightToDatabase> {
 
 			@Nullable private final T value;
@@ -230,20 +269,21 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public <T> MappingSpec<T> fetchAs(Class<T> targetClass) {
 
-			return new DefaultRecordFetchSpec(this.targetDatabase, this.runnableStatement,
+			return new DefaultRecordFetchSpec(this.targetDatabase, this.readOnly, this.runnableStatement,
 					new SingleValueMappingFunction(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.runnableStatement, (t, r) -> r.asMap());
+			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.readOnly, this.runnableStatement,
+					(t, r) -> r.asMap());
 		}
 
 		@Override
 		public ResultSummary run() {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase, this.readOnly)) {
 				Result result = runnableStatement.runWith(statementRunner);
 				return ResultSummaries.process(result.consume());
 			} catch (RuntimeException e) {
@@ -256,13 +296,16 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 		private final String targetDatabase;
 
+		private final boolean readOnly;
+
 		private final RunnableStatement runnableStatement;
 
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
-		DefaultRecordFetchSpec(String targetDatabase, RunnableStatement runnableStatement,
+		DefaultRecordFetchSpec(String targetDatabase, boolean readOnly, RunnableStatement runnableStatement,
 				BiFunction<TypeSystem, Record, T> mappingFunction) {
 			this.targetDatabase = targetDatabase;
+			this.readOnly = readOnly;
 			this.runnableStatement = runnableStatement;
 			this.mappingFunction = mappingFunction;
 		}
@@ -278,7 +321,7 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Optional<T> one() {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase, this.readOnly)) {
 				Result result = runnableStatement.runWith(statementRunner);
 				Optional<T> optionalValue = result.hasNext() ?
 						Optional.of(mappingFunction.apply(typeSystem, result.single())) :
@@ -293,7 +336,7 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Optional<T> first() {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase, this.readOnly)) {
 				Result result = runnableStatement.runWith(statementRunner);
 				Optional<T> optionalValue = result.stream().map(partialMappingFunction(typeSystem)).findFirst();
 				ResultSummaries.process(result.consume());
@@ -305,17 +348,44 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 		@Override
 		public Collection<T> all() {
+			return all(summary -> {
+			});
+		}
+
+		@Override
+		public Collection<T> all(Consumer<ResultSummary> summaryConsumer) {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase, this.readOnly)) {
 				Result result = runnableStatement.runWith(statementRunner);
 				Collection<T> values = result.stream().map(partialMappingFunction(typeSystem)).collect(Collectors.toList());
-				ResultSummaries.process(result.consume());
+				summaryConsumer.accept(ResultSummaries.process(result.consume()));
 				return values;
 			} catch (RuntimeException e) {
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
 			}
 		}
 
+		@Override
+		public Stream<T> stream() {
+
+			AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase, this.readOnly);
+			try {
+				Result result = runnableStatement.runWith(statementRunner);
+				return result.stream().map(partialMappingFunction(typeSystem)).onClose(() -> {
+					try {
+						ResultSummaries.process(result.consume());
+					} catch (RuntimeException e) {
+						throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+					} finally {
+						statementRunner.close();
+					}
+				});
+			} catch (RuntimeException e) {
+				statementRunner.close();
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+		}
+
 		/**
 		 * @param typeSystem The actual type system
 		 * @return The partially evaluated mapping function
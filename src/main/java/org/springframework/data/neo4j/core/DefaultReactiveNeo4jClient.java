@@ -19,8 +19,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -65,26 +67,58 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
 	}
 
-	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase) {
+	/**
+	 * Retrieves the runner for one or more statements. Inside a managed transaction, that transaction is used. Otherwise
+	 * a new session is opened and, if only a single statement is going to be run, the session runs it in an auto-commit
+	 * transaction. This saves the round trips for beginning and committing an explicit transaction, the session is closed
+	 * after the statement has been consumed. Callbacks that might run several statements still get an explicit transaction.
+	 *
+	 * @param targetDatabase The database to run the statements in
+	 * @param readOnly Whether the session is read-only
+	 * @param singleStatement Whether only a single statement is going to be run
+	 * @return A holder for the runner and its commit and rollback
+	 */
+	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase, boolean readOnly,
+			boolean singleStatement) {
+
+		Mono<RxStatementRunnerHolder> unmanagedHolder;
+		if (singleStatement) {
+			unmanagedHolder = Mono.fromSupplier(() -> {
+				RxSession session = driver.rxSession(
+						Neo4jTransactionUtils.sessionConfig(readOnly, Collections.emptyList(), targetDatabase));
+				Mono<Void> close = Mono.defer(() -> Mono.from(session.close()));
+				return new RxStatementRunnerHolder(session, close, close);
+			});
+		} else {
+			unmanagedHolder = Mono.using(() -> driver.rxSession(
+					Neo4jTransactionUtils.sessionConfig(readOnly, Collections.emptyList(), targetDatabase)),
+					session -> Mono.from(session.beginTransaction())
+							.map(tx -> new RxStatementRunnerHolder(tx, tx.commit(), tx.rollback())),
+					RxSession::close);
+		}
 
 		return ReactiveNeo4jTransactionManager.retrieveReactiveTransaction(driver, targetDatabase)
 				.map(rxTransaction -> new RxStatementRunnerHolder(rxTransaction, Mono.empty(), Mono.empty())) //
-				.switchIfEmpty(Mono.using(() -> driver.rxSession(Neo4jTransactionUtils.defaultSessionConfig(targetDatabase)),
-						session -> Mono.from(session.beginTransaction())
-								.map(tx -> new RxStatementRunnerHolder(tx, tx.commit(), tx.rollback())),
-						RxSession::close));
+				.switchIfEmpty(unmanagedHolder);
 	}
 
 	<T> Mono<T> doInQueryRunnerForMono(final String targetDatabase, Function<RxQueryRunner, Mono<T>> func) {
 
-		return Mono.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase),
+		return doInQueryRunnerForMono(targetDatabase, false, false, func);
+	}
+
+	<T> Mono<T> doInQueryRunnerForMono(final String targetDatabase, boolean readOnly, boolean singleStatement,
+			Function<RxQueryRunner, Mono<T>> func) {
+
+		return Mono.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase, readOnly, singleStatement),
 				holder -> func.apply(holder.getRxQueryRunner()), RxStatementRunnerHolder::getCommit,
 				(holder, ex) -> holder.getRollback(), RxStatementRunnerHolder::getCommit);
 	}
 
-	<T> Flux<T> doInStatementRunnerForFlux(final String targetDatabase, Function<RxQueryRunner, Flux<T>> func) {
+	<T> Flux<T> doInStatementRunnerForFlux(final String targetDatabase, boolean readOnly, boolean singleStatement,
+			Function<RxQueryRunner, Flux<T>> func) {
 
-		return Flux.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase),
+		return Flux.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase, readOnly, singleStatement),
 				holder -> func.apply(holder.getRxQueryRunner()), RxStatementRunnerHolder::getCommit,
 				(holder, ex) -> holder.getRollback(), RxStatementRunnerHolder::getCommit);
 	}
@@ -110,6 +144,8 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 		private String targetDatabase;
 
+		private boolean readOnly;
+
 		private final NamedParameters parameters = new NamedParameters();
 
 		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
@@ -123,6 +159,13 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 			return this;
 		}
 
+		@Override
+		public RunnableSpecTightToDatabase readOnly() {
+
+			this.readOnly = true;
+			return this;
+		}
+
 		class DefaultOngoingBindSpec<T> implements Neo4jClient.OngoingBindSpec<T, RunnableSpecTightToDatabase> {
 
 			@Nullable private final T value;
@@ -161,20 +204,21 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		@Override
 		public <R> MappingSpec<R> fetchAs(Class<R> targetClass) {
 
-			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.cypherSupplier, this.parameters,
+			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.readOnly, this.cypherSupplier, this.parameters,
 					new SingleValueMappingFunction(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(targetDatabase, cypherSupplier, parameters, (t, r) -> r.asMap());
+			return new DefaultRecordFetchSpec<>(targetDatabase, readOnly, cypherSupplier, parameters, (t, r) -> r.asMap());
 		}
 
 		@Override
 		public Mono<ResultSummary> run() {
 
-			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.cypherSupplier, this.parameters).run();
+			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.readOnly, this.cypherSupplier, this.parameters)
+					.run();
 		}
 	}
 
@@ -182,19 +226,23 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 		private final String targetDatabase;
 
+		private final boolean readOnly;
+
 		private final Supplier<String> cypherSupplier;
 
 		private final NamedParameters parameters;
 
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
-		DefaultRecordFetchSpec(String targetDatabase, Supplier<String> cypherSupplier, NamedParameters parameters) {
-			this(targetDatabase, cypherSupplier, parameters, null);
+		DefaultRecordFetchSpec(String targetDatabase, boolean readOnly, Supplier<String> cypherSupplier,
+				NamedParameters parameters) {
+			this(targetDatabase, readOnly, cypherSupplier, parameters, null);
 		}
 
-		DefaultRecordFetchSpec(String targetDatabase, Supplier<String> cypherSupplier, NamedParameters parameters,
-				@Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
+		DefaultRecordFetchSpec(String targetDatabase, boolean readOnly, Supplier<String> cypherSupplier,
+				NamedParameters parameters, @Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
 			this.targetDatabase = targetDatabase;
+			this.readOnly = readOnly;
 			this.cypherSupplier = cypherSupplier;
 			this.parameters = parameters;
 			this.mappingFunction = mappingFunction;
@@ -220,16 +268,22 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		}
 
 		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, RxQueryRunner runner) {
+			return executeWith(t, runner, summary -> {
+			});
+		}
+
+		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, RxQueryRunner runner,
+				Consumer<ResultSummary> summaryConsumer) {
 
 			return Flux.usingWhen(Flux.just(runner.run(t.getT1(), t.getT2())),
 					result -> Flux.from(result.records()).map(r -> mappingFunction.apply(typeSystem, r)),
-					result -> Flux.from(result.consume()).doOnNext(ResultSummaries::process));
+					result -> Flux.from(result.consume()).map(ResultSummaries::process).doOnNext(summaryConsumer));
 		}
 
 		@Override
 		public Mono<T> one() {
 
-			return doInQueryRunnerForMono(targetDatabase,
+			return doInQueryRunnerForMono(targetDatabase, readOnly, true,
 					(runner) -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).singleOrEmpty())
 							.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
@@ -237,22 +291,28 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		@Override
 		public Mono<T> first() {
 
-			return doInQueryRunnerForMono(targetDatabase,
+			return doInQueryRunnerForMono(targetDatabase, readOnly, true,
 					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).next())
 							.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
 
 		@Override
 		public Flux<T> all() {
+			return all(summary -> {
+			});
+		}
+
+		@Override
+		public Flux<T> all(Consumer<ResultSummary> summaryConsumer) {
 
-			return doInStatementRunnerForFlux(targetDatabase,
-					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner))).onErrorMap(RuntimeException.class,
-							DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return doInStatementRunnerForFlux(targetDatabase, readOnly, true,
+					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner, summaryConsumer))).onErrorMap(
+							RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
 
 		Mono<ResultSummary> run() {
 
-			return doInQueryRunnerForMono(targetDatabase, runner -> prepareStatement().flatMap(t -> {
+			return doInQueryRunnerForMono(targetDatabase, readOnly, true, runner -> prepareStatement().flatMap(t -> {
 				RxResult rxResult = runner.run(t.getT1(), t.getT2());
 				return Flux.from(rxResult.records()).then(Mono.from(rxResult.consume()).map(ResultSummaries::process));
 			})).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 
 import org.neo4j.cypherdsl.core.Cypher;
@@ -57,4 +58,28 @@ final class DynamicLabels implements UnaryOperator<OngoingMatchAndUpdate> {
 		}
 		return decoratedMatchAndUpdate;
 	}
+
+	/**
+	 * @return True if neither labels are removed nor added
+	 */
+	boolean isEmpty() {
+		return oldLabels.isEmpty() && newLabels.isEmpty();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		DynamicLabels that = (DynamicLabels) o;
+		return oldLabels.equals(that.oldLabels) && newLabels.equals(that.newLabels);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(oldLabels, newLabels);
+	}
 }
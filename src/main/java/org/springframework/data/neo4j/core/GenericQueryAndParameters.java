@@ -25,7 +25,6 @@ import org.springframework.data.neo4j.core.mapping.Constants;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 
 final class GenericQueryAndParameters {
@@ -46,16 +45,6 @@ final class GenericQueryAndParameters {
 		parameters.put(RELATED_NODE_IDS, relatedNodeIds);
 	}
 
-	GenericQueryAndParameters() {
-		this(new HashSet<>(), new HashSet<>(), new HashSet<>());
-	}
-
-	void with(Collection<Long> rootNodeIds, Collection<Long> relationshipsIds, Collection<Long> relatedNodeIds) {
-		parameters.put(ROOT_NODE_IDS, rootNodeIds);
-		parameters.put(RELATIONSHIP_IDS, relationshipsIds);
-		parameters.put(RELATED_NODE_IDS, relatedNodeIds);
-	}
-
 	Map<String, Object> getParameters() {
 		return Collections.unmodifiableMap(parameters);
 	}
@@ -19,8 +19,10 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -105,6 +107,20 @@ public interface Neo4jClient {
 	 */
 	interface RunnableSpecTightToDatabase extends BindSpec<RunnableSpecTightToDatabase> {
 
+		/**
+		 * Marks this query as read-only. When no transaction is ongoing, read-only queries are run in sessions with
+		 * {@link org.neo4j.driver.AccessMode#READ}, so that a cluster can route them to followers or read replicas. Inside
+		 * an ongoing transaction this hint has no effect. It must not be used for queries that write. Such sessions don't
+		 * know the bookmarks of earlier writes outside a transaction, so the query might not see them. The default
+		 * implementation ignores the hint.
+		 *
+		 * @return A runnable query specification that runs in read-only mode
+		 * @since 6.1
+		 */
+		default RunnableSpecTightToDatabase readOnly() {
+			return this;
+		}
+
 		/**
 		 * Create a mapping for each record return to a specific type.
 		 *
@@ -215,6 +231,30 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Fetches all records and passes the summary of the result to the given consumer, for example to determine the
+		 * number of nodes created by a statement returning records. The default implementation doesn't provide a summary.
+		 *
+		 * @param summaryConsumer Receives the summary of the result after all records have been fetched
+		 * @return All records.
+		 * @since 6.1
+		 */
+		default Collection<T> all(Consumer<ResultSummary> summaryConsumer) {
+			return all();
+		}
+
+		/**
+		 * Fetches all records lazily. Records are mapped while the stream is consumed and the underlying session or
+		 * transaction is held open until the stream is closed. The stream must therefore be closed after use, for example
+		 * in a try-with-resources block. The default implementation is not lazy and streams all fetched records.
+		 *
+		 * @return A stream of all records.
+		 * @since 6.1
+		 */
+		default Stream<T> stream() {
+			return all().stream();
+		}
 	}
 
 	/**
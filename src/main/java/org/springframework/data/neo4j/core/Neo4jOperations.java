@@ -15,9 +15,15 @@
  */
 package org.springframework.data.neo4j.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
@@ -25,6 +31,9 @@ import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 
 /**
  * Specifies operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -151,6 +160,20 @@ public interface Neo4jOperations {
 	 */
 	<T> Optional<T> findOne(String cypherQuery, Map<String, Object> parameters, Class<T> domainType);
 
+	/**
+	 * Checks whether an entity with the given id exists. Neither the entity nor any of its relationships are loaded by
+	 * {@link Neo4jTemplate}. The default implementation loads the entity and should be overridden by implementations
+	 * that can check the existence directly.
+	 *
+	 * @param id the id of the entity to check. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @return {@literal true} if an entity with the given id exists
+	 * @since 6.1
+	 */
+	default boolean existsById(Object id, Class<?> domainType) {
+		return findById(id, domainType).isPresent();
+	}
+
 	/**
 	 * Load an entity from the database.
 	 *
@@ -189,6 +212,47 @@ public interface Neo4jOperations {
 	 */
 	<T> List<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a potentially very large number of instances in chunks of the given size, including all the related entities
+	 * of each instance. The instances are consumed lazily, one chunk at a time, and the saved instances are not kept, so
+	 * that neither the client nor a single statement needs to hold all of them. Use {@code stream::iterator} to save the
+	 * elements of a {@link Stream}.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param chunkSize the number of instances saved together. Must be positive.
+	 * @param transactionTemplate if not {@literal null}, each chunk is saved and committed in a transaction of its own.
+	 *                            Otherwise all chunks participate in the ongoing transaction, if any.
+	 * @param progressListener notified after each chunk has been saved.
+	 * @param <T> the type of the entity.
+	 * @return the progress after the last chunk. The default implementation saves each chunk with
+	 *         {@link #saveAll(Iterable)} and doesn't report any counters.
+	 * @since 6.1
+	 */
+	default <T> SaveAllProgress saveAllInChunks(Iterable<T> instances, int chunkSize,
+			@Nullable TransactionTemplate transactionTemplate, Consumer<SaveAllProgress> progressListener) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be positive.");
+
+		SaveAllProgress progress = SaveAllProgress.NONE;
+		Iterator<T> iterator = instances.iterator();
+		while (iterator.hasNext()) {
+			List<T> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext() && chunk.size() < chunkSize) {
+				chunk.add(iterator.next());
+			}
+
+			if (transactionTemplate == null) {
+				saveAll(chunk);
+			} else {
+				transactionTemplate.executeWithoutResult(tx -> saveAll(chunk));
+			}
+
+			progress = progress.next(chunk.size(), Collections.emptyList());
+			progressListener.accept(progress);
+		}
+		return progress;
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -216,6 +280,50 @@ public interface Neo4jOperations {
 	 */
 	void deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in batches of bounded size. The relationships of the nodes are deleted first,
+	 * at most {@code batchSize} by each statement, so that nodes with a high degree are detached in slices. The nodes
+	 * are deleted afterwards, again at most {@code batchSize} by each statement. Outside a transaction, each statement
+	 * is committed on its own.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize the maximum number of relationships or nodes deleted by one statement. Must be positive.
+	 * @param transactionTemplate if not {@literal null}, each batch is deleted and committed in a transaction of its own.
+	 *                            Otherwise all batches participate in the ongoing transaction, if any.
+	 * @since 6.1
+	 */
+	void deleteAllInBatches(Class<?> domainType, int batchSize, @Nullable TransactionTemplate transactionTemplate);
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of bounded size. The ids are split into chunks of
+	 * {@code batchSize} ids, the entities of each chunk are deleted like in
+	 * {@link #deleteAllInBatches(Class, int, TransactionTemplate)}.
+	 *
+	 * @param ids the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param batchSize the maximum number of ids, relationships or nodes handled by one statement. Must be positive.
+	 * @param transactionTemplate if not {@literal null}, each batch is deleted and committed in a transaction of its own.
+	 *                            Otherwise all batches participate in the ongoing transaction, if any.
+	 * @param <T> the type of the entity.
+	 * @since 6.1
+	 */
+	<T> void deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize,
+			@Nullable TransactionTemplate transactionTemplate);
+
+	/**
+	 * Prepares the total count of a page. Must be called before the query for the content is executed, so that an
+	 * implementation can overlap the count with it. The default implementation executes the count query when the total
+	 * is requested.
+	 *
+	 * @param key Identifies the count query and its parameters. Must implement equals and hashCode.
+	 * @param countQuery Executes the count query
+	 * @return A supplier of the total count
+	 * @since 6.1
+	 */
+	default LongSupplier prepareTotal(Object key, LongSupplier countQuery) {
+		return countQuery;
+	}
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
@@ -261,5 +369,18 @@ public interface Neo4jOperations {
 		 * @throws NoResultException when there is no result
 		 */
 		T getRequiredSingleResult();
+
+		/**
+		 * Returns all results as a stream that is mapped lazily. The stream holds on to the underlying session or
+		 * transaction until it is closed, so it must be closed after use. Results that have been aggregated into
+		 * collections or paths are flattened per record, but other than with {@link #getResults()} not made distinct
+		 * across records. The default implementation is not lazy and streams the list of all results.
+		 *
+		 * @return A stream of all results.
+		 * @since 6.1
+		 */
+		default Stream<T> getResultStream() {
+			return getResults().stream();
+		}
 	}
 }
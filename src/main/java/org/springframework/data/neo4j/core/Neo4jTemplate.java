@@ -20,7 +20,6 @@ import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.Functions;
-import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
@@ -30,6 +29,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.mapping.AssociationHandler;
@@ -38,6 +38,7 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.CreateRelationshipStatementHolder;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.EntitySnapshots;
 import org.springframework.data.neo4j.core.mapping.MappingSupport;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
@@ -45,32 +46,38 @@ import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
 import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine;
 import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine.ProcessState;
-import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
+import org.springframework.data.neo4j.repository.query.TotalCountSupport;
 import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.asterisk;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
@@ -96,10 +103,20 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	private final CypherGenerator cypherGenerator;
 
+	private final StatementCache statementCache = new StatementCache();
+
 	private EventSupport eventSupport;
 
 	private final DatabaseSelectionProvider databaseSelectionProvider;
 
+	private int maxTraversalDepth = ReachableGraphCollector.DEFAULT_MAX_DEPTH;
+
+	private boolean synchronizeRelationshipsByDifference;
+
+	private boolean routeReadOnlyQueries;
+
+	private final TotalCountSupport totalCountSupport = new TotalCountSupport();
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext(), DatabaseSelectionProvider.getDefaultSelectionProvider());
 	}
@@ -129,10 +146,16 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public long count(Class<?> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData).returning(Functions.count(asterisk()))
+		String cypherQuery = statementCache.render(StatementCache.Kind.COUNT,
+				() -> cypherGenerator.prepareMatchOf(entityMetaData).returning(Functions.count(asterisk())).build(),
+				entityMetaData);
+
+		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class)
+				.withCypherQuery(cypherQuery)
+				.withParameters(Collections.emptyMap())
+				.readOnly()
 				.build();
-
-		return count(statement);
+		return toExecutableQuery(preparedQuery).getRequiredSingleResult();
 	}
 
 	@Override
@@ -160,8 +183,8 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType) {
-		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		return createExecutableQuery(domainType, QueryFragmentsAndParameters.forFindAll(entityMetaData))
+		return createCachedExecutableQuery(domainType, StatementCache.Kind.FIND_ALL,
+				QueryFragmentsAndParameters::forFindAll, Collections.emptyMap())
 				.getResults();
 	}
 
@@ -195,12 +218,30 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		return createExecutableQuery(domainType, cypherQuery, parameters).getSingleResult();
 	}
 
+	@Override
+	public boolean existsById(Object id, Class<?> domainType) {
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = statementCache.render(StatementCache.Kind.EXISTS_BY_ID,
+				() -> cypherGenerator.prepareExistenceCheckOf(entityMetaData,
+						entityMetaData.getIdExpression().isEqualTo(parameter(Constants.NAME_OF_ID))),
+				entityMetaData);
+
+		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class).withCypherQuery(cypherQuery)
+				.withParameters(Collections.singletonMap(Constants.NAME_OF_ID,
+						convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
+				.readOnly()
+				.build();
+		return toExecutableQuery(preparedQuery).getRequiredSingleResult() > 0;
+	}
+
 	@Override
 	public <T> Optional<T> findById(Object id, Class<T> domainType) {
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 
-		return createExecutableQuery(domainType,
-				QueryFragmentsAndParameters.forFindById(entityMetaData,
+		return createCachedExecutableQuery(domainType, StatementCache.Kind.FIND_BY_ID,
+				entity -> QueryFragmentsAndParameters.forFindById(entity, null),
+				Collections.singletonMap(Constants.NAME_OF_ID,
 						convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
 				.getSingleResult();
 	}
@@ -209,9 +250,10 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 
-		return createExecutableQuery(domainType,
-				QueryFragmentsAndParameters.forFindByAllId(
-						entityMetaData, convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
+		return createCachedExecutableQuery(domainType, StatementCache.Kind.FIND_ALL_BY_ID,
+				entity -> QueryFragmentsAndParameters.forFindByAllId(entity, null),
+				Collections.singletonMap(Constants.NAME_OF_IDS,
+						convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
 				.getResults();
 	}
 
@@ -237,12 +279,8 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 		DynamicLabels dynamicLabels = determineDynamicLabels(entityToBeSaved, entityMetaData, inDatabase);
 
-		Optional<Long> optionalInternalId = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels)))
-				.in(inDatabase)
-				.bind(entityToBeSaved)
-				.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()))
-				.fetchAs(Long.class).one();
+		Optional<Long> optionalInternalId = saveNode(entityToBeSaved, entityMetaData, isEntityNew, dynamicLabels,
+				inDatabase);
 
 		if (entityMetaData.hasVersionProperty() && !optionalInternalId.isPresent()) {
 			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
@@ -262,7 +300,8 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 			PersistentPropertyAccessor propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jClient.RunnableSpecTightToDatabase runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> statementCache.render(StatementCache.Kind.DYNAMIC_LABELS,
+							() -> cypherGenerator.createStatementReturningDynamicLabels(entityMetaData), entityMetaData))
 					.in(inDatabase).bind(propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty()))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels())
 					.to(Constants.NAME_OF_STATIC_LABELS_PARAM);
@@ -296,14 +335,44 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			return Collections.emptyList();
 		}
 
-		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
-		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
-		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
-				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
-			log.debug("Saving entities using single statements.");
+		return saveAllImpl(entities, databaseName, counters -> {
+		});
+	}
+
+	@Override
+	public <T> SaveAllProgress saveAllInChunks(Iterable<T> instances, int chunkSize,
+			@Nullable TransactionTemplate transactionTemplate, Consumer<SaveAllProgress> progressListener) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be positive.");
 
-			return entities.stream().map(e -> saveImpl(e, databaseName)).collect(Collectors.toList());
+		String databaseName = getDatabaseName();
+
+		SaveAllProgress progress = SaveAllProgress.NONE;
+		Iterator<T> iterator = instances.iterator();
+		while (iterator.hasNext()) {
+			List<T> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext() && chunk.size() < chunkSize) {
+				chunk.add(iterator.next());
+			}
+
+			List<SummaryCounters> counters = new ArrayList<>();
+			if (transactionTemplate == null) {
+				saveAllImpl(chunk, databaseName, counters::add);
+			} else {
+				transactionTemplate.executeWithoutResult(tx -> saveAllImpl(chunk, databaseName, counters::add));
+			}
+
+			progress = progress.next(chunk.size(), counters);
+			progressListener.accept(progress);
 		}
+		return progress;
+	}
+
+	private <T> List<T> saveAllImpl(Collection<T> entities, @Nullable String databaseName,
+			Consumer<SummaryCounters> countersConsumer) {
+
+		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
 
 		// we need to determine the `isNew` state of the entities before calling the id generator
 		List<Boolean> isNewIndicator = entities.stream().map(entity ->
@@ -315,37 +384,165 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 		// Save roots
 		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
-		List<Map<String, Object>> entityList = entitiesToBeSaved.stream().map(binderFunction)
-				.collect(Collectors.toList());
-		ResultSummary resultSummary = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
-				.in(databaseName)
-				.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM).run();
+		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
+				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
+			log.debug("Saving entities using statements checking each row.");
 
-		// Save related
-		entitiesToBeSaved.forEach(entityToBeSaved -> processRelations(entityMetaData, entityToBeSaved,
-				isNewIndicator.get(entitiesToBeSaved.indexOf(entityToBeSaved)), databaseName));
+			List<T> savedEntities = saveAllWithChecks(entityMetaData, entitiesToBeSaved, isNewIndicator, binderFunction,
+					databaseName, countersConsumer);
+			for (int i = 0; i < savedEntities.size(); ++i) {
+				savedEntities.set(i, processRelations(entityMetaData, savedEntities.get(i), isNewIndicator.get(i),
+						databaseName));
+			}
+			return savedEntities;
+		}
+
+		List<Map<String, Object>> entityList = new ArrayList<>(entitiesToBeSaved.size());
+		for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+			Map<String, Object> parameters = binderFunction.apply(entitiesToBeSaved.get(i));
+			if (reduceToChangedProperties(entitiesToBeSaved.get(i), isNewIndicator.get(i), parameters)) {
+				entityList.add(parameters);
+			}
+		}
+
+		if (!entityList.isEmpty()) {
+			ResultSummary resultSummary = neo4jClient
+					.query(() -> statementCache.render(StatementCache.Kind.SAVE_ALL,
+							() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData), entityMetaData))
+					.in(databaseName)
+					.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM).run();
+
+			SummaryCounters counters = resultSummary.counters();
+			log.debug(() -> String.format(
+					"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
+					counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
+					counters.relationshipsDeleted(), counters.propertiesSet()));
+			countersConsumer.accept(counters);
+		}
 
-		SummaryCounters counters = resultSummary.counters();
-		log.debug(() -> String.format(
-				"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-				counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-				counters.relationshipsDeleted(), counters.propertiesSet()));
+		// Save related
+		for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+			processRelations(entityMetaData, entitiesToBeSaved.get(i), isNewIndicator.get(i), databaseName);
+		}
 
 		return entitiesToBeSaved;
 	}
 
+	/**
+	 * Saves entities using internal ids, versions or dynamic labels with one statement per distinct change of dynamic
+	 * labels instead of one statement per entity. The version of each row is checked individually.
+	 *
+	 * @return The saved entities in the order of the given entities, with internal ids set if applicable
+	 * @throws OptimisticLockingFailureException listing all rows that failed the check of their version
+	 */
+	private <T> List<T> saveAllWithChecks(Neo4jPersistentEntity<?> entityMetaData, List<T> entitiesToBeSaved,
+			List<Boolean> isNewIndicator, Function<T, Map<String, Object>> binderFunction, @Nullable String inDatabase,
+			Consumer<SummaryCounters> countersConsumer) {
+
+		List<Map<String, Object>> rows = new ArrayList<>(entitiesToBeSaved.size());
+		for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+			Map<String, Object> row = binderFunction.apply(entitiesToBeSaved.get(i));
+			row.put(Constants.NAME_OF_ROW_INDEX, i);
+			if (reduceToChangedProperties(entitiesToBeSaved.get(i), isNewIndicator.get(i), row)
+				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
+				rows.add(row);
+			}
+		}
+
+		Long[] internalIds = new Long[entitiesToBeSaved.size()];
+		groupByDynamicLabels(entityMetaData, entitiesToBeSaved, rows, inDatabase).forEach((dynamicLabels, group) -> {
+			Collection<Map<String, Object>> records = neo4jClient
+					.query(() -> statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE_ALL_WITH_CHECKS,
+							() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData, dynamicLabels),
+							entityMetaData, dynamicLabels))
+					.in(inDatabase)
+					.bind(group).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+					.fetch().all(summary -> countersConsumer.accept(summary.counters()));
+			for (Map<String, Object> record : records) {
+				List<Long> rowIndexes = (List<Long>) record.get(Constants.NAME_OF_ROW_INDEXES);
+				List<Long> ids = (List<Long>) record.get(Constants.NAME_OF_IDS);
+				for (int i = 0; i < rowIndexes.size(); ++i) {
+					internalIds[Math.toIntExact(rowIndexes.get(i))] = ids.get(i);
+				}
+			}
+		});
+
+		Map<Integer, Object> failedRows = new LinkedHashMap<>();
+		for (Map<String, Object> row : rows) {
+			int rowIndex = (Integer) row.get(Constants.NAME_OF_ROW_INDEX);
+			if (internalIds[rowIndex] == null) {
+				failedRows.put(rowIndex, entityMetaData.getPropertyAccessor(entitiesToBeSaved.get(rowIndex))
+						.getProperty(entityMetaData.getRequiredIdProperty()));
+			}
+		}
+		if (!failedRows.isEmpty()) {
+			throw new OptimisticLockingFailureException(String.format(
+					"Entities with the required version do not exist, failed rows and their ids: %s", failedRows));
+		}
+
+		List<T> savedEntities = new ArrayList<>(entitiesToBeSaved);
+		if (entityMetaData.isUsingInternalIds()) {
+			for (int i = 0; i < savedEntities.size(); ++i) {
+				if (internalIds[i] == null) {
+					continue;
+				}
+				PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(savedEntities.get(i));
+				propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalIds[i]);
+				savedEntities.set(i, propertyAccessor.getBean());
+			}
+		}
+		return savedEntities;
+	}
+
+	/**
+	 * Determines the changes of dynamic labels of all rows with one statement and groups the rows by them.
+	 */
+	private <T> Map<DynamicLabels, List<Map<String, Object>>> groupByDynamicLabels(
+			Neo4jPersistentEntity<?> entityMetaData, List<T> entitiesToBeSaved, List<Map<String, Object>> rows,
+			@Nullable String inDatabase) {
+
+		Optional<Neo4jPersistentProperty> dynamicLabelsProperty = entityMetaData.getDynamicLabelsProperty();
+		if (!dynamicLabelsProperty.isPresent()) {
+			return rows.isEmpty() ? Collections.emptyMap() : Collections.singletonMap(DynamicLabels.EMPTY, rows);
+		}
+
+		Map<Integer, Collection<String>> existingDynamicLabels = new HashMap<>();
+		neo4jClient
+				.query(() -> statementCache.render(StatementCache.Kind.DYNAMIC_LABELS_OF_ALL,
+						() -> cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(entityMetaData),
+						entityMetaData))
+				.in(inDatabase)
+				.bind(rows).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+				.bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+				.fetch().all()
+				.forEach(record -> existingDynamicLabels.put(((Number) record.get(Constants.NAME_OF_ROW_INDEX)).intValue(),
+						(Collection<String>) record.get(Constants.NAME_OF_LABELS)));
+
+		Map<DynamicLabels, List<Map<String, Object>>> rowsByDynamicLabels = new LinkedHashMap<>();
+		for (Map<String, Object> row : rows) {
+			int rowIndex = (Integer) row.get(Constants.NAME_OF_ROW_INDEX);
+			Collection<String> dynamicLabels = (Collection<String>) entityMetaData
+					.getPropertyAccessor(entitiesToBeSaved.get(rowIndex)).getProperty(dynamicLabelsProperty.get());
+			rowsByDynamicLabels.computeIfAbsent(new DynamicLabels(
+					existingDynamicLabels.getOrDefault(rowIndex, Collections.emptyList()), dynamicLabels),
+					k -> new ArrayList<>()).add(row);
+		}
+		return rowsByDynamicLabels;
+	}
+
 	@Override
 	public <T> void deleteById(Object id, Class<T> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "id";
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
 		log.debug(() -> String.format("Deleting entity with id %s ", id));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).in(getDatabaseName())
+		String cypherQuery = statementCache.render(StatementCache.Kind.DELETE_BY_ID,
+				() -> cypherGenerator.prepareDeleteOf(entityMetaData,
+						entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))),
+				entityMetaData);
+		ResultSummary summary = this.neo4jClient.query(cypherQuery).in(getDatabaseName())
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
 				.to(nameOfParameter).run();
 
@@ -360,19 +557,21 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 
 		String nameOfParameter = "id";
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))
-				.and(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName())
-						.isEqualTo(parameter(Constants.NAME_OF_VERSION_PARAM))
-						.or(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName()).isNull()));
+		String cypherQuery = statementCache.render(StatementCache.Kind.MATCH_BY_ID_AND_VERSION, () -> {
+			Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))
+					.and(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName())
+							.isEqualTo(parameter(Constants.NAME_OF_VERSION_PARAM))
+							.or(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName()).isNull()));
 
-		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, condition)
-				.returning(Constants.NAME_OF_ROOT_NODE).build();
+			return cypherGenerator.prepareMatchOf(entityMetaData, condition)
+					.returning(Constants.NAME_OF_ROOT_NODE).build();
+		}, entityMetaData, versionProperty);
 
 		Map<String, Object> parameters = new HashMap<>();
 		parameters.put(nameOfParameter, convertIdValues(entityMetaData.getRequiredIdProperty(), id));
 		parameters.put(Constants.NAME_OF_VERSION_PARAM, versionValue);
 
-		createExecutableQuery(domainType, statement, parameters).getSingleResult().orElseThrow(
+		createExecutableQuery(domainType, cypherQuery, parameters).getSingleResult().orElseThrow(
 				() -> new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE)
 		);
 
@@ -384,12 +583,14 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
 		log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).in(getDatabaseName()).bind(
+		String cypherQuery = statementCache.render(StatementCache.Kind.DELETE_ALL_BY_ID,
+				() -> cypherGenerator.prepareDeleteOf(entityMetaData,
+						entityMetaData.getIdExpression().in(parameter(nameOfParameter))),
+				entityMetaData);
+		ResultSummary summary = this.neo4jClient.query(cypherQuery).in(getDatabaseName()).bind(
 				convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
 				.to(nameOfParameter).run();
 
@@ -403,13 +604,100 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).in(getDatabaseName()).run();
+		String cypherQuery = statementCache.render(StatementCache.Kind.DELETE_ALL,
+				() -> cypherGenerator.prepareDeleteOf(entityMetaData), entityMetaData);
+		ResultSummary summary = this.neo4jClient.query(cypherQuery).in(getDatabaseName()).run();
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 				summary.counters().relationshipsDeleted()));
 	}
 
+	@Override
+	public void deleteAllInBatches(Class<?> domainType, int batchSize,
+			@Nullable TransactionTemplate transactionTemplate) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be positive.");
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		log.debug(() -> String.format("Deleting all nodes with primary label %s in batches of %d",
+				entityMetaData.getPrimaryLabel(), batchSize));
+
+		deleteInBatches(entityMetaData, null, Collections.emptyMap(), batchSize, transactionTemplate,
+				getDatabaseName());
+	}
+
+	@Override
+	public <T> void deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize,
+			@Nullable TransactionTemplate transactionTemplate) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be positive.");
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "ids";
+		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
+
+		String databaseName = getDatabaseName();
+		Iterator<?> iterator = ids.iterator();
+		while (iterator.hasNext()) {
+			List<Object> chunk = new ArrayList<>(batchSize);
+			while (iterator.hasNext() && chunk.size() < batchSize) {
+				chunk.add(iterator.next());
+			}
+
+			log.debug(() -> String.format("Deleting all entities with the following ids: %s ", chunk));
+			deleteInBatches(entityMetaData, condition, Collections.singletonMap(nameOfParameter,
+					convertIdValues(entityMetaData.getRequiredIdProperty(), chunk)), batchSize, transactionTemplate,
+					databaseName);
+		}
+	}
+
+	/**
+	 * Deletes the relationships of all nodes matching the condition in batches until they are gone, so that nodes with
+	 * a high degree are detached in slices, and the nodes afterwards.
+	 */
+	private void deleteInBatches(Neo4jPersistentEntity<?> entityMetaData, @Nullable Condition condition,
+			Map<String, Object> parameters, int batchSize, @Nullable TransactionTemplate transactionTemplate,
+			@Nullable String databaseName) {
+
+		boolean hasCondition = condition != null;
+		String deleteRelationships = statementCache.render(StatementCache.Kind.DELETE_RELATIONSHIPS_IN_BATCH,
+				() -> cypherGenerator.prepareDeleteOfRelationshipsInBatch(entityMetaData, condition),
+				entityMetaData, hasCondition);
+		String deleteNodes = statementCache.render(StatementCache.Kind.DELETE_NODES_IN_BATCH,
+				() -> cypherGenerator.prepareDeleteOfNodesInBatch(entityMetaData, condition),
+				entityMetaData, hasCondition);
+
+		long relationshipsDeleted = runInBatches(deleteRelationships, parameters, batchSize,
+				SummaryCounters::relationshipsDeleted, transactionTemplate, databaseName);
+		long nodesDeleted = runInBatches(deleteNodes, parameters, batchSize, SummaryCounters::nodesDeleted,
+				transactionTemplate, databaseName);
+
+		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", nodesDeleted, relationshipsDeleted));
+	}
+
+	/**
+	 * Runs the statement until it deletes less than {@code batchSize} elements and returns the number of all deleted
+	 * elements.
+	 */
+	private long runInBatches(String cypherQuery, Map<String, Object> parameters, int batchSize,
+			ToIntFunction<SummaryCounters> deletedElements, @Nullable TransactionTemplate transactionTemplate,
+			@Nullable String databaseName) {
+
+		Supplier<ResultSummary> batch = () -> neo4jClient.query(cypherQuery).in(databaseName).bindAll(parameters)
+				.bind(batchSize).to(Constants.NAME_OF_BATCH_SIZE_PARAM).run();
+
+		long total = 0;
+		int deletedInBatch;
+		do {
+			ResultSummary summary = transactionTemplate == null
+					? batch.get()
+					: transactionTemplate.execute(tx -> batch.get());
+			deletedInBatch = deletedElements.applyAsInt(summary.counters());
+			total += deletedInBatch;
+		} while (deletedInBatch >= batchSize);
+		return total;
+	}
+
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, String cypherStatement) {
 		return createExecutableQuery(domainType, cypherStatement, Collections.emptyMap());
 	}
@@ -472,9 +760,20 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 				return;
 			}
 
+			// relationships to the very same related values as when the parent has been loaded are not written again
+			boolean relationshipsUnchanged = !isParentObjectNew
+					&& hasUnchangedRelatedValues(parentObject, relationshipContext, relatedValuesToStore);
+			if (relationshipsUnchanged && relationshipContext.inverseValueIsEmpty()) {
+				return;
+			}
+
+			// only delete the relationships to nodes that are not related anymore after the relationships have been merged
+			boolean synchronizeByDifference = !isParentObjectNew && !relationshipsUnchanged
+					&& canSynchronizeRelationshipsByDifference(relationshipDescription);
+
 			// remove all relationships before creating all new if the entity is not new
 			// this avoids the usage of cache but might have significant impact on overall performance
-			if (!isParentObjectNew) {
+			if (!isParentObjectNew && !synchronizeByDifference && !relationshipsUnchanged) {
 
 				List<Long> knownRelationshipsIds = new ArrayList<>();
 				if (idProperty != null) {
@@ -490,9 +789,11 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 					}
 				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription);
+				String relationshipRemoveQuery = statementCache.render(StatementCache.Kind.DELETE_RELATIONSHIPS,
+						() -> cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription),
+						sourceEntity, relationshipDescription);
 
-				neo4jClient.query(renderer.render(relationshipRemoveQuery)).in(inDatabase)
+				neo4jClient.query(relationshipRemoveQuery).in(inDatabase)
 						.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
 							.to(Constants.FROM_ID_PARAMETER_NAME) //
 						.bind(knownRelationshipsIds) //
@@ -502,11 +803,27 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 			// nothing to do because there is nothing to map
 			if (relationshipContext.inverseValueIsEmpty()) {
+				if (synchronizeByDifference) {
+					deleteObsoleteRelationships(sourceEntity, fromId, relationshipDescription, Collections.emptyList(),
+							inDatabase);
+				}
 				return;
 			}
 
 			stateMachine.markAsProcessed(relationshipDescription, relatedValuesToStore);
 
+			if (!relationshipsUnchanged
+				&& neo4jMappingContext.canBatchRelatedValues(relationshipContext, relatedValuesToStore)) {
+				List<Long> relatedInternalIds = processRelatedValuesInBatch(sourceEntity, fromId, relationshipContext,
+						relatedValuesToStore, idProperty, processState, inDatabase, stateMachine);
+				if (synchronizeByDifference) {
+					deleteObsoleteRelationships(sourceEntity, fromId, relationshipDescription, relatedInternalIds,
+							inDatabase);
+				}
+				return;
+			}
+
+			List<Long> relatedInternalIds = new ArrayList<>(relatedValuesToStore.size());
 			for (Object relatedValueToStore : relatedValuesToStore) {
 
 				// here a map entry is not always anymore a dynamic association
@@ -517,24 +834,29 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 				relatedNode = eventSupport.maybeCallBeforeBind(relatedNode);
 
-				Long relatedInternalId = saveRelatedNode(relatedNode, relationshipContext.getAssociationTargetType(),
-						targetEntity, inDatabase);
-
-				CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatement(
-						sourceEntity, relationshipContext, relatedValueToStore);
-
-				Optional<Long> relationshipInternalId = neo4jClient.query(renderer.render(statementHolder.getStatement())).in(inDatabase)
-						.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
-							.to(Constants.FROM_ID_PARAMETER_NAME)
-						.bind(relatedInternalId) //
-							.to(Constants.TO_ID_PARAMETER_NAME) //
-						.bindAll(statementHolder.getProperties())
-						.fetchAs(Long.class).one();
-
-				if (idProperty != null) {
-					relationshipContext
-							.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
-							.setProperty(idProperty, relationshipInternalId.get());
+				Long relatedInternalId = saveRelatedNode(relatedNode, targetEntity, isEntityNew, inDatabase);
+				relatedInternalIds.add(relatedInternalId);
+
+				if (!relationshipsUnchanged) {
+					CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatement(
+							sourceEntity, relationshipContext, relatedValueToStore);
+
+					String relationshipCreationQuery = statementCache.render(StatementCache.Kind.SAVE_RELATIONSHIP,
+							statementHolder::getStatement, sourceEntity, relationshipDescription,
+							relationshipContext.hasRelationshipWithProperties(), statementHolder.getDynamicRelationshipType());
+					Optional<Long> relationshipInternalId = neo4jClient.query(relationshipCreationQuery).in(inDatabase)
+							.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
+								.to(Constants.FROM_ID_PARAMETER_NAME)
+							.bind(relatedInternalId) //
+								.to(Constants.TO_ID_PARAMETER_NAME) //
+							.bindAll(statementHolder.getProperties())
+							.fetchAs(Long.class).one();
+
+					if (idProperty != null) {
+						relationshipContext
+								.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
+								.setProperty(idProperty, relationshipInternalId.get());
+					}
 				}
 
 				PersistentPropertyAccessor<?> targetPropertyAccessor = targetEntity.getPropertyAccessor(relatedNode);
@@ -547,34 +869,312 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 				}
 			}
 
-
+			if (synchronizeByDifference) {
+				deleteObsoleteRelationships(sourceEntity, fromId, relationshipDescription, relatedInternalIds, inDatabase);
+			}
 		});
 
 		return (T) propertyAccessor.getBean();
 	}
 
-	private <Y> Long saveRelatedNode(Object entity, Class<Y> entityType, NodeDescription targetNodeDescription,
+	/**
+	 * Checks whether a relationship with a static type and without properties refers to the very same related values as
+	 * when the parent has been loaded with change tracking enabled. If not, the snapshot of the related values is
+	 * forgotten, as the relationships are going to be written.
+	 */
+	private boolean hasUnchangedRelatedValues(Object parentObject, NestedRelationshipContext relationshipContext,
+			Collection<?> relatedValuesToStore) {
+
+		EntitySnapshots entitySnapshots = neo4jMappingContext.getEntitySnapshots();
+		if (entitySnapshots == null) {
+			return false;
+		}
+
+		RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+		String fieldName = relationshipContext.getInverse().getName();
+		if (!relationshipDescription.isDynamic() && !relationshipDescription.hasRelationshipProperties()
+			&& entitySnapshots.containsRelatedValues(parentObject, fieldName, relatedValuesToStore)) {
+			return true;
+		}
+		entitySnapshots.forgetRelatedValues(parentObject, fieldName);
+		return false;
+	}
+
+	/**
+	 * Relationships with a dynamic type or with properties are always deleted and recreated, as neither the type nor the
+	 * properties are part of the merge.
+	 */
+	private boolean canSynchronizeRelationshipsByDifference(RelationshipDescription relationshipDescription) {
+		return synchronizeRelationshipsByDifference && !relationshipDescription.isDynamic()
+				&& !relationshipDescription.hasRelationshipProperties();
+	}
+
+	private void deleteObsoleteRelationships(Neo4jPersistentEntity<?> sourceEntity, Object fromId,
+			RelationshipDescription relationshipDescription, List<Long> relatedInternalIds, @Nullable String inDatabase) {
+
+		String relationshipRemoveQuery = statementCache.render(StatementCache.Kind.DELETE_OBSOLETE_RELATIONSHIPS,
+				() -> cypherGenerator.prepareDeleteOfObsoleteRelationships(sourceEntity, relationshipDescription),
+				sourceEntity, relationshipDescription);
+
+		neo4jClient.query(relationshipRemoveQuery).in(inDatabase)
+				.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
+					.to(Constants.FROM_ID_PARAMETER_NAME) //
+				.bind(relatedInternalIds) //
+					.to(Constants.NAME_OF_KNOWN_RELATED_NODES_PARAM) //
+				.run();
+	}
+
+	/**
+	 * Stores all related values of one relationship with one statement per target entity for the related nodes and
+	 * one statement for all relationships, instead of two statements per related value.
+	 *
+	 * @return The internal ids of the related nodes
+	 */
+	private List<Long> processRelatedValuesInBatch(Neo4jPersistentEntity<?> sourceEntity, Object fromId,
+			NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore,
+			@Nullable Neo4jPersistentProperty idProperty, ProcessState processState, @Nullable String inDatabase,
+			NestedRelationshipProcessingStateMachine stateMachine) {
+
+		List<Object> relatedValues = new ArrayList<>(relatedValuesToStore);
+		List<Object> relatedNodes = new ArrayList<>(relatedValues.size());
+		List<Neo4jPersistentEntity<?>> targetEntities = new ArrayList<>(relatedValues.size());
+		List<Boolean> isNewIndicator = new ArrayList<>(relatedValues.size());
+		Map<Neo4jPersistentEntity<?>, List<Integer>> positionsByTargetEntity = new LinkedHashMap<>();
+
+		for (Object relatedValueToStore : relatedValues) {
+			Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+			Neo4jPersistentEntity<?> targetEntity = neo4jMappingContext.getPersistentEntity(relatedNode.getClass());
+
+			isNewIndicator.add(targetEntity.isNew(relatedNode));
+			positionsByTargetEntity.computeIfAbsent(targetEntity, k -> new ArrayList<>()).add(relatedNodes.size());
+			targetEntities.add(targetEntity);
+			relatedNodes.add(eventSupport.maybeCallBeforeBind(relatedNode));
+		}
+
+		Long[] relatedInternalIds = new Long[relatedNodes.size()];
+		positionsByTargetEntity.forEach((targetEntity, positions) -> {
+
+			Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+					.getRequiredBinderFunctionFor((Class<Object>) targetEntity.getType());
+			List<Map<String, Object>> entityList = new ArrayList<>(positions.size());
+			for (Integer position : positions) {
+				Map<String, Object> parameters = binderFunction.apply(relatedNodes.get(position));
+				reduceToChangedProperties(relatedNodes.get(position), isNewIndicator.get(position), parameters);
+				entityList.add(parameters);
+			}
+
+			List<Long> internalIds = neo4jClient
+					.query(() -> statementCache.render(StatementCache.Kind.SAVE_ALL_RELATED,
+							() -> cypherGenerator.prepareSaveOfMultipleRelatedInstancesOf(targetEntity), targetEntity))
+					.in(inDatabase)
+					.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+					.fetch().one()
+					.map(record -> (List<Long>) record.get(Constants.NAME_OF_IDS))
+					.orElseGet(Collections::emptyList);
+
+			for (int i = 0; i < positions.size(); ++i) {
+				relatedInternalIds[positions.get(i)] = internalIds.get(i);
+			}
+		});
+
+		List<Map<String, Object>> relationshipList = new ArrayList<>(relatedValues.size());
+		for (int i = 0; i < relatedValues.size(); ++i) {
+			relationshipList.add(neo4jMappingContext.createRelationshipRow(relationshipContext, relatedValues.get(i),
+					relatedInternalIds[i]));
+		}
+
+		RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+		String relationshipCreationQuery = statementCache.render(StatementCache.Kind.SAVE_ALL_RELATIONSHIPS,
+				() -> cypherGenerator.prepareSaveOfMultipleRelationships(sourceEntity, relationshipDescription, null),
+				sourceEntity, relationshipDescription, relationshipDescription.hasRelationshipProperties());
+		List<Long> relationshipInternalIds = neo4jClient.query(relationshipCreationQuery).in(inDatabase)
+				.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
+					.to(Constants.FROM_ID_PARAMETER_NAME)
+				.bind(relationshipList) //
+					.to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+				.fetch().one()
+				.map(record -> (List<Long>) record.get(Constants.NAME_OF_IDS))
+				.orElseGet(Collections::emptyList);
+
+		for (int i = 0; i < relatedValues.size(); ++i) {
+
+			if (idProperty != null) {
+				relationshipContext
+						.getRelationshipPropertiesPropertyAccessor(relatedValues.get(i))
+						.setProperty(idProperty, relationshipInternalIds.get(i));
+			}
+
+			if (processState != ProcessState.PROCESSED_ALL_VALUES) {
+				processNestedRelations(targetEntities.get(i), relatedNodes.get(i), isNewIndicator.get(i), inDatabase,
+						stateMachine);
+			}
+		}
+		return Arrays.asList(relatedInternalIds);
+	}
+
+	private Long saveRelatedNode(Object entity, Neo4jPersistentEntity<?> targetEntity, boolean isEntityNew,
 			@Nullable String inDatabase) {
 
-		DynamicLabels dynamicLabels = determineDynamicLabels(entity, (Neo4jPersistentEntity) targetNodeDescription,
-				inDatabase);
-		Optional<Long> optionalSavedNodeId = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels)))
-				.in(inDatabase).bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
-				.fetchAs(Long.class).one();
+		DynamicLabels dynamicLabels = determineDynamicLabels(entity, targetEntity, inDatabase);
+		Optional<Long> optionalSavedNodeId = saveNode(entity, targetEntity, isEntityNew, dynamicLabels, inDatabase);
 
-		if (((Neo4jPersistentEntity) targetNodeDescription).hasVersionProperty() && !optionalSavedNodeId.isPresent()) {
+		if (targetEntity.hasVersionProperty() && !optionalSavedNodeId.isPresent()) {
 			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
 		}
 
 		return optionalSavedNodeId.get();
 	}
 
+	/**
+	 * Saves a single node. Nodes of entities that have been loaded with change tracking enabled are only written if
+	 * something changed and then only with the changed properties.
+	 *
+	 * @return The internal id of the saved node, empty if an entity with the required version does not exist
+	 */
+	private Optional<Long> saveNode(Object entity, Neo4jPersistentEntity<?> entityMetaData, boolean isEntityNew,
+			DynamicLabels dynamicLabels, @Nullable String inDatabase) {
+
+		Map<String, Object> parameters = neo4jMappingContext
+				.getRequiredBinderFunctionFor((Class<Object>) entity.getClass()).apply(entity);
+		if (!reduceToChangedProperties(entity, isEntityNew, parameters)
+			&& !entityMetaData.getDynamicLabelsProperty().isPresent()) {
+			return Optional.ofNullable(neo4jMappingContext.getEntitySnapshots().getInternalId(entity));
+		}
+
+		return neo4jClient
+				.query(() -> statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE,
+						() -> cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels), entityMetaData, dynamicLabels))
+				.in(inDatabase)
+				.bindAll(parameters)
+				.fetchAs(Long.class).one();
+	}
+
+	/**
+	 * Reduces the properties of an entity that has been loaded with change tracking enabled to the properties that
+	 * changed since. The snapshot of the properties is forgotten as soon as they are going to be written.
+	 *
+	 * @param entity The entity to be saved
+	 * @param isEntityNew Whether the entity is new
+	 * @param parameters The parameters of the entity as created by its binder function
+	 * @return {@literal false} if the properties didn't change and the node needs not to be written
+	 */
+	private boolean reduceToChangedProperties(Object entity, boolean isEntityNew, Map<String, Object> parameters) {
+
+		EntitySnapshots entitySnapshots = neo4jMappingContext.getEntitySnapshots();
+		if (entitySnapshots == null) {
+			return true;
+		}
+
+		Map<String, Object> changedProperties = isEntityNew ? null : entitySnapshots
+				.getChangedProperties(entity, (Map<String, Object>) parameters.get(Constants.NAME_OF_PROPERTIES_PARAM));
+		if (changedProperties != null) {
+			parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, changedProperties);
+			if (changedProperties.isEmpty()) {
+				return false;
+			}
+		}
+		entitySnapshots.forgetProperties(entity);
+		return true;
+	}
+
 	private String getDatabaseName() {
 
 		return this.databaseSelectionProvider.getDatabaseSelection().getValue();
 	}
 
+	/**
+	 * Limits the number of hops that are traversed from a root node when loading domain objects that contain possible
+	 * cycles. Relationships and nodes further away than this limit are not loaded and a warning is logged. Saving such a
+	 * partially loaded aggregate deletes the relationships that have not been loaded. The reachable graph is collected
+	 * with one statement per hop, by default without a limit.
+	 *
+	 * @param maxTraversalDepth The maximum number of hops
+	 * @since 6.1
+	 */
+	public void setMaxTraversalDepth(int maxTraversalDepth) {
+
+		Assert.isTrue(maxTraversalDepth >= 0, "The maximum traversal depth must not be negative");
+		this.maxTraversalDepth = maxTraversalDepth;
+	}
+
+	/**
+	 * Configures how the relationships of entities that are not new are synchronized on save. By default, all
+	 * relationships are deleted and recreated. When enabled, relationships are merged and only the relationships to
+	 * nodes that are not related anymore are deleted afterwards, so unchanged relationships are not written at all. This
+	 * applies only to relationships with a static type and without properties.
+	 *
+	 * @param synchronizeRelationshipsByDifference True to only write the differences of relationships
+	 * @since 6.1
+	 */
+	public void setSynchronizeRelationshipsByDifference(boolean synchronizeRelationshipsByDifference) {
+		this.synchronizeRelationshipsByDifference = synchronizeRelationshipsByDifference;
+	}
+
+	/**
+	 * Configures whether queries that only read, i.e. the queries this template generates for counting and finding
+	 * entities as well as derived finder queries, are run in sessions with {@link org.neo4j.driver.AccessMode#READ} when
+	 * no transaction is ongoing. A cluster can then route them to followers or read replicas. This is disabled by
+	 * default: Those sessions don't know the bookmarks of earlier writes outside a transaction, so reads might not see
+	 * them. Custom Cypher is never routed for reading.
+	 *
+	 * @param routeReadOnlyQueries True to route read-only queries outside transactions to readers
+	 * @since 6.1
+	 */
+	public void setRouteReadOnlyQueries(boolean routeReadOnlyQueries) {
+		this.routeReadOnlyQueries = routeReadOnlyQueries;
+	}
+
+	/**
+	 * Configures whether the count query of a page is started on a separate thread before the query for the content.
+	 * This happens only without a transaction or in a read-only transaction. Disabled by default.
+	 *
+	 * @param concurrentCount True to count concurrently
+	 * @since 6.1
+	 */
+	public void setConcurrentCount(boolean concurrentCount) {
+		this.totalCountSupport.setConcurrentCount(concurrentCount);
+	}
+
+	/**
+	 * Configures for how long the totals of pages are cached, per database, query and parameters. This is only suitable
+	 * for datasets that don't change often. Disabled by default.
+	 *
+	 * @param countTtl The time to live of cached totals, {@link Duration#ZERO} disables caching
+	 * @since 6.1
+	 */
+	public void setCountTtl(Duration countTtl) {
+		this.totalCountSupport.setCountTtl(countTtl);
+	}
+
+	/**
+	 * Configures the executor running concurrent count queries. The default executor is bounded by the number of
+	 * processors; counts rejected by an executor run on the calling thread.
+	 *
+	 * @param countExecutor The executor running concurrent count queries
+	 * @since 6.1
+	 */
+	public void setCountExecutor(Executor countExecutor) {
+		this.totalCountSupport.setExecutor(countExecutor);
+	}
+
+	/**
+	 * Configures the decorator applied to concurrent count queries. It must propagate thread bound state the count
+	 * depends on, for example the state read by a thread bound {@link DatabaseSelectionProvider}.
+	 *
+	 * @param countTaskDecorator The decorator applied to concurrent count queries
+	 * @since 6.1
+	 */
+	public void setCountTaskDecorator(TaskDecorator countTaskDecorator) {
+		this.totalCountSupport.setTaskDecorator(countTaskDecorator);
+	}
+
+	@Override
+	public LongSupplier prepareTotal(Object key, LongSupplier countQuery) {
+
+		// The same query has different totals in different databases
+		return this.totalCountSupport.prepareTotal(Arrays.asList(getDatabaseName(), key), countQuery);
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
@@ -591,13 +1191,79 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType,
 														 QueryFragmentsAndParameters queryFragmentsAndParameters) {
 
-		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
+		PreparedQuery.OptionalBuildSteps<T> preparedQuery = PreparedQuery.queryFor(domainType)
 				.withQueryFragmentsAndParameters(queryFragmentsAndParameters)
+				.usingMappingFunction(neo4jMappingContext.getRequiredMappingFunctionFor(domainType));
+		// Only the fragments generated for finding entities are known to be read-only, custom Cypher might write
+		if (queryFragmentsAndParameters.getCypherQuery() == null) {
+			preparedQuery.readOnly();
+		}
+		return toExecutableQuery(preparedQuery.build());
+	}
+
+	/**
+	 * Creates a read-only query from fragments that only depend on the entity, so that the statement is only built
+	 * and rendered once per entity. Domains with possible cycles are loaded with several statements, which are not cached.
+	 */
+	private <T> ExecutableQuery<T> createCachedExecutableQuery(Class<T> domainType, StatementCache.Kind kind,
+			Function<Neo4jPersistentEntity<?>, QueryFragmentsAndParameters> queryFragmentsAndParameters,
+			Map<String, Object> parameters) {
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		if (entityMetaData.containsPossibleCircles(Collections.emptyList())) {
+			return createExecutableQuery(domainType, new QueryFragmentsAndParameters(entityMetaData,
+					queryFragmentsAndParameters.apply(entityMetaData).getQueryFragments(), parameters));
+		}
+
+		String cypherQuery = statementCache.render(kind,
+				() -> queryFragmentsAndParameters.apply(entityMetaData).getQueryFragments().toStatement(),
+				entityMetaData);
+
+		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
+				.withCypherQuery(cypherQuery)
+				.withParameters(parameters)
 				.usingMappingFunction(neo4jMappingContext.getRequiredMappingFunctionFor(domainType))
+				.readOnly()
 				.build();
 		return toExecutableQuery(preparedQuery);
 	}
 
+	/**
+	 * Collects the ids of the root nodes matching the query fragments and of all nodes and relationships reachable from
+	 * them, one statement per hop.
+	 */
+	@SuppressWarnings("unchecked")
+	private GenericQueryAndParameters createQueryAndParameters(Neo4jPersistentEntity<?> entityMetaData,
+			QueryFragmentsAndParameters.QueryFragments queryFragments, Map<String, Object> parameters,
+			List<String> includedProperties) {
+
+		Statement rootNodesStatement = cypherGenerator
+				.prepareMatchOf(entityMetaData, queryFragments.getMatchOn(), queryFragments.getCondition())
+				.returning(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).build();
+
+		Collection<Long> rootNodeIds = (Collection<Long>) neo4jClient.query(renderer.render(rootNodesStatement))
+				.in(getDatabaseName())
+				.bindAll(parameters)
+				.fetch()
+				.one()
+				.map(values -> values.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE))
+				.orElseGet(Collections::emptyList);
+		if (rootNodeIds.isEmpty()) {
+			return GenericQueryAndParameters.EMPTY;
+		}
+
+		ReachableGraphCollector collector = new ReachableGraphCollector(entityMetaData, rootNodeIds,
+				includedProperties, maxTraversalDepth);
+		while (collector.hasNextLevel()) {
+			collector.addLevel(neo4jClient.query(renderer.render(collector.getStatementOfNextLevel()))
+					.in(getDatabaseName())
+					.bindAll(collector.getParametersOfNextLevel())
+					.fetch()
+					.all());
+		}
+		return collector.getQueryAndParameters();
+	}
+
 	@Override
 	public <T> ExecutableQuery<T> toExecutableQuery(PreparedQuery<T> preparedQuery) {
 
@@ -643,6 +1309,18 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			return one.orElseThrow(() -> new NoResultException(1, preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
 		}
 
+		@SuppressWarnings("unchecked")
+		public Stream<T> getResultStream() {
+			Stream<T> all = createFetchSpec().map(Neo4jClient.RecordFetchSpec::stream).orElseGet(Stream::empty);
+			// Whether results have been aggregated is only known after the first record has been mapped, so the
+			// check has to happen per element. Aggregated results are already distinct per record and are not made
+			// distinct across records, as that would require keeping every streamed result in memory.
+			return all
+					.flatMap(result -> preparedQuery.resultsHaveBeenAggregated()
+							? ((Collection<T>) result).stream()
+							: Stream.of(result));
+		}
+
 		private Optional<Neo4jClient.RecordFetchSpec<T>> createFetchSpec() {
 			QueryFragmentsAndParameters queryFragmentsAndParameters = preparedQuery.getQueryFragmentsAndParameters();
 			String cypherQuery = queryFragmentsAndParameters.getCypherQuery();
@@ -658,11 +1336,10 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 							: Collections.emptyList());
 			if (cypherQuery == null || containsPossibleCircles) {
 
-				Map<String, Object> parameters = queryFragmentsAndParameters.getParameters();
-
 				if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
-					GenericQueryAndParameters genericQueryAndParameters =
-							createQueryAndParameters(entityMetaData, queryFragments, parameters);
+					GenericQueryAndParameters genericQueryAndParameters = createQueryAndParameters(entityMetaData,
+							queryFragments, finalParameters,
+							returnTuple != null ? returnTuple.getIncludedProperties() : Collections.emptyList());
 
 					if (genericQueryAndParameters.isEmpty()) {
 						return Optional.empty();
@@ -672,103 +1349,17 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 				} else {
 					cypherQuery = renderer.render(queryFragments.toStatement());
 				}
-
 			}
 
-			Neo4jClient.MappingSpec<T> newMappingSpec = neo4jClient.query(cypherQuery)
-					.in(getDatabaseName()).bindAll(finalParameters).fetchAs(preparedQuery.getResultType());
+			Neo4jClient.RunnableSpecTightToDatabase runnableSpec = neo4jClient.query(cypherQuery).in(getDatabaseName());
+			if (routeReadOnlyQueries && preparedQuery.isReadOnly()) {
+				runnableSpec = runnableSpec.readOnly();
+			}
+			Neo4jClient.MappingSpec<T> newMappingSpec = runnableSpec.bindAll(finalParameters)
+					.fetchAs(preparedQuery.getResultType());
 			return Optional.of(preparedQuery.getOptionalMappingFunction()
 					.map(f -> newMappingSpec.mappedBy(f)).orElse(newMappingSpec));
 		}
-
-		private GenericQueryAndParameters createQueryAndParameters(Neo4jPersistentEntity<?> entityMetaData,
-						   QueryFragmentsAndParameters.QueryFragments queryFragments, Map<String, Object> parameters) {
-
-			// first check if the root node(s) exist(s) at all
-			Statement rootNodesStatement = cypherGenerator
-					.prepareMatchOf(entityMetaData, queryFragments.getMatchOn(), queryFragments.getCondition())
-					.returning(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).build();
-
-			final Collection<Long> rootNodeIds = new HashSet<>((Collection<Long>) neo4jClient
-					.query(renderer.render(rootNodesStatement)).in(getDatabaseName())
-					.bindAll(parameters)
-					.fetch()
-					.one()
-					.map(values -> values.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE))
-					.get());
-
-			if (rootNodeIds.isEmpty()) {
-				// fast return if no matching root node(s) are found
-				return GenericQueryAndParameters.EMPTY;
-			}
-			// load first level relationships
-			final Set<Long> relationshipIds = new HashSet<>();
-			final Set<Long> relatedNodeIds = new HashSet<>();
-
-			for (RelationshipDescription relationshipDescription : entityMetaData.getRelationships()) {
-				if (queryFragments.getReturnTuple() != null
-						&& !queryFragments.getReturnTuple().getIncludedProperties().isEmpty()
-						&& queryFragments.getReturnTuple().getIncludedProperties().contains(relationshipDescription.getFieldName())) {
-					continue;
-				}
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(entityMetaData, relationshipDescription, queryFragments.getMatchOn(), queryFragments.getCondition())
-						.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-
-				neo4jClient.query(renderer.render(statement)).in(getDatabaseName())
-						.bindAll(parameters)
-						.fetch()
-						.one()
-						.ifPresent(iterateAndMapNextLevel(relationshipIds, relatedNodeIds, relationshipDescription));
-			}
-
-			return new GenericQueryAndParameters(rootNodeIds, relationshipIds, relatedNodeIds);
-		}
-
-		private void iterateNextLevel(Collection<Long> nodeIds, Neo4jPersistentEntity<?> target, Set<Long> relationshipIds,
-									  Set<Long> relatedNodeIds) {
-
-			Collection<RelationshipDescription> relationships = target.getRelationships();
-			for (RelationshipDescription relationshipDescription : relationships) {
-
-				Node node = anyNode(Constants.NAME_OF_ROOT_NODE);
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(target, relationshipDescription, null,
-								Functions.id(node).in(Cypher.parameter(Constants.NAME_OF_IDS)))
-						.returning(cypherGenerator.createGenericReturnStatement()).build();
-
-				neo4jClient.query(renderer.render(statement)).in(getDatabaseName())
-						.bindAll(Collections.singletonMap(Constants.NAME_OF_IDS, nodeIds))
-						.fetch()
-						.one()
-						.ifPresent(iterateAndMapNextLevel(relationshipIds, relatedNodeIds, relationshipDescription));
-			}
-		}
-
-		@NonNull
-		private Consumer<Map<String, Object>> iterateAndMapNextLevel(Set<Long> relationshipIds,
-																	 Set<Long> relatedNodeIds, RelationshipDescription relationshipDescription) {
-
-			return record -> {
-				List<Long> newRelationshipIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
-				relationshipIds.addAll(newRelationshipIds);
-
-				List<Long> newRelatedNodeIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
-
-				Set<Long> relatedIds = new HashSet<>(newRelatedNodeIds);
-				// use this list to get down the road
-				// 1. remove already visited ones;
-				relatedIds.removeAll(relatedNodeIds);
-				relatedNodeIds.addAll(relatedIds);
-				// 2. for the rest start the exploration
-				if (!relatedIds.isEmpty()) {
-					iterateNextLevel(relatedIds, (Neo4jPersistentEntity<?>) relationshipDescription.getTarget(),
-							relationshipIds, relatedNodeIds);
-				}
-			};
-		}
 	}
 
 }
@@ -65,6 +65,7 @@ public final class PreparedQuery<T> {
 	private final Class<T> resultType;
 	private final QueryFragmentsAndParameters queryFragmentsAndParameters;
 	private final @Nullable BiFunction<TypeSystem, Record, T> mappingFunction;
+	private final boolean readOnly;
 
 	private PreparedQuery(OptionalBuildSteps<T> optionalBuildSteps) {
 		this.resultType = optionalBuildSteps.resultType;
@@ -75,6 +76,7 @@ public final class PreparedQuery<T> {
 					optionalBuildSteps.mappingFunction);
 		}
 		this.queryFragmentsAndParameters = optionalBuildSteps.queryFragmentsAndParameters;
+		this.readOnly = optionalBuildSteps.readOnly;
 	}
 
 	public Class<T> getResultType() {
@@ -93,6 +95,14 @@ public final class PreparedQuery<T> {
 		return this.queryFragmentsAndParameters;
 	}
 
+	/**
+	 * @return True if this query has been marked as read-only and can be run with read access.
+	 * @since 6.1
+	 */
+	public boolean isReadOnly() {
+		return this.readOnly;
+	}
+
 	/**
 	 * @param <CT> The concrete type of this build step.
 	 * @since 6.0
@@ -122,6 +132,7 @@ public final class PreparedQuery<T> {
 		final Class<CT> resultType;
 		final QueryFragmentsAndParameters queryFragmentsAndParameters;
 		@Nullable BiFunction<TypeSystem, MapAccessor, ?> mappingFunction;
+		boolean readOnly;
 
 		OptionalBuildSteps(Class<CT> resultType, QueryFragmentsAndParameters queryFragmentsAndParameters) {
 			this.resultType = resultType;
@@ -145,6 +156,18 @@ public final class PreparedQuery<T> {
 			return this;
 		}
 
+		/**
+		 * Marks the query as read-only. Read-only queries that are not part of an ongoing transaction can be routed to
+		 * followers or read replicas. Don't use this for queries that write.
+		 *
+		 * @return This builder.
+		 * @since 6.1
+		 */
+		public OptionalBuildSteps<CT> readOnly() {
+			this.readOnly = true;
+			return this;
+		}
+
 		public PreparedQuery<CT> build() {
 			return new PreparedQuery<>(this);
 		}
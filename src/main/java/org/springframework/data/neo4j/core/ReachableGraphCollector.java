@@ -0,0 +1,165 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.cypherdsl.core.Statement;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+
+/**
+ * Collects the internal ids of the nodes and relationships reachable from a set of root nodes through the relationships
+ * of the domain model. The graph is expanded breadth first with one statement per level: All nodes reached on one level
+ * are expanded together through the relationships of their node description, following each relationship only in its
+ * direction and only to nodes with the labels of its target. A node is expanded at most once per node description, so
+ * cycles end the expansion instead of repeating it. Instances are not thread-safe and are meant to be used for one
+ * query.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class ReachableGraphCollector {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(ReachableGraphCollector.class));
+
+	/**
+	 * The number of levels expanded by default, which is the whole reachable graph.
+	 */
+	static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+
+	private final int maxDepth;
+
+	private final Collection<Long> rootNodeIds;
+
+	private final Set<Long> relationshipIds = new HashSet<>();
+
+	private final Set<Long> relatedNodeIds = new HashSet<>();
+
+	private final Map<NodeDescription<?>, Set<Long>> expandedNodeIds = new HashMap<>();
+
+	private List<RelationshipDescription> relationshipsOfNextLevel = new ArrayList<>();
+
+	private List<Collection<Long>> startNodeIdsOfNextLevel = new ArrayList<>();
+
+	private int depth;
+
+	/**
+	 * @param rootNodeDescription The node description of the root nodes
+	 * @param rootNodeIds The internal ids of the root nodes
+	 * @param includedProperties The properties of the root nodes to include, an empty list includes all relationships
+	 * @param maxDepth The maximum number of levels to expand
+	 */
+	ReachableGraphCollector(NodeDescription<?> rootNodeDescription, Collection<Long> rootNodeIds,
+			List<String> includedProperties, int maxDepth) {
+
+		this.maxDepth = maxDepth;
+		this.rootNodeIds = rootNodeIds;
+
+		this.expandedNodeIds.put(rootNodeDescription, new HashSet<>(rootNodeIds));
+		for (RelationshipDescription relationshipDescription : rootNodeDescription
+				.getRelationshipsInHierarchy(includedProperties)) {
+			this.relationshipsOfNextLevel.add(relationshipDescription);
+			this.startNodeIdsOfNextLevel.add(rootNodeIds);
+		}
+	}
+
+	boolean hasNextLevel() {
+
+		if (relationshipsOfNextLevel.isEmpty()) {
+			return false;
+		}
+		if (depth >= maxDepth) {
+			log.warn(() -> String.format(
+					"The maximum traversal depth of %d has been reached, relationships of nodes further away are not loaded",
+					maxDepth));
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return The statement expanding the next level
+	 */
+	Statement getStatementOfNextLevel() {
+		return CypherGenerator.INSTANCE.prepareExpansionOf(relationshipsOfNextLevel);
+	}
+
+	/**
+	 * @return The parameters of the statement expanding the next level
+	 */
+	Map<String, Object> getParametersOfNextLevel() {
+
+		Map<String, Object> parameters = new HashMap<>(startNodeIdsOfNextLevel.size());
+		for (int i = 0; i < startNodeIdsOfNextLevel.size(); ++i) {
+			parameters.put(CypherGenerator.nameOfStartNodeIdsParameter(i), startNodeIdsOfNextLevel.get(i));
+		}
+		return parameters;
+	}
+
+	/**
+	 * Adds the result of the statement expanding the next level and prepares the level after that.
+	 *
+	 * @param records The records returned by {@link #getStatementOfNextLevel()}
+	 */
+	@SuppressWarnings("unchecked")
+	void addLevel(Collection<Map<String, Object>> records) {
+
+		Map<NodeDescription<?>, Set<Long>> newNodeIds = new LinkedHashMap<>();
+		for (Map<String, Object> record : records) {
+			int index = ((Number) record.get(Constants.NAME_OF_EXPANDED_RELATIONSHIP)).intValue();
+			NodeDescription<?> target = relationshipsOfNextLevel.get(index).getTarget();
+
+			relationshipIds.addAll((Collection<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS));
+			Collection<Long> nodeIds = (Collection<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
+			relatedNodeIds.addAll(nodeIds);
+
+			Set<Long> expanded = expandedNodeIds.computeIfAbsent(target, k -> new HashSet<>());
+			for (Long nodeId : nodeIds) {
+				if (expanded.add(nodeId)) {
+					newNodeIds.computeIfAbsent(target, k -> new HashSet<>()).add(nodeId);
+				}
+			}
+		}
+
+		relationshipsOfNextLevel = new ArrayList<>();
+		startNodeIdsOfNextLevel = new ArrayList<>();
+		newNodeIds.forEach((nodeDescription, startNodeIds) -> {
+			for (RelationshipDescription relationshipDescription : nodeDescription
+					.getRelationshipsInHierarchy(Collections.emptyList())) {
+				relationshipsOfNextLevel.add(relationshipDescription);
+				startNodeIdsOfNextLevel.add(startNodeIds);
+			}
+		});
+		++depth;
+	}
+
+	GenericQueryAndParameters getQueryAndParameters() {
+		return new GenericQueryAndParameters(rootNodeIds, relationshipIds, relatedNodeIds);
+	}
+}
@@ -20,6 +20,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -122,6 +123,18 @@ public interface ReactiveNeo4jClient {
 		 * @return All records.
 		 */
 		Flux<T> all();
+
+		/**
+		 * Fetches all records and passes the summary of the result to the given consumer, for example to determine the
+		 * number of nodes created by a statement returning records. The default implementation doesn't provide a summary.
+		 *
+		 * @param summaryConsumer Receives the summary of the result after all records have been fetched
+		 * @return All records.
+		 * @since 6.1
+		 */
+		default Flux<T> all(Consumer<ResultSummary> summaryConsumer) {
+			return all();
+		}
 	}
 
 	/**
@@ -148,6 +161,20 @@ public interface ReactiveNeo4jClient {
 	 */
 	interface RunnableSpecTightToDatabase extends BindSpec<RunnableSpecTightToDatabase> {
 
+		/**
+		 * Marks this query as read-only. When no transaction is ongoing, read-only queries are run in sessions with
+		 * {@link org.neo4j.driver.AccessMode#READ}, so that a cluster can route them to followers or read replicas. Inside
+		 * an ongoing transaction this hint has no effect. It must not be used for queries that write. Such sessions don't
+		 * know the bookmarks of earlier writes outside a transaction, so the query might not see them. The default
+		 * implementation ignores the hint.
+		 *
+		 * @return A runnable query specification that runs in read-only mode
+		 * @since 6.1
+		 */
+		default RunnableSpecTightToDatabase readOnly() {
+			return this;
+		}
+
 		/**
 		 * Create a mapping for each record return to a specific type.
 		 *
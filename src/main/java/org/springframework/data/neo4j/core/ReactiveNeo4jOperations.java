@@ -17,14 +17,19 @@ package org.springframework.data.neo4j.core;
 
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
+import org.reactivestreams.Publisher;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.util.Assert;
 
 /**
  * Specifies reactive operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -150,6 +155,20 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Mono<T> findOne(String cypherQuery, Map<String, Object> parameters, Class<T> domainType);
 
+	/**
+	 * Checks whether an entity with the given id exists. Neither the entity nor any of its relationships are loaded by
+	 * {@link ReactiveNeo4jTemplate}. The default implementation loads the entity and should be overridden by
+	 * implementations that can check the existence directly.
+	 *
+	 * @param id the id of the entity to check. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @return {@literal true} if an entity with the given id exists
+	 * @since 6.1
+	 */
+	default Mono<Boolean> existsById(Object id, Class<?> domainType) {
+		return findById(id, domainType).hasElement();
+	}
+
 	/**
 	 * Load an entity from the database.
 	 *
@@ -188,6 +207,35 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a potentially very large number of instances in chunks of the given size, including all the related entities
+	 * of each instance. The instances are requested lazily, one chunk at a time, and the saved instances are not emitted,
+	 * so that neither the client nor a single statement needs to hold all of them.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param chunkSize the number of instances saved together. Must be positive.
+	 * @param transactionalOperator if not {@literal null}, each chunk is saved and committed in a transaction of its own.
+	 *                              Otherwise all chunks participate in the ongoing transaction, if any.
+	 * @param <T> the type of the entity.
+	 * @return the progress after each chunk. The default implementation saves each chunk with
+	 *         {@link #saveAll(Iterable)} and doesn't report any counters.
+	 * @since 6.1
+	 */
+	default <T> Flux<SaveAllProgress> saveAllInChunks(Publisher<T> instances, int chunkSize,
+			@Nullable TransactionalOperator transactionalOperator) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be positive.");
+
+		return Flux.from(instances).buffer(chunkSize).concatMap(chunk -> {
+			Flux<T> savedEntities = saveAll(chunk);
+			if (transactionalOperator != null) {
+				savedEntities = transactionalOperator.transactional(savedEntities);
+			}
+			return savedEntities.then(Mono.just(chunk.size()));
+		}, 1).scan(SaveAllProgress.NONE, (progress, entitiesInChunk) -> progress.next(entitiesInChunk,
+				Collections.emptyList())).skip(1);
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -216,6 +264,39 @@ public interface ReactiveNeo4jOperations {
 	 */
 	Mono<Void> deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in batches of bounded size. The relationships of the nodes are deleted first,
+	 * at most {@code batchSize} by each statement, so that nodes with a high degree are detached in slices. The nodes
+	 * are deleted afterwards, again at most {@code batchSize} by each statement. Outside a transaction, each statement
+	 * is committed on its own.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize the maximum number of relationships or nodes deleted by one statement. Must be positive.
+	 * @param transactionalOperator if not {@literal null}, each batch is deleted and committed in a transaction of its
+	 *                              own. Otherwise all batches participate in the ongoing transaction, if any.
+	 * @return a mono completing after the last batch has been deleted
+	 * @since 6.1
+	 */
+	Mono<Void> deleteAllInBatches(Class<?> domainType, int batchSize,
+			@Nullable TransactionalOperator transactionalOperator);
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of bounded size. The ids are split into chunks of
+	 * {@code batchSize} ids, the entities of each chunk are deleted like in
+	 * {@link #deleteAllInBatches(Class, int, TransactionalOperator)}.
+	 *
+	 * @param ids the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param batchSize the maximum number of ids, relationships or nodes handled by one statement. Must be positive.
+	 * @param transactionalOperator if not {@literal null}, each batch is deleted and committed in a transaction of its
+	 *                              own. Otherwise all batches participate in the ongoing transaction, if any.
+	 * @param <T> the type of the entity.
+	 * @return a mono completing after the last batch has been deleted
+	 * @since 6.1
+	 */
+	<T> Mono<Void> deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize,
+			@Nullable TransactionalOperator transactionalOperator);
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
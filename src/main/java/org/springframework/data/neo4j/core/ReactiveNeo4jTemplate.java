@@ -20,10 +20,10 @@ import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.Functions;
-import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
@@ -50,29 +50,32 @@ import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.callback.ReactiveEventSupport;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
 import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
-import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.asterisk;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
@@ -97,10 +100,18 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	private final CypherGenerator cypherGenerator;
 
+	private final StatementCache statementCache = new StatementCache();
+
 	private ReactiveEventSupport eventSupport;
 
 	private final ReactiveDatabaseSelectionProvider databaseSelectionProvider;
 
+	private int maxTraversalDepth = ReachableGraphCollector.DEFAULT_MAX_DEPTH;
+
+	private boolean synchronizeRelationshipsByDifference;
+
+	private boolean routeReadOnlyQueries;
+
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
 			ReactiveDatabaseSelectionProvider databaseSelectionProvider) {
 
@@ -119,9 +130,15 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public Mono<Long> count(Class<?> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData).returning(Functions.count(asterisk())).build();
+		String cypherQuery = statementCache.render(StatementCache.Kind.COUNT,
+				() -> cypherGenerator.prepareMatchOf(entityMetaData).returning(Functions.count(asterisk())).build(),
+				entityMetaData);
 
-		return count(statement);
+		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class).withCypherQuery(cypherQuery)
+				.withParameters(Collections.emptyMap())
+				.readOnly()
+				.build();
+		return this.toExecutableQuery(preparedQuery).flatMap(ExecutableQuery::getSingleResult);
 	}
 
 	@Override
@@ -149,8 +166,8 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	@Override
 	public <T> Flux<T> findAll(Class<T> domainType) {
 
-		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		return createExecutableQuery(domainType, QueryFragmentsAndParameters.forFindAll(entityMetaData))
+		return createCachedExecutableQuery(domainType, StatementCache.Kind.FIND_ALL,
+				QueryFragmentsAndParameters::forFindAll, Collections.emptyMap())
 				.flatMapMany(ExecutableQuery::getResults);
 	}
 
@@ -187,13 +204,32 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		return createExecutableQuery(domainType, cypherQuery, parameters).flatMap(ExecutableQuery::getSingleResult);
 	}
 
+	@Override
+	public Mono<Boolean> existsById(Object id, Class<?> domainType) {
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = statementCache.render(StatementCache.Kind.EXISTS_BY_ID,
+				() -> cypherGenerator.prepareExistenceCheckOf(entityMetaData,
+						entityMetaData.getIdExpression().isEqualTo(parameter(Constants.NAME_OF_ID))),
+				entityMetaData);
+
+		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class).withCypherQuery(cypherQuery)
+				.withParameters(Collections.singletonMap(Constants.NAME_OF_ID,
+						convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
+				.readOnly()
+				.build();
+		return this.toExecutableQuery(preparedQuery).flatMap(ExecutableQuery::getSingleResult)
+				.map(count -> count > 0);
+	}
+
 	@Override
 	public <T> Mono<T> findById(Object id, Class<T> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 
-		return createExecutableQuery(domainType,
-				QueryFragmentsAndParameters.forFindById(entityMetaData,
+		return createCachedExecutableQuery(domainType, StatementCache.Kind.FIND_BY_ID,
+				entity -> QueryFragmentsAndParameters.forFindById(entity, null),
+				Collections.singletonMap(Constants.NAME_OF_ID,
 						convertIdValues(entityMetaData.getRequiredIdProperty(), id)))
 				.flatMap(ExecutableQuery::getSingleResult);
 	}
@@ -203,8 +239,9 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 
-		return createExecutableQuery(domainType,
-						QueryFragmentsAndParameters.forFindByAllId(entityMetaData,
+		return createCachedExecutableQuery(domainType, StatementCache.Kind.FIND_ALL_BY_ID,
+				entity -> QueryFragmentsAndParameters.forFindByAllId(entity, null),
+				Collections.singletonMap(Constants.NAME_OF_IDS,
 						convertIdValues(entityMetaData.getRequiredIdProperty(), ids)))
 				.flatMapMany(ExecutableQuery::getResults);
 	}
@@ -238,9 +275,10 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 					T entity = t.getT1();
 					DynamicLabels dynamicLabels = t.getT2();
 
-					Statement saveStatement = cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels);
-
-					Mono<Long> idMono = this.neo4jClient.query(() -> renderer.render(saveStatement)).in(inDatabase)
+					Mono<Long> idMono = this.neo4jClient.query(() -> statementCache.renderWithDynamicLabels(
+							StatementCache.Kind.SAVE, () -> cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels),
+							entityMetaData, dynamicLabels))
+							.in(inDatabase)
 							.bind(entity).with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entity.getClass()))
 							.fetchAs(Long.class).one().switchIfEmpty(Mono.defer(() -> {
 								if (entityMetaData.hasVersionProperty()) {
@@ -271,7 +309,8 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 			PersistentPropertyAccessor propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			ReactiveNeo4jClient.RunnableSpecTightToDatabase runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> statementCache.render(StatementCache.Kind.DYNAMIC_LABELS,
+							() -> cypherGenerator.createStatementReturningDynamicLabels(entityMetaData), entityMetaData))
 					.in(inDatabase).bind(propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty()))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM);
 
@@ -303,18 +342,43 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 			return Flux.empty();
 		}
 
+		return saveAllImpl(entities, counters -> {
+		});
+	}
+
+	@Override
+	public <T> Flux<SaveAllProgress> saveAllInChunks(Publisher<T> instances, int chunkSize,
+			@Nullable TransactionalOperator transactionalOperator) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be positive.");
+
+		// Request only one chunk at a time, so that no more than one chunk is held in memory
+		return Flux.from(instances).buffer(chunkSize).concatMap(chunk -> {
+			List<SummaryCounters> counters = new ArrayList<>();
+			Flux<T> savedEntities = saveAllImpl(chunk, counters::add);
+			if (transactionalOperator != null) {
+				savedEntities = transactionalOperator.transactional(savedEntities);
+			}
+			return savedEntities.then(Mono.fromSupplier(() -> Tuples.of(chunk.size(), counters)));
+		}, 1).scan(SaveAllProgress.NONE, (progress, savedChunk) -> progress.next(savedChunk.getT1(), savedChunk.getT2()))
+				.skip(1);
+	}
+
+	private <T> Flux<T> saveAllImpl(Collection<T> entities, Consumer<SummaryCounters> countersConsumer) {
+
 		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
 
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
 		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
 				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
-			log.debug("Saving entities using single statements.");
+			log.debug("Saving entities using statements checking each row.");
 
 			return getDatabaseName().flatMapMany(
-					databaseName -> Flux.fromIterable(entities).flatMap(e -> this.saveImpl(e, databaseName.getValue())));
+					databaseName -> saveAllWithChecks(entityMetaData, entities, binderFunction, databaseName.getValue(),
+							countersConsumer));
 		}
 
-		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
 		String isNewIndicatorKey = "isNewIndicator";
 		return getDatabaseName().flatMapMany(databaseName -> Flux.fromIterable(entities)
 				.flatMap(eventSupport::maybeCallBeforeBind).collectList().flatMapMany(entitiesToBeSaved -> Mono.defer(() -> {
@@ -322,7 +386,8 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 					List<Map<String, Object>> boundedEntityList = entitiesToBeSaved.stream().map(binderFunction)
 							.collect(Collectors.toList());
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
+							.query(() -> statementCache.render(StatementCache.Kind.SAVE_ALL,
+									() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData), entityMetaData))
 							.in(databaseName.getValue()).bind(boundedEntityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM).run();
 				}).doOnNext(resultSummary -> {
 					SummaryCounters counters = resultSummary.counters();
@@ -330,6 +395,7 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 							"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
 							counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
 							counters.relationshipsDeleted(), counters.propertiesSet()));
+					countersConsumer.accept(counters);
 				}).thenMany(
 						Flux.deferContextual(ctx -> {
 							List<Boolean> isNewIndicator = ctx.get(isNewIndicatorKey);
@@ -349,15 +415,124 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 						.map(entity -> entityMetaData.isNew(entity)).collect(Collectors.toList())));
 	}
 
+	/**
+	 * Saves entities using internal ids, versions or dynamic labels with one statement per distinct change of dynamic
+	 * labels instead of one statement per entity. The version of each row is checked individually, the returned flux
+	 * errors with an {@link OptimisticLockingFailureException} listing all rows that failed that check.
+	 */
+	private <T> Flux<T> saveAllWithChecks(Neo4jPersistentEntity<?> entityMetaData, Collection<T> entities,
+			Function<T, Map<String, Object>> binderFunction, @Nullable String inDatabase,
+			Consumer<SummaryCounters> countersConsumer) {
+
+		// we need to determine the `isNew` state of the entities before calling the id generator
+		List<Boolean> isNewIndicator = entities.stream().map(entityMetaData::isNew).collect(Collectors.toList());
+
+		return Flux.fromIterable(entities).concatMap(eventSupport::maybeCallBeforeBind).collectList()
+				.flatMapMany(entitiesToBeSaved -> {
+
+					List<Map<String, Object>> rows = new ArrayList<>(entitiesToBeSaved.size());
+					for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+						Map<String, Object> row = binderFunction.apply(entitiesToBeSaved.get(i));
+						row.put(Constants.NAME_OF_ROW_INDEX, i);
+						rows.add(row);
+					}
+
+					return groupByDynamicLabels(entityMetaData, entitiesToBeSaved, rows, inDatabase)
+							.flatMapIterable(Map::entrySet)
+							.concatMap(group -> neo4jClient
+									.query(() -> statementCache.renderWithDynamicLabels(
+											StatementCache.Kind.SAVE_ALL_WITH_CHECKS,
+											() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData, group.getKey()),
+											entityMetaData, group.getKey()))
+									.in(inDatabase)
+									.bind(group.getValue()).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+									.fetch().all(summary -> countersConsumer.accept(summary.counters())))
+							.collectList()
+							.flatMapMany(records -> {
+
+								Long[] internalIds = new Long[entitiesToBeSaved.size()];
+								for (Map<String, Object> record : records) {
+									List<Long> rowIndexes = (List<Long>) record.get(Constants.NAME_OF_ROW_INDEXES);
+									List<Long> ids = (List<Long>) record.get(Constants.NAME_OF_IDS);
+									for (int i = 0; i < rowIndexes.size(); ++i) {
+										internalIds[Math.toIntExact(rowIndexes.get(i))] = ids.get(i);
+									}
+								}
+
+								Map<Integer, Object> failedRows = new LinkedHashMap<>();
+								for (int i = 0; i < internalIds.length; ++i) {
+									if (internalIds[i] == null) {
+										failedRows.put(i, entityMetaData.getPropertyAccessor(entitiesToBeSaved.get(i))
+												.getProperty(entityMetaData.getRequiredIdProperty()));
+									}
+								}
+								if (!failedRows.isEmpty()) {
+									return Flux.<T>error(new OptimisticLockingFailureException(String.format(
+											"Entities with the required version do not exist, failed rows and their ids: %s",
+											failedRows)));
+								}
+
+								return Flux.range(0, entitiesToBeSaved.size()).concatMap(i -> {
+									PersistentPropertyAccessor<T> propertyAccessor = entityMetaData
+											.getPropertyAccessor(entitiesToBeSaved.get(i));
+									if (entityMetaData.isUsingInternalIds()) {
+										propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalIds[i]);
+									}
+									T savedEntity = propertyAccessor.getBean();
+									return processRelations(entityMetaData, savedEntity, isNewIndicator.get(i), inDatabase)
+											.thenReturn(savedEntity);
+								});
+							});
+				});
+	}
+
+	/**
+	 * Determines the changes of dynamic labels of all rows with one statement and groups the rows by them.
+	 */
+	private <T> Mono<Map<DynamicLabels, List<Map<String, Object>>>> groupByDynamicLabels(
+			Neo4jPersistentEntity<?> entityMetaData, List<T> entitiesToBeSaved, List<Map<String, Object>> rows,
+			@Nullable String inDatabase) {
+
+		Optional<Neo4jPersistentProperty> dynamicLabelsProperty = entityMetaData.getDynamicLabelsProperty();
+		if (!dynamicLabelsProperty.isPresent()) {
+			return Mono.just(Collections.singletonMap(DynamicLabels.EMPTY, rows));
+		}
+
+		return neo4jClient
+				.query(() -> statementCache.render(StatementCache.Kind.DYNAMIC_LABELS_OF_ALL,
+						() -> cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(entityMetaData),
+						entityMetaData))
+				.in(inDatabase)
+				.bind(rows).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+				.bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+				.fetch().all()
+				.collectMap(record -> ((Number) record.get(Constants.NAME_OF_ROW_INDEX)).intValue(),
+						record -> (Collection<String>) record.get(Constants.NAME_OF_LABELS))
+				.map(existingDynamicLabels -> {
+					Map<DynamicLabels, List<Map<String, Object>>> rowsByDynamicLabels = new LinkedHashMap<>();
+					for (Map<String, Object> row : rows) {
+						int rowIndex = (Integer) row.get(Constants.NAME_OF_ROW_INDEX);
+						Collection<String> dynamicLabels = (Collection<String>) entityMetaData
+								.getPropertyAccessor(entitiesToBeSaved.get(rowIndex)).getProperty(dynamicLabelsProperty.get());
+						rowsByDynamicLabels.computeIfAbsent(new DynamicLabels(
+								existingDynamicLabels.getOrDefault(rowIndex, Collections.emptyList()), dynamicLabels),
+								k -> new ArrayList<>()).add(row);
+					}
+					return rowsByDynamicLabels;
+				});
+	}
+
 	@Override
 	public <T> Mono<Void> deleteAllById(Iterable<?> ids, Class<T> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		return getDatabaseName().flatMap(databaseName -> this.neo4jClient.query(() -> renderer.render(statement))
+		return getDatabaseName().flatMap(databaseName -> this.neo4jClient
+				.query(() -> statementCache.render(StatementCache.Kind.DELETE_ALL_BY_ID,
+						() -> cypherGenerator.prepareDeleteOf(entityMetaData,
+								entityMetaData.getIdExpression().in(parameter(nameOfParameter))),
+						entityMetaData))
 				.in(databaseName.getValue())
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
 				.to(nameOfParameter).run().then());
@@ -370,10 +545,12 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 		String nameOfParameter = "id";
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		return getDatabaseName().flatMap(databaseName -> this.neo4jClient.query(() -> renderer.render(statement))
+		return getDatabaseName().flatMap(databaseName -> this.neo4jClient
+				.query(() -> statementCache.render(StatementCache.Kind.DELETE_BY_ID,
+						() -> cypherGenerator.prepareDeleteOf(entityMetaData,
+								entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))),
+						entityMetaData))
 				.in(databaseName.getValue())
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
 				.to(nameOfParameter).run().then());
@@ -385,19 +562,21 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 		String nameOfParameter = "id";
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))
-				.and(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName())
-						.isEqualTo(parameter(Constants.NAME_OF_VERSION_PARAM))
-						.or(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName()).isNull()));
+		Supplier<String> cypherQuery = () -> statementCache.render(StatementCache.Kind.MATCH_BY_ID_AND_VERSION, () -> {
+			Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))
+					.and(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName())
+							.isEqualTo(parameter(Constants.NAME_OF_VERSION_PARAM))
+							.or(Cypher.property(Constants.NAME_OF_ROOT_NODE, versionProperty.getPropertyName()).isNull()));
 
-		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, condition)
-				.returning(Constants.NAME_OF_ROOT_NODE).build();
+			return cypherGenerator.prepareMatchOf(entityMetaData, condition)
+					.returning(Constants.NAME_OF_ROOT_NODE).build();
+		}, entityMetaData, versionProperty);
 
 		Map<String, Object> parameters = new HashMap<>();
 		parameters.put(nameOfParameter, convertIdValues(entityMetaData.getRequiredIdProperty(), id));
 		parameters.put(Constants.NAME_OF_VERSION_PARAM, versionValue);
 
-		return getDatabaseName().flatMap(databaseName -> this.neo4jClient.query(() -> renderer.render(statement))
+		return getDatabaseName().flatMap(databaseName -> this.neo4jClient.query(cypherQuery)
 				.in(databaseName.getValue())
 				.bindAll(parameters)
 				.fetch().one().switchIfEmpty(Mono.defer(() -> {
@@ -413,11 +592,80 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public Mono<Void> deleteAll(Class<?> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		return getDatabaseName().flatMap(databaseName -> this.neo4jClient.query(() -> renderer.render(statement))
+		return getDatabaseName().flatMap(databaseName -> this.neo4jClient
+				.query(() -> statementCache.render(StatementCache.Kind.DELETE_ALL,
+						() -> cypherGenerator.prepareDeleteOf(entityMetaData), entityMetaData))
 				.in(databaseName.getValue()).run().then());
 	}
 
+	@Override
+	public Mono<Void> deleteAllInBatches(Class<?> domainType, int batchSize,
+			@Nullable TransactionalOperator transactionalOperator) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be positive.");
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		return getDatabaseName().flatMap(databaseName -> deleteInBatches(entityMetaData, null,
+				Collections.emptyMap(), batchSize, transactionalOperator, databaseName.getValue()));
+	}
+
+	@Override
+	public <T> Mono<Void> deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize,
+			@Nullable TransactionalOperator transactionalOperator) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be positive.");
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "ids";
+		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
+
+		return getDatabaseName().flatMap(databaseName -> Flux.fromIterable(ids).buffer(batchSize)
+				.concatMap(chunk -> deleteInBatches(entityMetaData, condition, Collections.singletonMap(nameOfParameter,
+						convertIdValues(entityMetaData.getRequiredIdProperty(), chunk)), batchSize, transactionalOperator,
+						databaseName.getValue()), 1)
+				.then());
+	}
+
+	/**
+	 * Deletes the relationships of all nodes matching the condition in batches until they are gone, so that nodes with
+	 * a high degree are detached in slices, and the nodes afterwards.
+	 */
+	private Mono<Void> deleteInBatches(Neo4jPersistentEntity<?> entityMetaData, @Nullable Condition condition,
+			Map<String, Object> parameters, int batchSize, @Nullable TransactionalOperator transactionalOperator,
+			@Nullable String databaseName) {
+
+		boolean hasCondition = condition != null;
+		Supplier<String> deleteRelationships = () -> statementCache.render(
+				StatementCache.Kind.DELETE_RELATIONSHIPS_IN_BATCH,
+				() -> cypherGenerator.prepareDeleteOfRelationshipsInBatch(entityMetaData, condition),
+				entityMetaData, hasCondition);
+		Supplier<String> deleteNodes = () -> statementCache.render(StatementCache.Kind.DELETE_NODES_IN_BATCH,
+				() -> cypherGenerator.prepareDeleteOfNodesInBatch(entityMetaData, condition),
+				entityMetaData, hasCondition);
+
+		return runInBatches(deleteRelationships, parameters, batchSize, SummaryCounters::relationshipsDeleted,
+				transactionalOperator, databaseName)
+				.then(runInBatches(deleteNodes, parameters, batchSize, SummaryCounters::nodesDeleted,
+						transactionalOperator, databaseName));
+	}
+
+	/**
+	 * Repeats the statement until it deletes less than {@code batchSize} elements.
+	 */
+	private Mono<Void> runInBatches(Supplier<String> cypherQuery, Map<String, Object> parameters, int batchSize,
+			ToIntFunction<SummaryCounters> deletedElements, @Nullable TransactionalOperator transactionalOperator,
+			@Nullable String databaseName) {
+
+		Mono<ResultSummary> batch = this.neo4jClient.query(cypherQuery).in(databaseName).bindAll(parameters)
+				.bind(batchSize).to(Constants.NAME_OF_BATCH_SIZE_PARAM).run();
+		if (transactionalOperator != null) {
+			batch = transactionalOperator.transactional(batch);
+		}
+		return batch.repeat()
+				.takeUntil(summary -> deletedElements.applyAsInt(summary.counters()) < batchSize)
+				.then();
+	}
+
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, renderer.render(statement), Collections.emptyMap());
 	}
@@ -438,142 +686,92 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		Assert.notNull(neo4jMappingContext.getPersistentEntity(domainType), "Cannot get or create persistent entity.");
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType).withCypherQuery(cypherQuery)
 				.withParameters(parameters)
-				.usingMappingFunction(this.neo4jMappingContext.getRequiredMappingFunctionFor(domainType)).build();
+				.usingMappingFunction(this.neo4jMappingContext.getRequiredMappingFunctionWithoutSnapshotsFor(domainType)).build();
 		return this.toExecutableQuery(preparedQuery);
 	}
 
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType,
 		   QueryFragmentsAndParameters queryFragmentsAndParameters) {
 
-		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		QueryFragmentsAndParameters.QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
-		Map<String, Object> parameters = queryFragmentsAndParameters.getParameters();
-
-		QueryFragmentsAndParameters.QueryFragments.ReturnTuple returnTuple = queryFragments.getReturnTuple();
-		boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(
-				returnTuple != null
-						? returnTuple.getIncludedProperties()
-						: Collections.emptyList());
-		if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
-			return createQueryAndParameters(entityMetaData, queryFragments, parameters)
-					.flatMap(finalQueryAndParameters ->
-							createExecutableQuery(domainType, renderer.render(GenericQueryAndParameters.STATEMENT),
-									finalQueryAndParameters.getParameters()));
+		PreparedQuery.OptionalBuildSteps<T> preparedQuery = PreparedQuery.queryFor(domainType)
+				.withQueryFragmentsAndParameters(queryFragmentsAndParameters)
+				.usingMappingFunction(this.neo4jMappingContext.getRequiredMappingFunctionWithoutSnapshotsFor(domainType));
+		// Only the fragments generated for finding entities are known to be read-only, custom Cypher might write
+		if (queryFragmentsAndParameters.getCypherQuery() == null) {
+			preparedQuery.readOnly();
 		}
-
-		Statement statement = queryFragments.toStatement();
-
-		return createExecutableQuery(domainType, renderer.render(statement), parameters);
+		return this.toExecutableQuery(preparedQuery.build());
 	}
 
-	private Mono<GenericQueryAndParameters> createQueryAndParameters(Neo4jPersistentEntity<?> entityMetaData,
-		 	QueryFragmentsAndParameters.QueryFragments queryFragments, Map<String, Object> parameters) {
+	/**
+	 * Creates a read-only query from fragments that only depend on the entity, so that the statement is only built
+	 * and rendered once per entity. Domains with possible cycles are loaded with several statements, which are not cached.
+	 */
+	private <T> Mono<ExecutableQuery<T>> createCachedExecutableQuery(Class<T> domainType, StatementCache.Kind kind,
+			Function<Neo4jPersistentEntity<?>, QueryFragmentsAndParameters> queryFragmentsAndParameters,
+			Map<String, Object> parameters) {
 
-		Predicate<RelationshipDescription> relationshipFilter = relationshipDescription ->
-				queryFragments.getReturnTuple() == null
-				|| queryFragments.getReturnTuple().getIncludedProperties().isEmpty()
-				|| queryFragments.getReturnTuple().getIncludedProperties().contains(relationshipDescription.getFieldName());
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		if (entityMetaData.containsPossibleCircles(Collections.emptyList())) {
+			return createExecutableQuery(domainType, new QueryFragmentsAndParameters(entityMetaData,
+					queryFragmentsAndParameters.apply(entityMetaData).getQueryFragments(), parameters));
+		}
 
-		return getDatabaseName().flatMap(databaseName -> {
-			return Mono.deferContextual(ctx -> {
-				Set<Long> rootNodeIds = ctx.get("rootNodes");
-				Set<Long> processedRelationshipIds = ctx.get("processedRelationships");
-				Set<Long> processedNodeIds = ctx.get("processedNodes");
-				return Flux.fromIterable(entityMetaData.getRelationships())
-						.filter(relationshipFilter)
-						.flatMap(relationshipDescription -> {
-
-							Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, relationshipDescription,
-									queryFragments.getMatchOn(), queryFragments.getCondition())
-									.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-
-							return neo4jClient.query(renderer.render(statement)).in(databaseName.getValue())
-									.bindAll(parameters)
-									.fetch()
-									.one()
-									.map(record -> {
-										Collection<Long> rootIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE);
-										Collection<Long> newRelationshipIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
-										Collection<Long> newRelatedNodeIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
-										rootNodeIds.addAll(rootIds);
-
-										return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-									})
-									.expand(iterateAndMapNextLevel(relationshipDescription, databaseName.getValue()));
-						})
-						.collect(GenericQueryAndParameters::new, (genericQueryAndParameters, _not_used2) ->
-								genericQueryAndParameters.with(rootNodeIds, processedRelationshipIds, processedNodeIds)
-						);
-			});
-			})
-			.contextWrite(ctx -> {
-				return ctx
-						.put("rootNodes", ConcurrentHashMap.newKeySet())
-						.put("processedNodes", ConcurrentHashMap.newKeySet())
-						.put("processedRelationships", ConcurrentHashMap.newKeySet());
-			});
+		String cypherQuery = statementCache.render(kind,
+				() -> queryFragmentsAndParameters.apply(entityMetaData).getQueryFragments().toStatement(),
+				entityMetaData);
 
+		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType).withCypherQuery(cypherQuery)
+				.withParameters(parameters)
+				.usingMappingFunction(this.neo4jMappingContext.getRequiredMappingFunctionWithoutSnapshotsFor(domainType))
+				.readOnly()
+				.build();
+		return this.toExecutableQuery(preparedQuery);
 	}
 
-	private Flux<Tuple2<Collection<Long>, Collection<Long>>> iterateNextLevel(Collection<Long> relatedNodeIds,
-				  						RelationshipDescription relationshipDescription, String databaseName) {
-
-		NodeDescription<?> target = relationshipDescription.getTarget();
-
-		return Flux.fromIterable(target.getRelationships())
-			.flatMap(relDe -> {
-				Node node = anyNode(Constants.NAME_OF_ROOT_NODE);
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(target, relDe, null,
-								Functions.id(node).in(Cypher.parameter(Constants.NAME_OF_ID)))
-						.returning(cypherGenerator.createGenericReturnStatement()).build();
-
-				return neo4jClient.query(renderer.render(statement)).in(databaseName)
-						.bindAll(Collections.singletonMap(Constants.NAME_OF_ID, relatedNodeIds))
+	/**
+	 * Collects the ids of the root nodes matching the query fragments and of all nodes and relationships reachable from
+	 * them, one statement per hop.
+	 */
+	@SuppressWarnings("unchecked")
+	private Mono<GenericQueryAndParameters> createQueryAndParameters(Neo4jPersistentEntity<?> entityMetaData,
+			QueryFragmentsAndParameters.QueryFragments queryFragments, Map<String, Object> parameters,
+			List<String> includedProperties, @Nullable String databaseName) {
 
-						.fetch()
-						.one()
-						.map(record -> {
-							Collection<Long> newRelationshipIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
-							Collection<Long> newRelatedNodeIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
-
-							return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-						})
-						.expand(object -> iterateAndMapNextLevel(relDe, databaseName).apply(object));
-			});
+		Statement rootNodesStatement = cypherGenerator
+				.prepareMatchOf(entityMetaData, queryFragments.getMatchOn(), queryFragments.getCondition())
+				.returning(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).build();
 
+		return neo4jClient.query(renderer.render(rootNodesStatement)).in(databaseName)
+				.bindAll(parameters)
+				.fetch()
+				.one()
+				.map(values -> (Collection<Long>) values.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE))
+				.flatMap(rootNodeIds -> {
+					if (rootNodeIds.isEmpty()) {
+						return Mono.just(GenericQueryAndParameters.EMPTY);
+					}
+					return expandNextLevel(new ReachableGraphCollector(entityMetaData, rootNodeIds, includedProperties,
+							maxTraversalDepth), databaseName);
+				})
+				.defaultIfEmpty(GenericQueryAndParameters.EMPTY);
 	}
 
-	@NonNull
-	private Function<Tuple2<Collection<Long>, Collection<Long>>,
-			Publisher<Tuple2<Collection<Long>, Collection<Long>>>> iterateAndMapNextLevel(
-					RelationshipDescription relationshipDescription, String databaseName) {
-
-		return newRelationshipAndRelatedNodeIds -> {
-			return Flux.deferContextual(ctx -> {
-				Set<Long> relationshipIds = ctx.get("processedRelationships");
-				Set<Long> processedNodeIds = ctx.get("processedNodes");
-
-				Collection<Long> newRelationshipIds = newRelationshipAndRelatedNodeIds.getT1();
-				Set<Long> tmpProcessedRels = ConcurrentHashMap.newKeySet(newRelationshipIds.size());
-				tmpProcessedRels.addAll(newRelationshipIds);
-				tmpProcessedRels.removeAll(relationshipIds);
-				relationshipIds.addAll(newRelationshipIds);
+	private Mono<GenericQueryAndParameters> expandNextLevel(ReachableGraphCollector collector,
+			@Nullable String databaseName) {
 
-				Collection<Long> newRelatedNodeIds = newRelationshipAndRelatedNodeIds.getT2();
-				Set<Long> tmpProcessedNodes = ConcurrentHashMap.newKeySet(newRelatedNodeIds.size());
-				tmpProcessedNodes.addAll(newRelatedNodeIds);
-				tmpProcessedNodes.removeAll(processedNodeIds);
-				processedNodeIds.addAll(newRelatedNodeIds);
-
-				if (tmpProcessedRels.isEmpty() && tmpProcessedNodes.isEmpty()) {
-					return Mono.empty();
-				}
-
-				return iterateNextLevel(newRelatedNodeIds, relationshipDescription, databaseName);
-			});
-		};
+		if (!collector.hasNextLevel()) {
+			return Mono.just(collector.getQueryAndParameters());
+		}
+		return neo4jClient.query(renderer.render(collector.getStatementOfNextLevel())).in(databaseName)
+				.bindAll(collector.getParametersOfNextLevel())
+				.fetch()
+				.all()
+				.collectList()
+				.flatMap(records -> {
+					collector.addLevel(records);
+					return expandNextLevel(collector, databaseName);
+				});
 	}
 
 	private Mono<Void> processRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
@@ -617,9 +815,13 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 					return;
 				}
 
+				// only delete the relationships to nodes that are not related anymore after the relationships have been merged
+				boolean synchronizeByDifference = !isParentObjectNew
+						&& canSynchronizeRelationshipsByDifference(relationshipDescription);
+
 				// remove all relationships before creating all new if the entity is not new
 				// this avoids the usage of cache but might have significant impact on overall performance
-				if (!isParentObjectNew) {
+				if (!isParentObjectNew && !synchronizeByDifference) {
 
 					List<Long> knownRelationshipsIds = new ArrayList<>();
 					if (idProperty != null) {
@@ -637,10 +839,12 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 						}
 					}
 
-					Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription);
+					String relationshipRemoveQuery = statementCache.render(StatementCache.Kind.DELETE_RELATIONSHIPS,
+							() -> cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription),
+							sourceEntity, relationshipDescription);
 
 					relationshipCreationMonos.add(
-							neo4jClient.query(renderer.render(relationshipRemoveQuery)).in(inDatabase)
+							neo4jClient.query(relationshipRemoveQuery).in(inDatabase)
 									.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
 										.to(Constants.FROM_ID_PARAMETER_NAME) //
 									.bind(knownRelationshipsIds) //
@@ -650,11 +854,26 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 				// nothing to do because there is nothing to map
 				if (relationshipContext.inverseValueIsEmpty()) {
+					if (synchronizeByDifference) {
+						relationshipCreationMonos.add(deleteObsoleteRelationships(sourceEntity, fromId,
+								relationshipDescription, Collections.emptyList(), inDatabase));
+					}
 					return;
 				}
 
 				stateMachine.markAsProcessed(relationshipDescription, relatedValuesToStore);
 
+				if (neo4jMappingContext.canBatchRelatedValues(relationshipContext, relatedValuesToStore)) {
+					Mono<List<Long>> processRelatedValues = processRelatedValuesInBatch(sourceEntity, fromId,
+							relationshipContext, relatedValuesToStore, idProperty, processState, inDatabase, stateMachine);
+					relationshipCreationMonos.add(synchronizeByDifference
+							? processRelatedValues.flatMap(relatedInternalIds -> deleteObsoleteRelationships(sourceEntity,
+									fromId, relationshipDescription, relatedInternalIds, inDatabase))
+							: processRelatedValues.then());
+					return;
+				}
+
+				List<Long> relatedInternalIds = new ArrayList<>(relatedValuesToStore.size());
 				for (Object relatedValueToStore : relatedValuesToStore) {
 
 					Object relatedNodePreEvt = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
@@ -667,6 +886,8 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 										saveRelatedNode(relatedNode, relationshipContext.getAssociationTargetType(),
 										targetEntity, inDatabase).flatMap(relatedInternalId -> {
 
+											relatedInternalIds.add(relatedInternalId);
+
 											// if an internal id is used this must get set to link this entity in the next iteration
 											PersistentPropertyAccessor<?> targetPropertyAccessor = targetEntity
 													.getPropertyAccessor(relatedNode);
@@ -680,7 +901,12 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 											// in case of no properties the bind will just return an empty map
 											Mono<Long> relationshipCreationMonoNested = neo4jClient
-													.query(renderer.render(statementHolder.getStatement())).in(inDatabase)
+													.query(statementCache.render(StatementCache.Kind.SAVE_RELATIONSHIP,
+															statementHolder::getStatement, sourceEntity,
+															relationshipDescription,
+															relationshipContext.hasRelationshipWithProperties(),
+															statementHolder.getDynamicRelationshipType()))
+													.in(inDatabase)
 													.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
 														.to(Constants.FROM_ID_PARAMETER_NAME) //
 													.bind(relatedInternalId) //
@@ -706,12 +932,137 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 							});
 					relationshipCreationMonos.add(createRelationship);
 				}
+
+				if (synchronizeByDifference) {
+					relationshipCreationMonos.add(Mono.defer(() -> deleteObsoleteRelationships(sourceEntity, fromId,
+							relationshipDescription, relatedInternalIds, inDatabase)));
+				}
 			});
 
 			return Flux.concat(relationshipCreationMonos).checkpoint().then();
 		});
 	}
 
+	/**
+	 * Relationships with a dynamic type or with properties are always deleted and recreated, as neither the type nor the
+	 * properties are part of the merge.
+	 */
+	private boolean canSynchronizeRelationshipsByDifference(RelationshipDescription relationshipDescription) {
+		return synchronizeRelationshipsByDifference && !relationshipDescription.isDynamic()
+				&& !relationshipDescription.hasRelationshipProperties();
+	}
+
+	private Mono<Void> deleteObsoleteRelationships(Neo4jPersistentEntity<?> sourceEntity, Object fromId,
+			RelationshipDescription relationshipDescription, List<Long> relatedInternalIds, @Nullable String inDatabase) {
+
+		String relationshipRemoveQuery = statementCache.render(StatementCache.Kind.DELETE_OBSOLETE_RELATIONSHIPS,
+				() -> cypherGenerator.prepareDeleteOfObsoleteRelationships(sourceEntity, relationshipDescription),
+				sourceEntity, relationshipDescription);
+
+		return neo4jClient.query(relationshipRemoveQuery).in(inDatabase)
+				.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
+					.to(Constants.FROM_ID_PARAMETER_NAME) //
+				.bind(relatedInternalIds) //
+					.to(Constants.NAME_OF_KNOWN_RELATED_NODES_PARAM) //
+				.run().checkpoint("delete obsolete relationships").then();
+	}
+
+	/**
+	 * Stores all related values of one relationship with one statement per target entity for the related nodes and
+	 * one statement for all relationships, instead of two statements per related value.
+	 *
+	 * @return The internal ids of the related nodes
+	 */
+	private Mono<List<Long>> processRelatedValuesInBatch(Neo4jPersistentEntity<?> sourceEntity, Object fromId,
+			NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore,
+			@Nullable Neo4jPersistentProperty idProperty, ProcessState processState, @Nullable String inDatabase,
+			NestedRelationshipProcessingStateMachine stateMachine) {
+
+		List<Object> relatedValues = new ArrayList<>(relatedValuesToStore);
+
+		return Flux.fromIterable(relatedValues).concatMap(relatedValueToStore -> {
+
+			Object relatedNodePreEvt = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+			Neo4jPersistentEntity<?> targetEntity = neo4jMappingContext.getPersistentEntity(relatedNodePreEvt.getClass());
+			boolean isNew = targetEntity.isNew(relatedNodePreEvt);
+
+			return eventSupport.maybeCallBeforeBind(relatedNodePreEvt)
+					.map(relatedNode -> Tuples.<Neo4jPersistentEntity<?>, Boolean, Object>of(targetEntity, isNew, relatedNode));
+		}).collectList().flatMap(relatedNodes -> {
+
+			Map<Neo4jPersistentEntity<?>, List<Integer>> positionsByTargetEntity = new LinkedHashMap<>();
+			for (int i = 0; i < relatedNodes.size(); ++i) {
+				positionsByTargetEntity.computeIfAbsent(relatedNodes.get(i).getT1(), k -> new ArrayList<>()).add(i);
+			}
+
+			Long[] relatedInternalIds = new Long[relatedNodes.size()];
+			Mono<Void> saveRelatedNodes = Flux.fromIterable(positionsByTargetEntity.entrySet()).concatMap(entry -> {
+
+				Neo4jPersistentEntity<?> targetEntity = entry.getKey();
+				List<Integer> positions = entry.getValue();
+
+				Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+						.getRequiredBinderFunctionFor((Class<Object>) targetEntity.getType());
+				List<Map<String, Object>> entityList = positions.stream().map(i -> relatedNodes.get(i).getT3())
+						.map(binderFunction).collect(Collectors.toList());
+
+				return neo4jClient
+						.query(() -> statementCache.render(StatementCache.Kind.SAVE_ALL_RELATED,
+								() -> cypherGenerator.prepareSaveOfMultipleRelatedInstancesOf(targetEntity), targetEntity))
+						.in(inDatabase)
+						.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+						.fetch().one()
+						.map(record -> (List<Long>) record.get(Constants.NAME_OF_IDS))
+						.doOnNext(internalIds -> {
+							for (int i = 0; i < positions.size(); ++i) {
+								relatedInternalIds[positions.get(i)] = internalIds.get(i);
+							}
+						});
+			}).then();
+
+			Mono<List<Long>> saveRelationships = Mono.defer(() -> {
+
+				List<Map<String, Object>> relationshipList = new ArrayList<>(relatedValues.size());
+				for (int i = 0; i < relatedValues.size(); ++i) {
+					relationshipList.add(neo4jMappingContext.createRelationshipRow(relationshipContext,
+							relatedValues.get(i), relatedInternalIds[i]));
+				}
+
+				RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+				String relationshipCreationQuery = statementCache.render(StatementCache.Kind.SAVE_ALL_RELATIONSHIPS,
+						() -> cypherGenerator.prepareSaveOfMultipleRelationships(sourceEntity, relationshipDescription, null),
+						sourceEntity, relationshipDescription, relationshipDescription.hasRelationshipProperties());
+				return neo4jClient.query(relationshipCreationQuery).in(inDatabase)
+						.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
+							.to(Constants.FROM_ID_PARAMETER_NAME) //
+						.bind(relationshipList) //
+							.to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM) //
+						.fetch().one()
+						.map(record -> (List<Long>) record.get(Constants.NAME_OF_IDS));
+			});
+
+			return saveRelatedNodes.then(saveRelationships).flatMap(relationshipInternalIds -> {
+
+				List<Mono<Void>> nestedRelationshipMonos = new ArrayList<>();
+				for (int i = 0; i < relatedValues.size(); ++i) {
+
+					if (idProperty != null) {
+						relationshipContext
+								.getRelationshipPropertiesPropertyAccessor(relatedValues.get(i))
+								.setProperty(idProperty, relationshipInternalIds.get(i));
+					}
+
+					if (processState != ProcessState.PROCESSED_ALL_VALUES) {
+						Tuple3<Neo4jPersistentEntity<?>, Boolean, Object> relatedNode = relatedNodes.get(i);
+						nestedRelationshipMonos.add(processNestedRelations(relatedNode.getT1(), relatedNode.getT3(),
+								relatedNode.getT2(), inDatabase, stateMachine));
+					}
+				}
+				return Flux.concat(nestedRelationshipMonos).then(Mono.fromSupplier(() -> Arrays.asList(relatedInternalIds)));
+			});
+		}).checkpoint("save related values in batch");
+	}
+
 	private <Y> Mono<Long> saveRelatedNode(Object relatedNode, Class<Y> entityType, NodeDescription targetNodeDescription,
 			@Nullable String inDatabase) {
 
@@ -721,7 +1072,9 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 					DynamicLabels dynamicLabels = t.getT2();
 
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels)))
+							.query(() -> statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE,
+									() -> cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels),
+									targetNodeDescription, dynamicLabels))
 							.in(inDatabase).bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
 							.fetchAs(Long.class).one();
 				}).switchIfEmpty(Mono.defer(() -> {
@@ -741,7 +1094,7 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	@Override
 	public <T> Mono<ExecutableQuery<T>> toExecutableQuery(PreparedQuery<T> preparedQuery) {
 
-		return getDatabaseName().map(databaseName -> {
+		return getDatabaseName().flatMap(databaseName -> {
 			Class<T> resultType = preparedQuery.getResultType();
 			QueryFragmentsAndParameters queryFragmentsAndParameters = preparedQuery.getQueryFragmentsAndParameters();
 			String cypherQuery = queryFragmentsAndParameters.getCypherQuery();
@@ -755,31 +1108,78 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 					returnTuple != null
 							? returnTuple.getIncludedProperties()
 							: Collections.emptyList());
-			if (cypherQuery == null || containsPossibleCircles) {
-
-				Map<String, Object> parameters = queryFragmentsAndParameters.getParameters();
 
-				if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
-					GenericQueryAndParameters genericQueryAndParameters =
-							createQueryAndParameters(entityMetaData, queryFragments, parameters).block();
-
-					cypherQuery = renderer.render(GenericQueryAndParameters.STATEMENT);
-					finalParameters = genericQueryAndParameters.getParameters();
-				} else {
-					cypherQuery = renderer.render(queryFragments.toStatement());
-				}
+			Mono<Tuple2<String, Map<String, Object>>> queryAndParameters;
+			if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
+				queryAndParameters = createQueryAndParameters(entityMetaData, queryFragments, finalParameters,
+						returnTuple != null ? returnTuple.getIncludedProperties() : Collections.emptyList(),
+						databaseName.getValue())
+						.map(genericQueryAndParameters -> Tuples.of(renderer.render(GenericQueryAndParameters.STATEMENT),
+								genericQueryAndParameters.getParameters()));
+			} else if (cypherQuery == null || containsPossibleCircles) {
+				queryAndParameters = Mono.just(Tuples.of(renderer.render(queryFragments.toStatement()), finalParameters));
+			} else {
+				queryAndParameters = Mono.just(Tuples.of(cypherQuery, finalParameters));
 			}
 
-			ReactiveNeo4jClient.MappingSpec<T> mappingSpec = this.neo4jClient.query(cypherQuery)
-					.in(databaseName.getValue()).bindAll(finalParameters).fetchAs(resultType);
+			return queryAndParameters.map(t -> {
+				ReactiveNeo4jClient.RunnableSpecTightToDatabase runnableSpec = this.neo4jClient.query(t.getT1())
+						.in(databaseName.getValue());
+				if (routeReadOnlyQueries && preparedQuery.isReadOnly()) {
+					runnableSpec = runnableSpec.readOnly();
+				}
+				ReactiveNeo4jClient.MappingSpec<T> mappingSpec = runnableSpec.bindAll(t.getT2()).fetchAs(resultType);
 
-			ReactiveNeo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery.getOptionalMappingFunction()
-					.map(mappingFunction -> mappingSpec.mappedBy(mappingFunction)).orElse(mappingSpec);
+				ReactiveNeo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery.getOptionalMappingFunction()
+						.map(mappingFunction -> mappingSpec.mappedBy(mappingFunction)).orElse(mappingSpec);
 
-			return new DefaultReactiveExecutableQuery<>(preparedQuery, fetchSpec);
+				return new DefaultReactiveExecutableQuery<>(preparedQuery, fetchSpec);
+			});
 		});
 	}
 
+	/**
+	 * Limits the number of hops that are traversed from a root node when loading domain objects that contain possible
+	 * cycles. Relationships and nodes further away than this limit are not loaded and a warning is logged. Saving such a
+	 * partially loaded aggregate deletes the relationships that have not been loaded. The reachable graph is collected
+	 * with one statement per hop, by default without a limit.
+	 *
+	 * @param maxTraversalDepth The maximum number of hops
+	 * @since 6.1
+	 */
+	public void setMaxTraversalDepth(int maxTraversalDepth) {
+
+		Assert.isTrue(maxTraversalDepth >= 0, "The maximum traversal depth must not be negative");
+		this.maxTraversalDepth = maxTraversalDepth;
+	}
+
+	/**
+	 * Configures how the relationships of entities that are not new are synchronized on save. By default, all
+	 * relationships are deleted and recreated. When enabled, relationships are merged and only the relationships to
+	 * nodes that are not related anymore are deleted afterwards, so unchanged relationships are not written at all. This
+	 * applies only to relationships with a static type and without properties.
+	 *
+	 * @param synchronizeRelationshipsByDifference True to only write the differences of relationships
+	 * @since 6.1
+	 */
+	public void setSynchronizeRelationshipsByDifference(boolean synchronizeRelationshipsByDifference) {
+		this.synchronizeRelationshipsByDifference = synchronizeRelationshipsByDifference;
+	}
+
+	/**
+	 * Configures whether queries that only read, i.e. the queries this template generates for counting and finding
+	 * entities as well as derived finder queries, are run in sessions with {@link org.neo4j.driver.AccessMode#READ} when
+	 * no transaction is ongoing. A cluster can then route them to followers or read replicas. This is disabled by
+	 * default: Those sessions don't know the bookmarks of earlier writes outside a transaction, so reads might not see
+	 * them. Custom Cypher is never routed for reading.
+	 *
+	 * @param routeReadOnlyQueries True to route read-only queries outside transactions to readers
+	 * @since 6.1
+	 */
+	public void setRouteReadOnlyQueries(boolean routeReadOnlyQueries) {
+		this.routeReadOnlyQueries = routeReadOnlyQueries;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
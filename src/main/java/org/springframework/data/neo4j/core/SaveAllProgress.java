@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.Collection;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.SummaryCounters;
+
+/**
+ * The progress of saving entities in chunks after a chunk has been saved. The counters are the sums of the counters
+ * reported by the statements that saved the nodes of all chunks so far. They don't include the relationships and
+ * related nodes written while processing the relationships of each entity.
+ *
+ * @author agent
+ * @since 6.1
+ */
+@API(status = API.Status.STABLE, since = "6.1")
+public final class SaveAllProgress {
+
+	static final SaveAllProgress NONE = new SaveAllProgress(0, 0, 0, 0, 0, 0, 0, 0);
+
+	private final int chunks;
+
+	private final int entitiesInLastChunk;
+
+	private final long entitiesSaved;
+
+	private final long nodesCreated;
+
+	private final long nodesDeleted;
+
+	private final long relationshipsCreated;
+
+	private final long relationshipsDeleted;
+
+	private final long propertiesSet;
+
+	private SaveAllProgress(int chunks, int entitiesInLastChunk, long entitiesSaved, long nodesCreated,
+			long nodesDeleted, long relationshipsCreated, long relationshipsDeleted, long propertiesSet) {
+		this.chunks = chunks;
+		this.entitiesInLastChunk = entitiesInLastChunk;
+		this.entitiesSaved = entitiesSaved;
+		this.nodesCreated = nodesCreated;
+		this.nodesDeleted = nodesDeleted;
+		this.relationshipsCreated = relationshipsCreated;
+		this.relationshipsDeleted = relationshipsDeleted;
+		this.propertiesSet = propertiesSet;
+	}
+
+	/**
+	 * @param entitiesInChunk The number of entities in the chunk that has been saved
+	 * @param counters The counters of the statements that saved the chunk
+	 * @return The progress after the chunk
+	 */
+	SaveAllProgress next(int entitiesInChunk, Collection<SummaryCounters> counters) {
+
+		long newNodesCreated = nodesCreated;
+		long newNodesDeleted = nodesDeleted;
+		long newRelationshipsCreated = relationshipsCreated;
+		long newRelationshipsDeleted = relationshipsDeleted;
+		long newPropertiesSet = propertiesSet;
+		for (SummaryCounters summaryCounters : counters) {
+			newNodesCreated += summaryCounters.nodesCreated();
+			newNodesDeleted += summaryCounters.nodesDeleted();
+			newRelationshipsCreated += summaryCounters.relationshipsCreated();
+			newRelationshipsDeleted += summaryCounters.relationshipsDeleted();
+			newPropertiesSet += summaryCounters.propertiesSet();
+		}
+		return new SaveAllProgress(chunks + 1, entitiesInChunk, entitiesSaved + entitiesInChunk, newNodesCreated,
+				newNodesDeleted, newRelationshipsCreated, newRelationshipsDeleted, newPropertiesSet);
+	}
+
+	/**
+	 * @return The number of chunks saved so far
+	 */
+	public int getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * @return The number of entities in the last chunk
+	 */
+	public int getEntitiesInLastChunk() {
+		return entitiesInLastChunk;
+	}
+
+	/**
+	 * @return The number of entities saved so far
+	 */
+	public long getEntitiesSaved() {
+		return entitiesSaved;
+	}
+
+	public long getNodesCreated() {
+		return nodesCreated;
+	}
+
+	public long getNodesDeleted() {
+		return nodesDeleted;
+	}
+
+	public long getRelationshipsCreated() {
+		return relationshipsCreated;
+	}
+
+	public long getRelationshipsDeleted() {
+		return relationshipsDeleted;
+	}
+
+	public long getPropertiesSet() {
+		return propertiesSet;
+	}
+
+	@Override
+	public String toString() {
+		return "SaveAllProgress{" +
+			   "chunks=" + chunks +
+			   ", entitiesSaved=" + entitiesSaved +
+			   ", nodesCreated=" + nodesCreated +
+			   ", nodesDeleted=" + nodesDeleted +
+			   ", relationshipsCreated=" + relationshipsCreated +
+			   ", relationshipsDeleted=" + relationshipsDeleted +
+			   ", propertiesSet=" + propertiesSet +
+			   '}';
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A bounded cache of rendered statements used by the templates. The statements for the CRUD operations only depend on
+ * the entity and the relationship involved, so they can be built and rendered once and reused for all instances. Once
+ * the cache is full, the least recently used statements are evicted.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class StatementCache {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(StatementCache.class));
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	/**
+	 * The default number of rendered statements held by one cache.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	/**
+	 * The kind of the cached statement, together with the discriminators it forms the key of a cached statement.
+	 */
+	enum Kind {
+		COUNT, EXISTS_BY_ID, FIND_BY_ID, FIND_ALL_BY_ID, FIND_ALL, SAVE, SAVE_ALL, SAVE_ALL_RELATED, DYNAMIC_LABELS, DELETE_BY_ID,
+		MATCH_BY_ID_AND_VERSION, DELETE_ALL_BY_ID, DELETE_ALL, DELETE_RELATIONSHIPS, SAVE_RELATIONSHIP,
+		SAVE_ALL_RELATIONSHIPS, DELETE_OBSOLETE_RELATIONSHIPS, SAVE_ALL_WITH_CHECKS, DYNAMIC_LABELS_OF_ALL,
+		DELETE_RELATIONSHIPS_IN_BATCH, DELETE_NODES_IN_BATCH
+	}
+
+	private final ConcurrentLruCache<Key, String> renderedStatements;
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	StatementCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	StatementCache(int maximumSize) {
+		this.renderedStatements = new ConcurrentLruCache<>(maximumSize, key -> {
+			misses.increment();
+			return key.render();
+		});
+	}
+
+	/**
+	 * Returns the rendered statement for the given key. The statement is only built and rendered when it is not in the
+	 * cache.
+	 *
+	 * @param kind The kind of statement
+	 * @param statementSupplier Supplier for the statement in case it needs to be rendered
+	 * @param discriminators Everything the statement depends on, i.e. entities, relationships and the like
+	 * @return The rendered statement
+	 */
+	String render(Kind kind, Supplier<Statement> statementSupplier, Object... discriminators) {
+
+		List<Object> components = new ArrayList<>(discriminators.length + 1);
+		components.add(kind);
+		components.addAll(Arrays.asList(discriminators));
+
+		requests.increment();
+		String renderedStatement = renderedStatements.get(new Key(components, statementSupplier));
+		log.trace(() -> String.format("Requested statement of kind %s, %d hits and %d misses so far.", kind,
+				getHitCount(), getMissCount()));
+		return renderedStatement;
+	}
+
+	/**
+	 * Returns the rendered statement for an entity with dynamic labels. Labels cannot be passed as parameters, so each
+	 * combination of labels to remove and to add leads to a different statement. Only the statement that doesn't change
+	 * any label is cached, the other ones are rendered on each call. Caching all of them would evict the statements that
+	 * are actually reused.
+	 *
+	 * @param kind The kind of statement
+	 * @param statementSupplier Supplier for the statement
+	 * @param entity The entity the statement is rendered for
+	 * @param dynamicLabels The labels to remove and to add
+	 * @return The rendered statement
+	 */
+	String renderWithDynamicLabels(Kind kind, Supplier<Statement> statementSupplier, Object entity,
+			DynamicLabels dynamicLabels) {
+
+		if (dynamicLabels.isEmpty()) {
+			return render(kind, statementSupplier, entity);
+		}
+		return renderer.render(statementSupplier.get());
+	}
+
+	/**
+	 * @return The number of statements that have been taken from the cache
+	 */
+	long getHitCount() {
+		return requests.sum() - misses.sum();
+	}
+
+	/**
+	 * @return The number of statements that have been rendered
+	 */
+	long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * The key of a rendered statement. Only its components are part of its identity, the supplier is only needed once for
+	 * rendering the statement and is dropped afterwards.
+	 */
+	private static final class Key {
+
+		private final List<Object> components;
+
+		private @Nullable Supplier<Statement> statementSupplier;
+
+		Key(List<Object> components, Supplier<Statement> statementSupplier) {
+			this.components = components;
+			this.statementSupplier = statementSupplier;
+		}
+
+		String render() {
+
+			Supplier<Statement> supplier = this.statementSupplier;
+			this.statementSupplier = null;
+			if (supplier == null) {
+				throw new IllegalStateException("The statement of this key has already been rendered");
+			}
+			return renderer.render(supplier.get());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			return components.equals(((Key) o).components);
+		}
+
+		@Override
+		public int hashCode() {
+			return components.hashCode();
+		}
+	}
+}
@@ -52,13 +52,37 @@ public final class Constants {
 	 */
 	public static final String NAME_OF_STATIC_LABELS_PARAM = "__staticLabels__";
 	public static final String NAME_OF_ENTITY_LIST_PARAM = "__entities__";
+	/**
+	 * Indicates the parameter that contains the maximum number of relationships or nodes deleted by one statement.
+	 */
+	public static final String NAME_OF_BATCH_SIZE_PARAM = "__batchSize__";
+	/**
+	 * Indicates the index of a row in {@link #NAME_OF_ENTITY_LIST_PARAM}.
+	 */
+	public static final String NAME_OF_ROW_INDEX = "__row__";
+	/**
+	 * Indicates the list of indexes of the rows in {@link #NAME_OF_ENTITY_LIST_PARAM} that have been written.
+	 */
+	public static final String NAME_OF_ROW_INDEXES = "__rows__";
+	/**
+	 * Indicates the list of rows used to create several relationships from one start node in one go.
+	 */
+	public static final String NAME_OF_RELATIONSHIP_LIST_PARAM = "__relationships__";
 	public static final String NAME_OF_KNOWN_RELATIONSHIPS_PARAM = "__knownRelationShipIds__";
+	/**
+	 * Indicates the list of internal ids of the nodes that are still related to a start node.
+	 */
+	public static final String NAME_OF_KNOWN_RELATED_NODES_PARAM = "__knownRelatedNodeIds__";
 	public static final String NAME_OF_PATHS = "__paths__";
 	public static final String NAME_OF_ALL_PROPERTIES = "__allProperties__";
 
 	public static final String NAME_OF_SYNTHESIZED_ROOT_NODE = "__sn__";
 	public static final String NAME_OF_SYNTHESIZED_RELATED_NODES = "__srn__";
 	public static final String NAME_OF_SYNTHESIZED_RELATIONS = "__sr__";
+	/**
+	 * Indicates the index of the relationship that has been followed when expanding several relationships at once.
+	 */
+	public static final String NAME_OF_EXPANDED_RELATIONSHIP = "__er__";
 
 	public static final String FROM_ID_PARAMETER_NAME = "fromId";
 	public static final String TO_ID_PARAMETER_NAME = "toId";
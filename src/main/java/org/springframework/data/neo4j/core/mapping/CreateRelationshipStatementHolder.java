@@ -17,12 +17,14 @@ package org.springframework.data.neo4j.core.mapping;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.data.neo4j.core.ReactiveNeo4jTemplate;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 /**
  * The {@link CreateRelationshipStatementHolder} holds the Cypher Statement to create a relationship as well as the optional
@@ -37,20 +39,40 @@ import org.springframework.lang.NonNull;
 @API(status = API.Status.INTERNAL, since = "6.0")
 public final class CreateRelationshipStatementHolder {
 
-	private final Statement statement;
+	private final Supplier<Statement> statementSupplier;
+	private final @Nullable String dynamicRelationshipType;
 	private final Map<String, Object> properties;
 
-	CreateRelationshipStatementHolder(@NonNull Statement statement) {
-		this(statement, Collections.emptyMap());
+	CreateRelationshipStatementHolder(@NonNull Supplier<Statement> statementSupplier,
+			@Nullable String dynamicRelationshipType) {
+		this(statementSupplier, dynamicRelationshipType, Collections.emptyMap());
 	}
 
-	CreateRelationshipStatementHolder(@NonNull Statement statement, @NonNull Map<String, Object> properties) {
-		this.statement = statement;
+	CreateRelationshipStatementHolder(@NonNull Supplier<Statement> statementSupplier,
+			@Nullable String dynamicRelationshipType, @NonNull Map<String, Object> properties) {
+		this.statementSupplier = statementSupplier;
+		this.dynamicRelationshipType = dynamicRelationshipType;
 		this.properties = properties;
 	}
 
+	/**
+	 * The statement is only built when requested, so that callers holding an already rendered version of it don't
+	 * have to pay for building it again.
+	 *
+	 * @return The statement to create the relationship
+	 */
 	public Statement getStatement() {
-		return statement;
+		return statementSupplier.get();
+	}
+
+	/**
+	 * @return The type of the relationship if it is a dynamic one, the only part of the statement that depends on the
+	 * related value
+	 * @since 6.1
+	 */
+	@Nullable
+	public String getDynamicRelationshipType() {
+		return dynamicRelationshipType;
 	}
 
 	public Map<String, Object> getProperties() {
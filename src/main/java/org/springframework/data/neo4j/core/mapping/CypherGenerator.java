@@ -50,7 +50,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.listBasedOn;
@@ -113,6 +112,24 @@ public enum CypherGenerator {
 		return match(rootNode).where(conditionOrNoCondition(condition)).with(expressions.toArray(new Expression[] {}));
 	}
 
+	/**
+	 * Creates a statement that checks whether at least one node fitting the given node description and condition
+	 * exists. The statement stops matching after the first node and returns a single count of either {@literal 0} or
+	 * {@literal 1}. No properties or relationships are loaded.
+	 *
+	 * @param nodeDescription The node description for which the existence check should be generated
+	 * @param condition Optional conditions to add
+	 * @return A statement returning the count of at most one matching node
+	 * @since 6.1
+	 */
+	public Statement prepareExistenceCheckOf(NodeDescription<?> nodeDescription, @Nullable Condition condition) {
+
+		Node rootNode = createRootNode(nodeDescription);
+		return match(rootNode).where(conditionOrNoCondition(condition))
+				.with(rootNode).limit(1)
+				.returning(Functions.count(rootNode)).build();
+	}
+
 	public StatementBuilder.OngoingReading prepareMatchOf(NodeDescription<?> nodeDescription,
 														  @Nullable List<PatternElement> initialMatchOn,
 														  @Nullable Condition condition) {
@@ -203,6 +220,66 @@ public enum CypherGenerator {
 				.with(expressions.toArray(new Expression[]{}));
 	}
 
+	/**
+	 * Creates a statement that follows each of the given relationships one hop from its start nodes. Relationships are
+	 * only followed in their direction and only to nodes having the labels of their target, so that nothing is matched
+	 * the domain model would not reach. The relationship at index {@code i} starts at the nodes whose internal ids are
+	 * bound to the parameter named {@link #nameOfStartNodeIdsParameter(int) nameOfStartNodeIdsParameter(i)}. Each record
+	 * contains the index of the relationship ({@link Constants#NAME_OF_EXPANDED_RELATIONSHIP}) together with the
+	 * internal ids of the matched relationships ({@link Constants#NAME_OF_SYNTHESIZED_RELATIONS}) and related nodes
+	 * ({@link Constants#NAME_OF_SYNTHESIZED_RELATED_NODES}). Relationships without any match don't produce a record.
+	 *
+	 * @param relationshipDescriptions The relationships to follow
+	 * @return A statement following all given relationships at once
+	 * @since 6.1
+	 */
+	public Statement prepareExpansionOf(List<RelationshipDescription> relationshipDescriptions) {
+
+		Assert.notEmpty(relationshipDescriptions, "At least one relationship to expand is required.");
+
+		List<Statement> expansions = new ArrayList<>(relationshipDescriptions.size());
+		for (int i = 0; i < relationshipDescriptions.size(); ++i) {
+			RelationshipDescription relationshipDescription = relationshipDescriptions.get(i);
+			NodeDescription<?> target = relationshipDescription.getTarget();
+
+			Node startNode = anyNode(START_NODE_NAME);
+			Node endNode = node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME);
+			String[] types = getTypesOf(relationshipDescription);
+
+			Relationship relationship;
+			switch (relationshipDescription.getDirection()) {
+				case OUTGOING:
+					relationship = startNode.relationshipTo(endNode, types);
+					break;
+				case INCOMING:
+					relationship = startNode.relationshipFrom(endNode, types);
+					break;
+				default:
+					relationship = startNode.relationshipBetween(endNode, types);
+					break;
+			}
+			relationship = relationship.named(RELATIONSHIP_NAME);
+
+			expansions.add(match(relationship)
+					.where(Functions.id(startNode).in(parameter(nameOfStartNodeIdsParameter(i))))
+					.returning(Cypher.literalOf(i).as(Constants.NAME_OF_EXPANDED_RELATIONSHIP),
+							Functions.collectDistinct(Functions.id(relationship)).as(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
+							Functions.collectDistinct(Functions.id(endNode)).as(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES))
+					.build());
+		}
+
+		return expansions.size() == 1 ? expansions.get(0) : Cypher.unionAll(expansions.toArray(new Statement[0]));
+	}
+
+	/**
+	 * @param index The index of a relationship passed to {@link #prepareExpansionOf(List)}
+	 * @return The name of the parameter holding the internal ids of the nodes from which that relationship is followed
+	 * @since 6.1
+	 */
+	public static String nameOfStartNodeIdsParameter(int index) {
+		return Constants.NAME_OF_IDS + index;
+	}
+
 	@NonNull
 	public Node createRootNode(NodeDescription<?> nodeDescription) {
 		String primaryLabel = nodeDescription.getPrimaryLabel();
@@ -240,6 +317,43 @@ public enum CypherGenerator {
 				.returning(Functions.collect(Cypher.name("label")).as(Constants.NAME_OF_LABELS)).build();
 	}
 
+	/**
+	 * Creates a statement that returns the dynamic labels of all entities passed as rows in
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}. It returns one record per row of an existing node having dynamic labels,
+	 * consisting of the {@link Constants#NAME_OF_ROW_INDEX} of the row and the dynamic labels as
+	 * {@link Constants#NAME_OF_LABELS}.
+	 *
+	 * @param nodeDescription The node description of the entities
+	 * @return A statement having two parameters
+	 * @since 6.1
+	 */
+	public Statement createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription<?> nodeDescription) {
+
+		final Node rootNode = Cypher.anyNode(Constants.NAME_OF_ROOT_NODE);
+		SymbolicName row = Cypher.name("entity");
+		SymbolicName label = Cypher.name("label");
+
+		Condition versionCondition;
+		if (((Neo4jPersistentEntity) nodeDescription).hasVersionProperty()) {
+
+			PersistentProperty versionProperty = ((Neo4jPersistentEntity) nodeDescription).getRequiredVersionProperty();
+			versionCondition = rootNode.property(versionProperty.getName())
+					.isEqualTo(Cypher.property(row, Constants.NAME_OF_VERSION_PARAM));
+		} else {
+			versionCondition = Conditions.noCondition();
+		}
+
+		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+				.match(rootNode)
+				.where(nodeDescription.getIdDescription().asIdExpression()
+						.isEqualTo(Cypher.property(row, Constants.NAME_OF_ID)))
+				.and(versionCondition).unwind(rootNode.labels()).as(label).with(row, label)
+				.where(label.in(parameter(Constants.NAME_OF_STATIC_LABELS_PARAM)).not())
+				.returning(Cypher.property(row, Constants.NAME_OF_ROW_INDEX).as(Constants.NAME_OF_ROW_INDEX),
+						Functions.collect(label).as(Constants.NAME_OF_LABELS))
+				.build();
+	}
+
 	public Statement prepareDeleteOf(NodeDescription<?> nodeDescription) {
 		return prepareDeleteOf(nodeDescription, null);
 	}
@@ -251,6 +365,46 @@ public enum CypherGenerator {
 		return match(rootNode).where(conditionOrNoCondition(condition)).detachDelete(rootNode).build();
 	}
 
+	/**
+	 * Creates a statement deleting one batch of relationships of the nodes matching the condition. The batch size is
+	 * passed as parameter {@link Constants#NAME_OF_BATCH_SIZE_PARAM}, so that the statement doesn't depend on it. It is
+	 * meant to be repeated until it deletes less relationships than the batch size, so that nodes with a high degree
+	 * don't need to be detached in one go.
+	 *
+	 * @param nodeDescription The description of the nodes whose relationships should be deleted
+	 * @param condition An optional condition on the nodes
+	 * @return A statement deleting one batch of relationships
+	 */
+	public Statement prepareDeleteOfRelationshipsInBatch(NodeDescription<?> nodeDescription,
+			@Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+				.named(Constants.NAME_OF_ROOT_NODE);
+		Relationship relationship = rootNode.relationshipBetween(anyNode()).named("rel");
+		return match(relationship).where(conditionOrNoCondition(condition))
+				.withDistinct(relationship).limit(parameter(Constants.NAME_OF_BATCH_SIZE_PARAM))
+				.delete(relationship).build();
+	}
+
+	/**
+	 * Creates a statement deleting one batch of nodes matching the condition, the batch size is passed as parameter
+	 * {@link Constants#NAME_OF_BATCH_SIZE_PARAM}. The nodes are detached, but their relationships should have been
+	 * deleted in batches before.
+	 *
+	 * @param nodeDescription The description of the nodes to delete
+	 * @param condition An optional condition on the nodes
+	 * @return A statement deleting one batch of nodes
+	 * @see #prepareDeleteOfRelationshipsInBatch(NodeDescription, Condition)
+	 */
+	public Statement prepareDeleteOfNodesInBatch(NodeDescription<?> nodeDescription, @Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+				.named(Constants.NAME_OF_ROOT_NODE);
+		return match(rootNode).where(conditionOrNoCondition(condition))
+				.with(rootNode).limit(parameter(Constants.NAME_OF_BATCH_SIZE_PARAM))
+				.detachDelete(rootNode).build();
+	}
+
 	public Statement prepareSaveOf(NodeDescription<?> nodeDescription,
 			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
 
@@ -324,6 +478,25 @@ public enum CypherGenerator {
 
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
 
+		return prepareSaveOfMultipleInstancesOf(nodeDescription, false);
+	}
+
+	/**
+	 * Creates a statement that saves all entities passed as rows in {@link Constants#NAME_OF_ENTITY_LIST_PARAM} and
+	 * returns the internal ids of the saved nodes as {@link Constants#NAME_OF_IDS}, in the order of the rows. The
+	 * internal ids can be used to create relationships to the saved nodes.
+	 *
+	 * @param nodeDescription The node description of the entities to save
+	 * @return A statement having one parameter.
+	 * @since 6.1
+	 */
+	public Statement prepareSaveOfMultipleRelatedInstancesOf(NodeDescription<?> nodeDescription) {
+
+		return prepareSaveOfMultipleInstancesOf(nodeDescription, true);
+	}
+
+	private Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription, boolean returnInternalIds) {
+
 		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
 				"Only entities that use external IDs can be saved in a batch.");
 
@@ -334,11 +507,84 @@ public enum CypherGenerator {
 		String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
 				.orElseThrow(() -> new MappingException("External id does not correspond to a graph property!"));
 
+		Expression returnedIds = returnInternalIds ? rootNode.internalId() : rootNode.property(nameOfIdProperty);
+
 		String row = "entity";
 		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
 				.merge(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
 				.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM))
-				.returning(Functions.collect(rootNode.property(nameOfIdProperty)).as(Constants.NAME_OF_IDS)).build();
+				.returning(Functions.collect(returnedIds).as(Constants.NAME_OF_IDS)).build();
+	}
+
+	/**
+	 * Creates a statement that saves all entities passed as rows in {@link Constants#NAME_OF_ENTITY_LIST_PARAM} the same
+	 * way {@link #prepareSaveOf(NodeDescription, UnaryOperator)} saves a single entity. This includes entities using
+	 * internal ids and the optimistic locking check of versioned entities. Each row must contain its
+	 * {@link Constants#NAME_OF_ROW_INDEX}. The indexes of the rows that have been written are returned as
+	 * {@link Constants#NAME_OF_ROW_INDEXES} together with the internal ids of the nodes as {@link Constants#NAME_OF_IDS}
+	 * in the same order, possibly spread over several records. Rows that are missing failed the optimistic locking check.
+	 *
+	 * @param nodeDescription The node description of the entities to save
+	 * @param updateDecorator Decorates the update of each node, i.e. with changes of dynamic labels
+	 * @return A statement having one parameter
+	 * @since 6.1
+	 */
+	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
+
+		String primaryLabel = nodeDescription.getPrimaryLabel();
+		List<String> additionalLabels = nodeDescription.getAdditionalLabels();
+
+		Node rootNode = node(primaryLabel, additionalLabels).named(Constants.NAME_OF_ROOT_NODE);
+		Node possibleExistingNode = node(primaryLabel, additionalLabels).named("hlp");
+		SymbolicName row = Cypher.name("entity");
+		Expression id = Cypher.property(row, Constants.NAME_OF_ID);
+		Expression properties = Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM);
+		Expression[] writtenRows = { Functions.collect(Cypher.property(row, Constants.NAME_OF_ROW_INDEX))
+				.as(Constants.NAME_OF_ROW_INDEXES), Functions.collect(rootNode.internalId()).as(Constants.NAME_OF_IDS) };
+
+		IdDescription idDescription = nodeDescription.getIdDescription();
+		boolean isVersioned = ((Neo4jPersistentEntity) nodeDescription).hasVersionProperty();
+		Condition versionCondition = isVersioned
+				? rootNode.property(((Neo4jPersistentEntity) nodeDescription).getRequiredVersionProperty().getName())
+						.isEqualTo(Cypher.property(row, Constants.NAME_OF_VERSION_PARAM))
+				: Conditions.noCondition();
+
+		if (!idDescription.isInternallyGeneratedId()) {
+			String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+					.orElseThrow(() -> new MappingException("External id does not correspond to a graph property!"));
+
+			if (!isVersioned) {
+				return updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+						.merge(rootNode.withProperties(nameOfIdProperty, id)).mutate(rootNode, properties))
+						.returning(writtenRows).build();
+			}
+
+			Statement createIfNew = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+					.as(row).optionalMatch(possibleExistingNode)
+					.where(possibleExistingNode.property(nameOfIdProperty).isEqualTo(id))
+					.with(row, possibleExistingNode.getRequiredSymbolicName())
+					.where(possibleExistingNode.isNull()).create(rootNode).set(rootNode, properties))
+					.returning(writtenRows).build();
+
+			Statement updateIfExists = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+					.as(row).match(rootNode).where(rootNode.property(nameOfIdProperty).isEqualTo(id)).and(versionCondition)
+					.mutate(rootNode, properties))
+					.returning(writtenRows).build();
+			return Cypher.unionAll(createIfNew, updateIfExists);
+		}
+
+		Statement createIfNew = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+				.as(row).optionalMatch(possibleExistingNode).where(possibleExistingNode.internalId().isEqualTo(id))
+				.with(row, possibleExistingNode.getRequiredSymbolicName())
+				.where(possibleExistingNode.isNull()).create(rootNode).set(rootNode, properties))
+				.returning(writtenRows).build();
+
+		Statement updateIfExists = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+				.as(row).match(rootNode).where(rootNode.internalId().isEqualTo(id)).and(versionCondition)
+				.mutate(rootNode, properties))
+				.returning(writtenRows).build();
+		return Cypher.unionAll(createIfNew, updateIfExists);
 	}
 
 	@NonNull
@@ -398,6 +644,62 @@ public enum CypherGenerator {
 				.build();
 	}
 
+	/**
+	 * Creates a statement that merges one relationship per row of {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM}
+	 * between the start node identified by {@link Constants#FROM_ID_PARAMETER_NAME} and the end node whose internal
+	 * id is stored in {@link Constants#TO_ID_PARAMETER_NAME} of each row. In case the relationship has properties, they
+	 * are taken from {@link Constants#NAME_OF_PROPERTIES_PARAM} of each row. The internal ids of the relationships are
+	 * returned as {@link Constants#NAME_OF_IDS} in the order of the rows.
+	 *
+	 * @param neo4jPersistentEntity The entity at the start of the relationships
+	 * @param relationship The description of the relationships to save
+	 * @param dynamicRelationshipType The type of the relationships if they are dynamic
+	 * @return A statement having two parameters
+	 * @since 6.1
+	 */
+	@NonNull
+	public Statement prepareSaveOfMultipleRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationship, @Nullable String dynamicRelationshipType) {
+
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds()
+				? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		final Node endNode = anyNode(END_NODE_NAME);
+		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+
+		Parameter idParameter = parameter(Constants.FROM_ID_PARAMETER_NAME);
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+		Relationship relationshipFragment = (relationship.isOutgoing() ?
+				startNode.relationshipTo(endNode, type) :
+				startNode.relationshipFrom(endNode, type)).named(RELATIONSHIP_NAME);
+
+		String row = "relationship";
+		Condition startNodeCondition = neo4jPersistentEntity.isUsingInternalIds()
+				? startNode.internalId().isEqualTo(idParameter)
+				: startNode.property(idPropertyName).isEqualTo(idParameter);
+		Condition endNodeCondition = endNode.internalId().isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME));
+		Expression returnedIds = Functions.collect(Functions.id(relationshipFragment)).as(Constants.NAME_OF_IDS);
+
+		if (relationship.hasRelationshipProperties()) {
+			return match(startNode).where(startNodeCondition)
+					.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)).as(row)
+					.match(endNode).where(endNodeCondition)
+					.merge(relationshipFragment)
+					.mutate(RELATIONSHIP_NAME, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM))
+					.returning(returnedIds)
+					.build();
+		}
+
+		return match(startNode).where(startNodeCondition)
+				.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)).as(row)
+				.match(endNode).where(endNodeCondition)
+				.merge(relationshipFragment)
+				.returning(returnedIds)
+				.build();
+	}
+
 	@NonNull
 	public Statement prepareDeleteOf(
 			Neo4jPersistentEntity<?> neo4jPersistentEntity,
@@ -429,6 +731,48 @@ public enum CypherGenerator {
 				.build();
 	}
 
+	/**
+	 * Creates a statement that deletes the relationships described by {@code relationshipDescription} from the start
+	 * node identified by {@link Constants#FROM_ID_PARAMETER_NAME} to all end nodes whose internal ids are not contained
+	 * in {@link Constants#NAME_OF_KNOWN_RELATED_NODES_PARAM}. Together with the merging of the relationships to the
+	 * known end nodes, this synchronizes the relationships with only the differences being written.
+	 *
+	 * @param neo4jPersistentEntity The entity at the start of the relationships
+	 * @param relationshipDescription The description of the relationships to synchronize, must neither be dynamic nor
+	 *                                have properties
+	 * @return A statement having two parameters
+	 * @since 6.1
+	 */
+	@NonNull
+	public Statement prepareDeleteOfObsoleteRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription) {
+
+		Assert.isTrue(!(relationshipDescription.isDynamic() || relationshipDescription.hasRelationshipProperties()),
+				"Only relationships with a static type and without properties can be synchronized");
+
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		NodeDescription<?> target = relationshipDescription.getTarget();
+		Node endNode = node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME);
+
+		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+
+		String relationshipToRemoveName = "rel";
+		Relationship relationship = relationshipDescription.isOutgoing()
+				? startNode.relationshipTo(endNode, relationshipDescription.getType()).named(relationshipToRemoveName)
+				: startNode.relationshipFrom(endNode, relationshipDescription.getType()).named(relationshipToRemoveName);
+
+		Parameter idParameter = parameter(Constants.FROM_ID_PARAMETER_NAME);
+		return match(relationship)
+				.where(neo4jPersistentEntity.isUsingInternalIds() ? startNode.internalId().isEqualTo(idParameter)
+						: startNode.property(idPropertyName).isEqualTo(idParameter))
+				.and(endNode.internalId().in(parameter(Constants.NAME_OF_KNOWN_RELATED_NODES_PARAM)).not())
+				.delete(relationship.getSymbolicName().get())
+				.build();
+	}
+
 	public Expression[] createReturnStatementForMatch(NodeDescription<?> nodeDescription) {
 		return createReturnStatementForMatch(nodeDescription, Collections.emptyList());
 	}
@@ -470,7 +814,9 @@ public enum CypherGenerator {
 	/**
 	 * @param nodeDescription Description of the root node
 	 * @param includedProperties A list of Java properties of the domain to be included. Those properties are compared with
-	 *          the field names of graph properties respectively relationships.
+	 *          the field names of graph properties respectively relationships. Properties of related nodes can be
+	 *          restricted by a path, {@code friends.name} for example includes only the property {@code name} of the
+	 *          nodes related via {@code friends}.
 	 * @return An expresion to be returned by a Cypher statement
 	 */
 	public Expression[] createReturnStatementForMatch(NodeDescription<?> nodeDescription,
@@ -480,8 +826,7 @@ public enum CypherGenerator {
 		if (nodeDescription.containsPossibleCircles(includedProperties)) {
 			return createGenericReturnStatement();
 		} else {
-			Predicate<String> includeField = s -> includedProperties.isEmpty() || includedProperties.contains(s);
-			return new Expression[]{projectPropertiesAndRelationships(nodeDescription, Constants.NAME_OF_ROOT_NODE, includeField, processedRelationships)};
+			return new Expression[]{projectPropertiesAndRelationships(nodeDescription, Constants.NAME_OF_ROOT_NODE, includedProperties, processedRelationships)};
 		}
 	}
 
@@ -493,47 +838,34 @@ public enum CypherGenerator {
 		return returnExpressions.toArray(new Expression[]{});
 	}
 
-	// recursive entry point for relationships in return statement
-	private MapProjection projectAllPropertiesAndRelationships(NodeDescription<?> nodeDescription, SymbolicName nodeName,
-			List<RelationshipDescription> processedRelationships) {
-
-		Predicate<String> includeAllFields = (field) -> true;
-		// Because we are getting called recursive, there cannot be any circle
-		return projectPropertiesAndRelationships(nodeDescription, nodeName, includeAllFields, processedRelationships);
-	}
-
+	// recursive entry point for relationships in return statement, there cannot be any circle when we get called
 	private MapProjection projectPropertiesAndRelationships(NodeDescription<?> nodeDescription, SymbolicName nodeName,
-			Predicate<String> includedProperties, List<RelationshipDescription> processedRelationships) {
+			List<String> includedProperties, List<RelationshipDescription> processedRelationships) {
 
-		List<Object> propertiesProjection = projectNodeProperties(nodeDescription, nodeName, includedProperties);
+		Predicate<String> includeField = s -> includedProperties.isEmpty() || includedProperties.contains(s);
+		List<Object> propertiesProjection = projectNodeProperties(nodeDescription, nodeName, includeField);
 		List<Object> contentOfProjection = new ArrayList<>(propertiesProjection);
 
-		Collection<RelationshipDescription> relationships = getRelationshipDescriptionsUpAndDown(nodeDescription, includedProperties);
-		relationships.removeIf(r -> !includedProperties.test(r.getFieldName()));
+		Collection<RelationshipDescription> relationships = nodeDescription.getRelationshipsInHierarchy(includedProperties);
 
-		contentOfProjection.addAll(generateListsFor(relationships, nodeName, processedRelationships));
+		contentOfProjection.addAll(generateListsFor(relationships, nodeName, includedProperties, processedRelationships));
 		return Cypher.anyNode(nodeName).project(contentOfProjection);
 	}
 
-	@NonNull
-	static Collection<RelationshipDescription> getRelationshipDescriptionsUpAndDown(NodeDescription<?> nodeDescription,
-			Predicate<String> includedProperties) {
-
-		Collection<RelationshipDescription> relationships = new HashSet<>(nodeDescription.getRelationships());
-		for (NodeDescription<?> childDescription : nodeDescription.getChildNodeDescriptionsInHierarchy()) {
-			childDescription.getRelationships().forEach(concreteRelationship -> {
-
-				String fieldName = concreteRelationship.getFieldName();
+	/**
+	 * Selects the included properties of the nodes related via the given field: {@code friends.name} becomes {@code name}
+	 * for the field {@code friends}. An empty result includes all properties of the related nodes.
+	 */
+	private static List<String> getNestedIncludedProperties(List<String> includedProperties, String fieldName) {
 
-				if (relationships.stream().noneMatch(relationship -> relationship.getFieldName().equals(fieldName))) {
-					relationships.add(concreteRelationship);
-				}
-			});
+		String prefix = fieldName + ".";
+		List<String> nestedIncludedProperties = new ArrayList<>();
+		for (String includedProperty : includedProperties) {
+			if (includedProperty.startsWith(prefix)) {
+				nestedIncludedProperties.add(includedProperty.substring(prefix.length()));
+			}
 		}
-
-		return relationships.stream().filter(relationshipDescription ->
-				includedProperties.test(relationshipDescription.getFieldName()))
-				.collect(Collectors.toSet());
+		return nestedIncludedProperties;
 	}
 
 	private RelationshipPattern createRelationships(Node node, Collection<RelationshipDescription> relationshipDescriptions) {
@@ -660,7 +992,20 @@ public enum CypherGenerator {
 		return relationshipTypes.toArray(new String[0]);
 	}
 
-	private void handleDynamicRelationship(Set<String> relationshipTypes, DefaultRelationshipDescription relationshipDescription) {
+	/**
+	 * An empty array matches relationships of any type, which is needed for dynamic relationships not keyed by an enum.
+	 */
+	private static String[] getTypesOf(RelationshipDescription relationshipDescription) {
+
+		if (!relationshipDescription.isDynamic()) {
+			return new String[] { relationshipDescription.getType() };
+		}
+		Set<String> relationshipTypes = new HashSet<>();
+		handleDynamicRelationship(relationshipTypes, (DefaultRelationshipDescription) relationshipDescription);
+		return relationshipTypes.toArray(new String[0]);
+	}
+
+	private static void handleDynamicRelationship(Set<String> relationshipTypes, DefaultRelationshipDescription relationshipDescription) {
 		Class<?> componentType = relationshipDescription.getInverse().getComponentType();
 		if (componentType != null && componentType.isEnum()) {
 			Arrays.stream(componentType.getEnumConstants())
@@ -724,7 +1069,7 @@ public enum CypherGenerator {
 	 * @see CypherGenerator#projectNodeProperties
 	 */
 	private List<Object> generateListsFor(Collection<RelationshipDescription> relationships, SymbolicName nodeName,
-			List<RelationshipDescription> processedRelationships) {
+			List<String> includedProperties, List<RelationshipDescription> processedRelationships) {
 
 		List<Object> mapProjectionLists = new ArrayList<>();
 
@@ -739,14 +1084,16 @@ public enum CypherGenerator {
 				continue;
 			}
 
-			generateListFor(relationshipDescription, nodeName, processedRelationships, fieldName, mapProjectionLists);
+			generateListFor(relationshipDescription, nodeName, processedRelationships, fieldName,
+					getNestedIncludedProperties(includedProperties, fieldName), mapProjectionLists);
 		}
 
 		return mapProjectionLists;
 	}
 
 	private void generateListFor(RelationshipDescription relationshipDescription, SymbolicName nodeName,
-			List<RelationshipDescription> processedRelationships, String fieldName, List<Object> mapProjectionLists) {
+			List<RelationshipDescription> processedRelationships, String fieldName, List<String> includedProperties,
+			List<Object> mapProjectionLists) {
 
 		String relationshipType = relationshipDescription.getType();
 		String relationshipTargetName = relationshipDescription.generateRelatedNodesCollectionName(relationshipDescription.getSource());
@@ -768,8 +1115,8 @@ public enum CypherGenerator {
 					: startNode.relationshipFrom(endNode);
 			relationship = relationship.named(relationshipTargetName);
 
-			MapProjection mapProjection = projectAllPropertiesAndRelationships(endNodeDescription, relationshipFieldName,
-					new ArrayList<>(processedRelationships));
+			MapProjection mapProjection = projectPropertiesAndRelationships(endNodeDescription, relationshipFieldName,
+					includedProperties, new ArrayList<>(processedRelationships));
 
 			if (relationshipDescription.hasRelationshipProperties()) {
 				relationship = relationship.named(relationshipSymbolicName);
@@ -786,8 +1133,8 @@ public enum CypherGenerator {
 					? startNode.relationshipTo(endNode, relationshipType)
 					: startNode.relationshipFrom(endNode, relationshipType);
 
-			MapProjection mapProjection = projectAllPropertiesAndRelationships(endNodeDescription, relationshipFieldName,
-					new ArrayList<>(processedRelationships));
+			MapProjection mapProjection = projectPropertiesAndRelationships(endNodeDescription, relationshipFieldName,
+					includedProperties, new ArrayList<>(processedRelationships));
 
 			if (relationshipDescription.hasRelationshipProperties()) {
 				relationship = relationship.named(relationshipSymbolicName);
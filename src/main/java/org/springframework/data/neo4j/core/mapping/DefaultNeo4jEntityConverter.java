@@ -18,19 +18,18 @@ package org.springframework.data.neo4j.core.mapping;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
@@ -41,15 +40,12 @@ import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.Type;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.CollectionFactory;
-import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
-import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -67,25 +63,36 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	private final EntityInstantiators entityInstantiators;
 	private final NodeDescriptionStore nodeDescriptionStore;
 	private final Neo4jConversionService conversionService;
+	private final Map<Neo4jPersistentEntity<?>, EntityMappingPlan> mappingPlans;
+	@Nullable private final EntitySnapshots entitySnapshots;
 
 	private final KnownObjects knownObjects = new KnownObjects();
 
+	/**
+	 * Index over the record currently being mapped, see {@link #getRecordIndex(MapAccessor)}.
+	 */
+	@Nullable private RecordIndex recordIndex;
+
 	private final Type nodeType;
 	private final Type relationshipType;
 	private final Type mapType;
 	private final Type listType;
 
 	DefaultNeo4jEntityConverter(EntityInstantiators entityInstantiators, Neo4jConversionService conversionService,
-			NodeDescriptionStore nodeDescriptionStore, TypeSystem typeSystem) {
+			NodeDescriptionStore nodeDescriptionStore, Map<Neo4jPersistentEntity<?>, EntityMappingPlan> mappingPlans,
+			@Nullable EntitySnapshots entitySnapshots, TypeSystem typeSystem) {
 
 		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null!");
 		Assert.notNull(conversionService, "Neo4jConversionService must not be null!");
 		Assert.notNull(nodeDescriptionStore, "NodeDescriptionStore must not be null!");
+		Assert.notNull(mappingPlans, "Mapping plans must not be null!");
 		Assert.notNull(typeSystem, "TypeSystem must not be null!");
 
 		this.entityInstantiators = entityInstantiators;
 		this.conversionService = conversionService;
 		this.nodeDescriptionStore = nodeDescriptionStore;
+		this.mappingPlans = mappingPlans;
+		this.entitySnapshots = entitySnapshots;
 
 		this.nodeType = typeSystem.NODE();
 		this.relationshipType = typeSystem.RELATIONSHIP();
@@ -165,46 +172,74 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return target;
 	}
 
+	/**
+	 * Plans are computed once per entity and shared between all converters of a mapping context.
+	 *
+	 * @param nodeDescription The entity to read or write
+	 * @return The mapping plan for the given entity
+	 */
+	private EntityMappingPlan getMappingPlan(Neo4jPersistentEntity<?> nodeDescription) {
+		return mappingPlans.computeIfAbsent(nodeDescription, EntityMappingPlan::of);
+	}
+
 	@Override
 	public void write(Object source, Map<String, Object> parameters) {
-		Map<String, Object> properties = new HashMap<>();
 
 		Neo4jPersistentEntity<?> nodeDescription = (Neo4jPersistentEntity<?>) nodeDescriptionStore
 				.getNodeDescription(source.getClass());
+		EntityMappingPlan mappingPlan = getMappingPlan(nodeDescription);
 
 		PersistentPropertyAccessor propertyAccessor = nodeDescription.getPropertyAccessor(source);
-		nodeDescription.doWithProperties((Neo4jPersistentProperty p) -> {
-
-			// Skip the internal properties, we don't want them to end up stored as properties
-			if (p.isInternalIdProperty() || p.isDynamicLabels() || p.isEntity()) {
-				return;
-			}
-
-			final Value value = conversionService.writeValue(propertyAccessor.getProperty(p), p.getTypeInformation(), p.getOptionalWritingConverter());
-			if (p.isComposite()) {
-				value.keys().forEach(k -> properties.put(k, value.get(k)));
-			} else {
-				properties.put(p.getPropertyName(), value);
-			}
-		});
+		Map<String, Object> properties = writeProperties(mappingPlan, propertyAccessor);
 
 		parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, properties);
 
 		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasIdProperty()) {
-			Neo4jPersistentProperty idProperty = nodeDescription.getRequiredIdProperty();
-			parameters.put(Constants.NAME_OF_ID,
-					conversionService.writeValue(propertyAccessor.getProperty(idProperty), idProperty.getTypeInformation(), idProperty.getOptionalWritingConverter()));
+		EntityMappingPlan.PropertyPlan idProperty = mappingPlan.getIdProperty();
+		if (idProperty != null) {
+			parameters.put(Constants.NAME_OF_ID, writeValue(idProperty, propertyAccessor));
 		}
 		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasVersionProperty()) {
-			Long versionProperty = (Long) propertyAccessor.getProperty(nodeDescription.getRequiredVersionProperty());
+		if (mappingPlan.getVersionProperty() != null) {
+			Long versionProperty = (Long) propertyAccessor.getProperty(mappingPlan.getVersionProperty());
 
 			// we incremented this upfront the persist operation so the matching version would be one "before"
 			parameters.put(Constants.NAME_OF_VERSION_PARAM, versionProperty - 1);
 		}
 	}
 
+	private Map<String, Object> writeProperties(EntityMappingPlan mappingPlan,
+			PersistentPropertyAccessor<?> propertyAccessor) {
+
+		List<EntityMappingPlan.PropertyPlan> writtenProperties = mappingPlan.getWrittenProperties();
+		Map<String, Object> properties = new HashMap<>((int) (writtenProperties.size() / 0.75f) + 1);
+
+		for (EntityMappingPlan.PropertyPlan propertyPlan : writtenProperties) {
+
+			Value value = writeValue(propertyPlan, propertyAccessor);
+			if (propertyPlan.getKind() == EntityMappingPlan.Kind.COMPOSITE) {
+				for (String key : value.keys()) {
+					properties.put(key, value.get(key));
+				}
+			} else {
+				properties.put(propertyPlan.getGraphPropertyName(), value);
+			}
+		}
+		return properties;
+	}
+
+	private Value writeValue(EntityMappingPlan.PropertyPlan propertyPlan, PersistentPropertyAccessor<?> propertyAccessor) {
+		return conversionService.writeValue(propertyAccessor.getProperty(propertyPlan.getProperty()),
+				propertyPlan.getTypeInformation(), propertyPlan.getWritingConverter());
+	}
+
+	@Nullable
+	private Object readValue(EntityMappingPlan.PropertyPlan propertyPlan, MapAccessor propertyContainer,
+			TypeInformation<?> targetType) {
+		return conversionService.readValue(extractValueOf(propertyPlan, propertyContainer), targetType,
+				propertyPlan.getReadingConverter());
+	}
+
 	/**
 	 * Merges the root node of a query and the remaining record into one map, adding the internal ID of the node, too.
 	 * Merge happens only when the record contains additional values.
@@ -243,40 +278,39 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		Supplier<Object> mappedObjectSupplier = () -> {
 
 			List<String> allLabels = getLabels(queryResult, nodeDescription);
-			NodeDescriptionAndLabels nodeDescriptionAndLabels = NodeDescriptionStore
+			NodeDescriptionAndLabels nodeDescriptionAndLabels = nodeDescriptionStore
 					.deriveConcreteNodeDescription(nodeDescription, allLabels);
 			Neo4jPersistentEntity<ET> concreteNodeDescription = (Neo4jPersistentEntity<ET>) nodeDescriptionAndLabels
 					.getNodeDescription();
+			EntityMappingPlan mappingPlan = getMappingPlan(concreteNodeDescription);
 
-			Predicate<String> includeAllFields = (field) -> true;
-
-			Collection<RelationshipDescription> relationships = CypherGenerator
-					.getRelationshipDescriptionsUpAndDown(nodeDescription, includeAllFields);
+			Collection<RelationshipDescription> relationships = nodeDescription
+					.getRelationshipsInHierarchy(Collections.emptyList());
 
-			ET instance = instantiate(concreteNodeDescription, queryResult, allValues, relationships,
+			ET instance = instantiate(concreteNodeDescription, mappingPlan, queryResult, allValues, relationships,
 					nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity);
 
 			PersistentPropertyAccessor<ET> propertyAccessor = concreteNodeDescription.getPropertyAccessor(instance);
 
-			if (concreteNodeDescription.requiresPropertyPopulation()) {
+			if (mappingPlan.requiresPropertyPopulation()) {
 
 				// Fill simple properties
-				Predicate<Neo4jPersistentProperty> isConstructorParameter = concreteNodeDescription
-						.getPersistenceConstructor()::isConstructorParameter;
-				PropertyHandler<Neo4jPersistentProperty> handler = populateFrom(queryResult, propertyAccessor,
-						isConstructorParameter, nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity);
-				concreteNodeDescription.doWithProperties(handler);
+				populateProperties(mappingPlan, queryResult, propertyAccessor, nodeDescriptionAndLabels.getDynamicLabels(),
+						lastMappedEntity);
 
 				// in a cyclic graph / with bidirectional relationships, we could end up in a state in which we
 				// reference the start again. Because it is getting still constructed, it won't be in the knownObjects
 				// store unless we temporarily put it there.
 				knownObjects.storeObject(internalId, instance);
 				// Fill associations
-				concreteNodeDescription.doWithAssociations(
-						populateFrom(queryResult, allValues, propertyAccessor, isConstructorParameter, relationships));
+				populateAssociations(mappingPlan, queryResult, allValues, propertyAccessor, relationships);
 			}
 			ET bean = propertyAccessor.getBean();
 
+			if (entitySnapshots != null && internalId != null) {
+				recordSnapshot(bean, internalId, mappingPlan, propertyAccessor);
+			}
+
 			// save final state of the bean
 			knownObjects.storeObject(internalId, bean);
 			return bean;
@@ -290,6 +324,18 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return (ET) mappedObject;
 	}
 
+	private void recordSnapshot(Object bean, Long internalId, EntityMappingPlan mappingPlan,
+			PersistentPropertyAccessor<?> propertyAccessor) {
+
+		Map<String, Collection<?>> relatedValues = new HashMap<>();
+		for (EntityMappingPlan.PropertyPlan propertyPlan : mappingPlan.getPlainAssociations()) {
+			Neo4jPersistentProperty property = propertyPlan.getProperty();
+			relatedValues.put(property.getName(),
+					MappingSupport.unifyRelationshipValue(property, propertyAccessor.getProperty(property)));
+		}
+		entitySnapshots.record(bean, internalId, writeProperties(mappingPlan, propertyAccessor), relatedValues);
+	}
+
 	@Nullable
 	private Long getInternalId(@NonNull MapAccessor queryResult) {
 		return queryResult instanceof Node
@@ -320,65 +366,62 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return labels;
 	}
 
-	private <ET> ET instantiate(Neo4jPersistentEntity<ET> nodeDescription, MapAccessor values, MapAccessor allValues,
-			Collection<RelationshipDescription> relationships, Collection<String> surplusLabels,
-			Object lastMappedEntity) {
+	private <ET> ET instantiate(Neo4jPersistentEntity<ET> nodeDescription, EntityMappingPlan mappingPlan,
+			MapAccessor values, MapAccessor allValues, Collection<RelationshipDescription> relationships,
+			Collection<String> surplusLabels, Object lastMappedEntity) {
 
 		ParameterValueProvider<Neo4jPersistentProperty> parameterValueProvider = new ParameterValueProvider<Neo4jPersistentProperty>() {
 			@Override
 			public Object getParameterValue(PreferredConstructor.Parameter parameter) {
 
-				Neo4jPersistentProperty matchingProperty = nodeDescription.getRequiredPersistentProperty(parameter.getName());
-
-				if (matchingProperty.isRelationship()) {
-					return createInstanceOfRelationships(matchingProperty, values, allValues, relationships).orElse(null);
-				} else if (matchingProperty.isDynamicLabels()) {
-					return createDynamicLabelsProperty(matchingProperty.getTypeInformation(), surplusLabels);
-				} else if (matchingProperty.isEntityWithRelationshipProperties()) {
-					return lastMappedEntity;
+				EntityMappingPlan.PropertyPlan matchingProperty = mappingPlan.getRequiredProperty(parameter.getName());
+
+				switch (matchingProperty.getKind()) {
+					case RELATIONSHIP:
+						return createInstanceOfRelationships(matchingProperty.getProperty(), values, allValues, relationships).orElse(null);
+					case DYNAMIC_LABELS:
+						return createDynamicLabelsProperty(matchingProperty.getTypeInformation(), surplusLabels);
+					case TARGET_NODE:
+					case RELATIONSHIP_PROPERTIES_ENTITY:
+						return lastMappedEntity;
+					default:
+						return readValue(matchingProperty, values, parameter.getType());
 				}
-				return conversionService.readValue(extractValueOf(matchingProperty, values), parameter.getType(), matchingProperty.getOptionalReadingConverter());
 			}
 		};
 
 		return entityInstantiators.getInstantiatorFor(nodeDescription).createInstance(nodeDescription, parameterValueProvider);
 	}
 
-	private PropertyHandler<Neo4jPersistentProperty> populateFrom(MapAccessor queryResult,
-			PersistentPropertyAccessor<?> propertyAccessor, Predicate<Neo4jPersistentProperty> isConstructorParameter,
-			Collection<String> surplusLabels, Object targetNode) {
-		return property -> {
-			if (isConstructorParameter.test(property)) {
-				return;
-			}
+	private void populateProperties(EntityMappingPlan mappingPlan, MapAccessor queryResult,
+			PersistentPropertyAccessor<?> propertyAccessor, Collection<String> surplusLabels, Object targetNode) {
 
-			if (property.isDynamicLabels()) {
+		for (EntityMappingPlan.PropertyPlan propertyPlan : mappingPlan.getPopulatedProperties()) {
+
+			Neo4jPersistentProperty property = propertyPlan.getProperty();
+			if (propertyPlan.getKind() == EntityMappingPlan.Kind.DYNAMIC_LABELS) {
 				propertyAccessor.setProperty(property,
-						createDynamicLabelsProperty(property.getTypeInformation(), surplusLabels));
-			} else if (property.isAnnotationPresent(TargetNode.class)) {
+						createDynamicLabelsProperty(propertyPlan.getTypeInformation(), surplusLabels));
+			} else if (propertyPlan.getKind() == EntityMappingPlan.Kind.TARGET_NODE) {
 				if (queryResult instanceof Relationship) {
 					propertyAccessor.setProperty(property, targetNode);
 				}
 			} else {
 				propertyAccessor.setProperty(property,
-						conversionService.readValue(extractValueOf(property, queryResult), property.getTypeInformation(), property.getOptionalReadingConverter()));
+						readValue(propertyPlan, queryResult, propertyPlan.getTypeInformation()));
 			}
-		};
+		}
 	}
 
-	private AssociationHandler<Neo4jPersistentProperty> populateFrom(MapAccessor queryResult, MapAccessor allValues,
-			PersistentPropertyAccessor<?> propertyAccessor, Predicate<Neo4jPersistentProperty> isConstructorParameter,
-			Collection<RelationshipDescription> relationshipDescriptions) {
-		return association -> {
+	private void populateAssociations(EntityMappingPlan mappingPlan, MapAccessor queryResult, MapAccessor allValues,
+			PersistentPropertyAccessor<?> propertyAccessor, Collection<RelationshipDescription> relationshipDescriptions) {
 
-			Neo4jPersistentProperty persistentProperty = association.getInverse();
-			if (isConstructorParameter.test(persistentProperty)) {
-				return;
-			}
+		for (EntityMappingPlan.PropertyPlan propertyPlan : mappingPlan.getPopulatedAssociations()) {
 
+			Neo4jPersistentProperty persistentProperty = propertyPlan.getProperty();
 			createInstanceOfRelationships(persistentProperty, queryResult, allValues, relationshipDescriptions)
 					.ifPresent(value -> propertyAccessor.setProperty(persistentProperty, value));
-		};
+		}
 	}
 
 	private Optional<Object> createInstanceOfRelationships(Neo4jPersistentProperty persistentProperty, MapAccessor values,
@@ -395,7 +438,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				.getTarget();
 
 		List<String> allLabels = getLabels(values, null);
-		NodeDescriptionAndLabels nodeDescriptionAndLabels = NodeDescriptionStore
+		NodeDescriptionAndLabels nodeDescriptionAndLabels = nodeDescriptionStore
 				.deriveConcreteNodeDescription(genericTargetNodeDescription, allLabels);
 		Neo4jPersistentEntity<?> concreteTargetNodeDescription = (Neo4jPersistentEntity<?>) nodeDescriptionAndLabels
 				.getNodeDescription();
@@ -433,48 +476,27 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 		if (Values.NULL.equals(list)) {
 
-			Collection<Relationship> allMatchingTypeRelationshipsInResult = new ArrayList<>();
-			Collection<Node> allNodesWithMatchingLabelInResult = new ArrayList<>();
-
-			// Grab everything else
-			StreamSupport.stream(allValues.values().spliterator(), false)
-					.filter(MappingSupport.isListContainingOnly(listType, this.relationshipType))
-					.flatMap(entry -> entry.asList(Value::asRelationship).stream())
-					.filter(r -> r.type().equals(typeOfRelationship) || relationshipDescription.isDynamic())
-					.forEach(allMatchingTypeRelationshipsInResult::add);
-
-			StreamSupport.stream(allValues.values().spliterator(), false)
-					.filter(MappingSupport.isListContainingOnly(listType, this.nodeType))
-					.flatMap(entry -> entry.asList(Value::asNode).stream())
-					.filter(n -> n.hasLabel(targetLabel)).collect(Collectors.toList())
-					.forEach(allNodesWithMatchingLabelInResult::add);
-
-			if (allNodesWithMatchingLabelInResult.isEmpty() || allMatchingTypeRelationshipsInResult.isEmpty()) {
+			RecordIndex index = getRecordIndex(allValues);
+			if (!index.containsNodeWithLabel(targetLabel)
+					|| !index.containsRelationship(relationshipDescription.isDynamic() ? null : typeOfRelationship)) {
 				return Optional.empty();
 			}
 
-			Function<Relationship, Long> targetIdSelector = relationshipDescription.isIncoming() ? Relationship::startNodeId : Relationship::endNodeId;
-			Function<Relationship, Long> sourceIdSelector = relationshipDescription.isIncoming() ? Relationship::endNodeId : Relationship::startNodeId;
 			Long sourceNodeId = getInternalId(values);
-			for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
-				long targetNodeId = possibleValueNode.id();
-
-				for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-					if (targetIdSelector.apply(possibleRelationship) == targetNodeId && sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId)) {
-						Object mappedObject = map(possibleValueNode, allValues, concreteTargetNodeDescription);
-						if (relationshipDescription.hasRelationshipProperties()) {
-
-							Object relationshipProperties = map(possibleRelationship, allValues,
-									(Neo4jPersistentEntity) relationshipDescription.getRelationshipPropertiesEntity(),
-									mappedObject);
-							relationshipsAndProperties.add(relationshipProperties);
-							mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
-						} else {
-							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
-						}
-						allMatchingTypeRelationshipsInResult.remove(possibleRelationship);
-						break;
-					}
+			for (RelatedNode relatedNode : index.findRelatedNodes(sourceNodeId, relationshipDescription.isIncoming(),
+					relationshipDescription.isDynamic() ? null : typeOfRelationship, targetLabel)) {
+
+				Relationship possibleRelationship = relatedNode.getRelationship();
+				Object mappedObject = map(relatedNode.getNode(), allValues, concreteTargetNodeDescription);
+				if (relationshipDescription.hasRelationshipProperties()) {
+
+					Object relationshipProperties = map(possibleRelationship, allValues,
+							(Neo4jPersistentEntity) relationshipDescription.getRelationshipPropertiesEntity(),
+							mappedObject);
+					relationshipsAndProperties.add(relationshipProperties);
+					mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
+				} else {
+					mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 				}
 			}
 		} else {
@@ -516,12 +538,29 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		}
 	}
 
-	private static Value extractValueOf(Neo4jPersistentProperty property, MapAccessor propertyContainer) {
-		if (property.isInternalIdProperty()) {
+	/**
+	 * The index is built once per record, when the first relationship has to be resolved from the lists of nodes and
+	 * relationships of a generic query, and is reused while all entities of the record are mapped.
+	 *
+	 * @param allValues The complete record
+	 * @return An index over the nodes and relationships of the record
+	 */
+	private RecordIndex getRecordIndex(MapAccessor allValues) {
+
+		RecordIndex index = this.recordIndex;
+		if (index == null || index.record != allValues) {
+			index = new RecordIndex(allValues, listType, nodeType, relationshipType);
+			this.recordIndex = index;
+		}
+		return index;
+	}
+
+	private static Value extractValueOf(EntityMappingPlan.PropertyPlan propertyPlan, MapAccessor propertyContainer) {
+		if (propertyPlan.getKind() == EntityMappingPlan.Kind.INTERNAL_ID) {
 			return propertyContainer instanceof Entity ? Values.value(((Entity) propertyContainer).id())
 					: propertyContainer.get(Constants.NAME_OF_INTERNAL_ID);
-		} else if (property.isComposite()) {
-			String prefix = property.computePrefixWithDelimiter();
+		} else if (propertyPlan.getKind() == EntityMappingPlan.Kind.COMPOSITE) {
+			String prefix = propertyPlan.getCompositePrefix();
 
 			if (propertyContainer.containsKey(Constants.NAME_OF_ALL_PROPERTIES)) {
 				return extractCompositePropertyValues(propertyContainer.get(Constants.NAME_OF_ALL_PROPERTIES), prefix);
@@ -529,8 +568,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				return extractCompositePropertyValues(propertyContainer, prefix);
 			}
 		} else {
-			String graphPropertyName = property.getPropertyName();
-			return propertyContainer.get(graphPropertyName);
+			return propertyContainer.get(propertyPlan.getGraphPropertyName());
 		}
 	}
 
@@ -544,24 +582,22 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return Values.value(hlp);
 	}
 
+	/**
+	 * An identity map from internal ids to already mapped objects. It is scoped to one instance of the converter, which
+	 * in turn is scoped to one query respectively one stream of records (see
+	 * {@link Schema#getRequiredMappingFunctionFor(Class)}), so that it is eligible for garbage collection together with
+	 * the mapping function. Records of one stream are mapped one after another, so there is no need for explicit locking
+	 * on the hot mapping path.
+	 */
 	static class KnownObjects {
 
-		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-		private final Lock read = lock.readLock();
-		private final Lock write = lock.writeLock();
-
-		private final Map<Long, Object> internalIdStore = new HashMap<>();
+		private final Map<Long, Object> internalIdStore = new ConcurrentHashMap<>();
 
 		private void storeObject(@Nullable Long internalId, Object object) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				internalIdStore.put(internalId, object);
-			} finally {
-				write.unlock();
-			}
+			internalIdStore.put(internalId, object);
 		}
 
 		@Nullable
@@ -569,20 +605,130 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			if (internalId == null) {
 				return null;
 			}
-			try {
+			return internalIdStore.get(internalId);
+		}
+	}
+
+	/**
+	 * An index over all nodes and relationships contained in lists of a record, as returned by the generic queries for
+	 * domains containing possible circles. It allows to find the nodes related to a mapped node without scanning the
+	 * whole record for each association of each mapped node.
+	 */
+	static final class RecordIndex {
+
+		private final MapAccessor record;
+
+		private final Map<Long, Node> nodesById = new HashMap<>();
+
+		/**
+		 * Position of the first occurrence of a node in the record.
+		 */
+		private final Map<Long, Integer> nodePositions = new HashMap<>();
+
+		private final Set<String> labels = new HashSet<>();
+
+		private final Map<Long, List<Relationship>> relationshipsByStartNode = new HashMap<>();
 
-				read.lock();
+		private final Map<Long, List<Relationship>> relationshipsByEndNode = new HashMap<>();
 
-				Object knownEntity = internalIdStore.get(internalId);
+		private final Set<String> relationshipTypes = new HashSet<>();
 
-				if (knownEntity != null) {
-					return knownEntity;
+		RecordIndex(MapAccessor record, Type listType, Type nodeType, Type relationshipType) {
+
+			this.record = record;
+
+			Predicate<Value> isListOfNodes = MappingSupport.isListContainingOnly(listType, nodeType);
+			Predicate<Value> isListOfRelationships = MappingSupport.isListContainingOnly(listType, relationshipType);
+			for (Value value : record.values()) {
+				if (isListOfNodes.test(value)) {
+					for (Value entry : value.values()) {
+						Node node = entry.asNode();
+						if (nodesById.putIfAbsent(node.id(), node) == null) {
+							nodePositions.put(node.id(), nodePositions.size());
+							node.labels().forEach(labels::add);
+						}
+					}
+				} else if (isListOfRelationships.test(value)) {
+					for (Value entry : value.values()) {
+						Relationship relationship = entry.asRelationship();
+						relationshipsByStartNode.computeIfAbsent(relationship.startNodeId(), id -> new ArrayList<>())
+								.add(relationship);
+						relationshipsByEndNode.computeIfAbsent(relationship.endNodeId(), id -> new ArrayList<>())
+								.add(relationship);
+						relationshipTypes.add(relationship.type());
+					}
 				}
+			}
+		}
+
+		boolean containsNodeWithLabel(String label) {
+			return labels.contains(label);
+		}
+
+		/**
+		 * @param type The type of the relationship or {@literal null} for any type
+		 * @return True if the record contains at least one matching relationship
+		 */
+		boolean containsRelationship(@Nullable String type) {
+			return type == null ? !relationshipTypes.isEmpty() : relationshipTypes.contains(type);
+		}
+
+		/**
+		 * Finds the nodes with the given label that are related to the source node. Each node is returned only once,
+		 * together with the first matching relationship, in the order of the nodes in the record.
+		 *
+		 * @param sourceNodeId The id of the node the relationships are defined on
+		 * @param incoming True if the relationships point towards the source node
+		 * @param type The type of the relationships or {@literal null} for any type
+		 * @param targetLabel The label of the related nodes
+		 * @return The related nodes and their relationships
+		 */
+		List<RelatedNode> findRelatedNodes(@Nullable Long sourceNodeId, boolean incoming, @Nullable String type,
+				String targetLabel) {
+
+			List<Relationship> candidates = sourceNodeId == null ? null
+					: (incoming ? relationshipsByEndNode : relationshipsByStartNode).get(sourceNodeId);
+			if (candidates == null) {
+				return Collections.emptyList();
+			}
 
-			} finally {
-				read.unlock();
+			Set<Long> relatedNodeIds = new HashSet<>();
+			List<RelatedNode> relatedNodes = new ArrayList<>();
+			for (Relationship relationship : candidates) {
+				if (type != null && !type.equals(relationship.type())) {
+					continue;
+				}
+				long targetNodeId = incoming ? relationship.startNodeId() : relationship.endNodeId();
+				Node node = nodesById.get(targetNodeId);
+				if (node != null && node.hasLabel(targetLabel) && relatedNodeIds.add(targetNodeId)) {
+					relatedNodes.add(new RelatedNode(node, relationship, nodePositions.get(targetNodeId)));
+				}
 			}
-			return null;
+			relatedNodes.sort(Comparator.comparingInt(relatedNode -> relatedNode.position));
+			return relatedNodes;
+		}
+	}
+
+	static final class RelatedNode {
+
+		private final Node node;
+
+		private final Relationship relationship;
+
+		private final int position;
+
+		RelatedNode(Node node, Relationship relationship, int position) {
+			this.node = node;
+			this.relationship = relationship;
+			this.position = position;
+		}
+
+		Node getNode() {
+			return node;
+		}
+
+		Relationship getRelationship() {
+			return relationship;
 		}
 	}
 }
@@ -22,10 +22,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -92,6 +94,22 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	private final Lazy<Boolean> isRelationshipPropertiesEntity;
 
+	/*
+	 * The following metadata is derived from the associations of this entity, of its children and of related entities.
+	 * It is memoized once requested and dropped when associations or children are added, which only happens while the
+	 * mapping context is initialized.
+	 */
+
+	@Nullable private volatile Collection<RelationshipDescription> relationships;
+
+	@Nullable private volatile Set<NodeDescription<?>> childNodeDescriptionsInHierarchy;
+
+	@Nullable private volatile Collection<GraphPropertyDescription> graphPropertiesInHierarchy;
+
+	private final Map<List<String>, Collection<RelationshipDescription>> relationshipsInHierarchy = new ConcurrentHashMap<>();
+
+	private final Map<List<String>, Boolean> possibleCircles = new ConcurrentHashMap<>();
+
 	DefaultNeo4jPersistentEntity(TypeInformation<T> information) {
 		super(information);
 
@@ -409,13 +427,35 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 		return IdDescription.forExternallyGeneratedIds(idGeneratorClass, idGeneratorRef, propertyName);
 	}
 
+	@Override
+	public void addAssociation(Association<Neo4jPersistentProperty> association) {
+		super.addAssociation(association);
+		invalidateMemoizedMetadata();
+	}
+
 	@Override
 	public Collection<RelationshipDescription> getRelationships() {
 
-		final List<RelationshipDescription> relationships = new ArrayList<>();
-		this.doWithAssociations(
-				(Association<Neo4jPersistentProperty> association) -> relationships.add((RelationshipDescription) association));
-		return Collections.unmodifiableCollection(relationships);
+		Collection<RelationshipDescription> result = this.relationships;
+		if (result == null) {
+			final List<RelationshipDescription> computedRelationships = new ArrayList<>();
+			this.doWithAssociations((Association<Neo4jPersistentProperty> association) -> computedRelationships
+					.add((RelationshipDescription) association));
+			result = Collections.unmodifiableCollection(computedRelationships);
+			this.relationships = result;
+		}
+		return result;
+	}
+
+	@Override
+	public Collection<RelationshipDescription> getRelationshipsInHierarchy(List<String> includedProperties) {
+
+		Collection<RelationshipDescription> result = relationshipsInHierarchy.get(includedProperties);
+		if (result == null) {
+			result = Collections.unmodifiableCollection(Neo4jPersistentEntity.super.getRelationshipsInHierarchy(includedProperties));
+			relationshipsInHierarchy.put(Collections.unmodifiableList(new ArrayList<>(includedProperties)), result);
+		}
+		return result;
 	}
 
 	private Collection<GraphPropertyDescription> computeGraphProperties() {
@@ -430,31 +470,59 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 	@Override
 	public Collection<GraphPropertyDescription> getGraphPropertiesInHierarchy() {
 
-		TreeSet<GraphPropertyDescription> allPropertiesInHierarchy = new TreeSet<>(
-				Comparator.comparing(GraphPropertyDescription::getPropertyName));
+		Collection<GraphPropertyDescription> result = this.graphPropertiesInHierarchy;
+		if (result == null) {
+			TreeSet<GraphPropertyDescription> allPropertiesInHierarchy = new TreeSet<>(
+					Comparator.comparing(GraphPropertyDescription::getPropertyName));
 
-		allPropertiesInHierarchy.addAll(getGraphProperties());
-		for (NodeDescription<?> childNodeDescription : getChildNodeDescriptionsInHierarchy()) {
-			Collection<GraphPropertyDescription> childGraphProperties = childNodeDescription.getGraphProperties();
-			allPropertiesInHierarchy.addAll(childGraphProperties);
+			allPropertiesInHierarchy.addAll(getGraphProperties());
+			for (NodeDescription<?> childNodeDescription : getChildNodeDescriptionsInHierarchy()) {
+				Collection<GraphPropertyDescription> childGraphProperties = childNodeDescription.getGraphProperties();
+				allPropertiesInHierarchy.addAll(childGraphProperties);
+			}
+			result = Collections.unmodifiableSortedSet(allPropertiesInHierarchy);
+			this.graphPropertiesInHierarchy = result;
 		}
-
-		return allPropertiesInHierarchy;
+		return result;
 	}
 
 	@Override
 	public void addChildNodeDescription(NodeDescription<?> child) {
 		this.childNodeDescriptions.add(child);
+		invalidateMemoizedMetadata();
 	}
 
 	@Override
 	public Set<NodeDescription<?>> getChildNodeDescriptionsInHierarchy() {
-		Set<NodeDescription<?>> childNodes = new HashSet<>(childNodeDescriptions);
 
-		for (NodeDescription<?> childNodeDescription : childNodeDescriptions) {
-			childNodes.addAll(childNodeDescription.getChildNodeDescriptionsInHierarchy());
+		Set<NodeDescription<?>> result = this.childNodeDescriptionsInHierarchy;
+		if (result == null) {
+			Set<NodeDescription<?>> childNodes = new HashSet<>(childNodeDescriptions);
+
+			for (NodeDescription<?> childNodeDescription : childNodeDescriptions) {
+				childNodes.addAll(childNodeDescription.getChildNodeDescriptionsInHierarchy());
+			}
+			result = Collections.unmodifiableSet(childNodes);
+			this.childNodeDescriptionsInHierarchy = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Drops all memoized metadata of this entity and of its parents, as the metadata of the parents includes the
+	 * metadata of their children.
+	 */
+	private void invalidateMemoizedMetadata() {
+
+		this.relationships = null;
+		this.childNodeDescriptionsInHierarchy = null;
+		this.graphPropertiesInHierarchy = null;
+		this.relationshipsInHierarchy.clear();
+		this.possibleCircles.clear();
+
+		if (parentNodeDescription instanceof DefaultNeo4jPersistentEntity) {
+			((DefaultNeo4jPersistentEntity<?>) parentNodeDescription).invalidateMemoizedMetadata();
 		}
-		return childNodes;
 	}
 
 	@Override
@@ -469,7 +537,13 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	@Override
 	public boolean containsPossibleCircles(List<String> includedProperties) {
-		return calculatePossibleCircles(includedProperties);
+
+		Boolean result = possibleCircles.get(includedProperties);
+		if (result == null) {
+			result = calculatePossibleCircles(includedProperties);
+			possibleCircles.put(Collections.unmodifiableList(new ArrayList<>(includedProperties)), result);
+		}
+		return result;
 	}
 
 	private boolean calculatePossibleCircles(List<String> includedProperties) {
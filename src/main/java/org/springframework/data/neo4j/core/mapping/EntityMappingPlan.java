@@ -0,0 +1,257 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * An immutable plan how to read and write instances of one {@link Neo4jPersistentEntity}. The plan is computed once per
+ * entity and captures everything {@link DefaultNeo4jEntityConverter} would otherwise derive for every single instance
+ * from the metadata: The order of the properties, their kind, their graph property names, the prefixes of composite
+ * properties, resolved custom converters and which properties are populated through the constructor.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class EntityMappingPlan {
+
+	/**
+	 * How a property is read or written.
+	 */
+	enum Kind {
+		INTERNAL_ID, COMPOSITE, DYNAMIC_LABELS, TARGET_NODE, RELATIONSHIP, RELATIONSHIP_PROPERTIES_ENTITY, SIMPLE
+	}
+
+	/**
+	 * A property together with all information needed to read or write it.
+	 */
+	static final class PropertyPlan {
+
+		private final Neo4jPersistentProperty property;
+
+		private final Kind kind;
+
+		@Nullable private final String graphPropertyName;
+
+		@Nullable private final String compositePrefix;
+
+		private final TypeInformation<?> typeInformation;
+
+		@Nullable private final Function<Value, Object> readingConverter;
+
+		@Nullable private final Function<Object, Value> writingConverter;
+
+		private PropertyPlan(Neo4jPersistentProperty property) {
+
+			this.property = property;
+			this.kind = kindOf(property);
+			this.graphPropertyName = property.isAssociation() ? null : property.getPropertyName();
+			this.compositePrefix = this.kind == Kind.COMPOSITE ? property.computePrefixWithDelimiter() : null;
+			this.typeInformation = property.getTypeInformation();
+			this.readingConverter = property.getOptionalReadingConverter();
+			this.writingConverter = property.getOptionalWritingConverter();
+		}
+
+		private static Kind kindOf(Neo4jPersistentProperty property) {
+
+			if (property.isInternalIdProperty()) {
+				return Kind.INTERNAL_ID;
+			} else if (property.isRelationship()) {
+				return Kind.RELATIONSHIP;
+			} else if (property.isDynamicLabels()) {
+				return Kind.DYNAMIC_LABELS;
+			} else if (property.isAnnotationPresent(TargetNode.class)) {
+				return Kind.TARGET_NODE;
+			} else if (property.isEntityWithRelationshipProperties()) {
+				return Kind.RELATIONSHIP_PROPERTIES_ENTITY;
+			} else if (property.isComposite()) {
+				return Kind.COMPOSITE;
+			}
+			return Kind.SIMPLE;
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			return property;
+		}
+
+		Kind getKind() {
+			return kind;
+		}
+
+		@Nullable
+		String getGraphPropertyName() {
+			return graphPropertyName;
+		}
+
+		@Nullable
+		String getCompositePrefix() {
+			return compositePrefix;
+		}
+
+		TypeInformation<?> getTypeInformation() {
+			return typeInformation;
+		}
+
+		@Nullable
+		Function<Value, Object> getReadingConverter() {
+			return readingConverter;
+		}
+
+		@Nullable
+		Function<Object, Value> getWritingConverter() {
+			return writingConverter;
+		}
+	}
+
+	private final Map<String, PropertyPlan> propertiesByName;
+
+	private final List<PropertyPlan> writtenProperties;
+
+	@Nullable private final PropertyPlan idProperty;
+
+	@Nullable private final Neo4jPersistentProperty versionProperty;
+
+	private final boolean requiresPropertyPopulation;
+
+	private final List<PropertyPlan> populatedProperties;
+
+	private final List<PropertyPlan> populatedAssociations;
+
+	private final List<PropertyPlan> plainAssociations;
+
+	static EntityMappingPlan of(Neo4jPersistentEntity<?> entity) {
+		return new EntityMappingPlan(entity);
+	}
+
+	private EntityMappingPlan(Neo4jPersistentEntity<?> entity) {
+
+		PreferredConstructor<?, Neo4jPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		Map<String, PropertyPlan> newPropertiesByName = new HashMap<>();
+		List<PropertyPlan> newWrittenProperties = new ArrayList<>();
+		List<PropertyPlan> newPopulatedProperties = new ArrayList<>();
+		List<PropertyPlan> newPopulatedAssociations = new ArrayList<>();
+		List<PropertyPlan> newPlainAssociations = new ArrayList<>();
+
+		entity.doWithProperties((Neo4jPersistentProperty property) -> {
+
+			PropertyPlan propertyPlan = new PropertyPlan(property);
+			newPropertiesByName.put(property.getName(), propertyPlan);
+
+			// Skip the internal properties, we don't want them to end up stored as properties
+			if (!(property.isInternalIdProperty() || property.isDynamicLabels() || property.isEntity())) {
+				newWrittenProperties.add(propertyPlan);
+			}
+			if (constructor == null || !constructor.isConstructorParameter(property)) {
+				newPopulatedProperties.add(propertyPlan);
+			}
+		});
+
+		entity.doWithAssociations((Association<Neo4jPersistentProperty> association) -> {
+
+			Neo4jPersistentProperty property = association.getInverse();
+			PropertyPlan propertyPlan = new PropertyPlan(property);
+			newPropertiesByName.put(property.getName(), propertyPlan);
+
+			if (constructor == null || !constructor.isConstructorParameter(property)) {
+				newPopulatedAssociations.add(propertyPlan);
+			}
+
+			RelationshipDescription relationshipDescription = (RelationshipDescription) association;
+			if (!(relationshipDescription.isDynamic() || relationshipDescription.hasRelationshipProperties())) {
+				newPlainAssociations.add(propertyPlan);
+			}
+		});
+
+		this.propertiesByName = Collections.unmodifiableMap(newPropertiesByName);
+		this.writtenProperties = Collections.unmodifiableList(newWrittenProperties);
+		this.idProperty = entity.hasIdProperty() ? new PropertyPlan(entity.getRequiredIdProperty()) : null;
+		this.versionProperty = entity.hasVersionProperty() ? entity.getRequiredVersionProperty() : null;
+		this.requiresPropertyPopulation = entity.requiresPropertyPopulation();
+		this.populatedProperties = Collections.unmodifiableList(newPopulatedProperties);
+		this.populatedAssociations = Collections.unmodifiableList(newPopulatedAssociations);
+		this.plainAssociations = Collections.unmodifiableList(newPlainAssociations);
+	}
+
+	/**
+	 * @param name The name of a property or association
+	 * @return The plan of the property with the given name
+	 * @throws MappingException if there is no such property
+	 */
+	PropertyPlan getRequiredProperty(String name) {
+
+		PropertyPlan propertyPlan = propertiesByName.get(name);
+		if (propertyPlan == null) {
+			throw new MappingException(String.format("Required property %s not found!", name));
+		}
+		return propertyPlan;
+	}
+
+	/**
+	 * @return The properties to be stored on a node or relationship, in the order of the entity
+	 */
+	List<PropertyPlan> getWrittenProperties() {
+		return writtenProperties;
+	}
+
+	@Nullable
+	PropertyPlan getIdProperty() {
+		return idProperty;
+	}
+
+	@Nullable
+	Neo4jPersistentProperty getVersionProperty() {
+		return versionProperty;
+	}
+
+	boolean requiresPropertyPopulation() {
+		return requiresPropertyPopulation;
+	}
+
+	/**
+	 * @return The properties that are not populated through the constructor
+	 */
+	List<PropertyPlan> getPopulatedProperties() {
+		return populatedProperties;
+	}
+
+	/**
+	 * @return The associations that are not populated through the constructor
+	 */
+	List<PropertyPlan> getPopulatedAssociations() {
+		return populatedAssociations;
+	}
+
+	/**
+	 * @return The associations with a static relationship type and without relationship properties
+	 */
+	List<PropertyPlan> getPlainAssociations() {
+		return plainAssociations;
+	}
+}
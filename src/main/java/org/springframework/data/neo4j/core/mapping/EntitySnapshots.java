@@ -0,0 +1,236 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+
+/**
+ * Snapshots of the state entities had when they have been loaded: The internal id of the node, the properties as
+ * written by the {@link Neo4jEntityConverter} and the internal ids of the nodes related through relationships with a
+ * static type and without properties. The snapshots are used to write only what changed when an entity is saved again.
+ * The entities are referenced weakly and related entities not at all, so snapshots of entities that are not in use
+ * anymore are dropped.
+ * <p>
+ * A snapshot describes the state of the database only as long as the entity is not written. Everything that is written
+ * therefore needs to be forgotten, so that a missing snapshot always results in a full write.
+ *
+ * @author agent
+ * @since 6.1
+ */
+@API(status = API.Status.INTERNAL, since = "6.1")
+public final class EntitySnapshots {
+
+	private final ReferenceQueue<Object> staleReferences = new ReferenceQueue<>();
+
+	private final Map<IdentityReference, EntitySnapshot> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * Records the snapshot of an entity. Related values are mapped before the entity itself, so their snapshots are
+	 * already known and only the internal ids of their nodes are retained. Relationship fields containing related values
+	 * without a snapshot are not recorded at all.
+	 */
+	void record(Object entity, Long internalId, Map<String, Object> properties,
+			Map<String, Collection<?>> relatedValues) {
+
+		expungeStaleSnapshots();
+
+		Map<String, List<Long>> relatedInternalIds = new ConcurrentHashMap<>();
+		relatedValues.forEach((fieldName, values) -> {
+			List<Long> internalIds = getInternalIds(entity, internalId, values);
+			if (internalIds != null) {
+				relatedInternalIds.put(fieldName, internalIds);
+			}
+		});
+		snapshots.put(new IdentityReference(entity, staleReferences),
+				new EntitySnapshot(internalId, properties, relatedInternalIds));
+	}
+
+	/**
+	 * @param entity An entity
+	 * @return The internal id of the node the entity has been loaded from, {@literal null} if there is no snapshot
+	 */
+	@Nullable
+	public Long getInternalId(Object entity) {
+
+		EntitySnapshot snapshot = snapshots.get(new IdentityReference(entity));
+		return snapshot == null ? null : snapshot.internalId;
+	}
+
+	/**
+	 * @param entity An entity
+	 * @param properties The properties of the entity as written by the {@link Neo4jEntityConverter}
+	 * @return The properties that changed since the entity has been loaded or {@literal null} if it is unknown which
+	 *         properties changed
+	 */
+	@Nullable
+	public Map<String, Object> getChangedProperties(Object entity, Map<String, Object> properties) {
+
+		EntitySnapshot snapshot = snapshots.get(new IdentityReference(entity));
+		Map<String, Object> snapshotProperties = snapshot == null ? null : snapshot.properties;
+		if (snapshotProperties == null) {
+			return null;
+		}
+
+		Map<String, Object> changedProperties = new HashMap<>();
+		properties.forEach((name, value) -> {
+			if (!Objects.equals(snapshotProperties.get(name), value)) {
+				changedProperties.put(name, value);
+			}
+		});
+		return changedProperties;
+	}
+
+	/**
+	 * @param entity An entity
+	 * @param fieldName The name of a relationship field
+	 * @param relatedValues The current related values of that field
+	 * @return {@literal true} if the field refers to the very same nodes as when the entity has been loaded
+	 */
+	public boolean containsRelatedValues(Object entity, String fieldName, Collection<?> relatedValues) {
+
+		EntitySnapshot snapshot = snapshots.get(new IdentityReference(entity));
+		List<Long> snapshotRelatedInternalIds = snapshot == null ? null : snapshot.relatedInternalIds.get(fieldName);
+		if (snapshotRelatedInternalIds == null || snapshotRelatedInternalIds.size() != relatedValues.size()) {
+			return false;
+		}
+
+		List<Long> relatedInternalIds = getInternalIds(entity, snapshot.internalId, relatedValues);
+		if (relatedInternalIds == null) {
+			return false;
+		}
+
+		List<Long> expectedInternalIds = new ArrayList<>(snapshotRelatedInternalIds);
+		Collections.sort(expectedInternalIds);
+		Collections.sort(relatedInternalIds);
+		return expectedInternalIds.equals(relatedInternalIds);
+	}
+
+	/**
+	 * Forgets the properties of an entity, usually because they are about to be written.
+	 *
+	 * @param entity An entity
+	 */
+	public void forgetProperties(Object entity) {
+
+		EntitySnapshot snapshot = snapshots.get(new IdentityReference(entity));
+		if (snapshot != null) {
+			snapshot.properties = null;
+		}
+	}
+
+	/**
+	 * Forgets the related values of one relationship field, usually because the relationships are about to be written.
+	 *
+	 * @param entity An entity
+	 * @param fieldName The name of a relationship field
+	 */
+	public void forgetRelatedValues(Object entity, String fieldName) {
+
+		EntitySnapshot snapshot = snapshots.get(new IdentityReference(entity));
+		if (snapshot != null) {
+			snapshot.relatedInternalIds.remove(fieldName);
+		}
+	}
+
+	/**
+	 * @return The internal ids of the related values or {@literal null} if any of them has no snapshot
+	 */
+	@Nullable
+	private List<Long> getInternalIds(Object entity, Long internalId, Collection<?> relatedValues) {
+
+		List<Long> internalIds = new ArrayList<>(relatedValues.size());
+		for (Object value : relatedValues) {
+			Long relatedInternalId = value == entity ? internalId : getInternalId(value);
+			if (relatedInternalId == null) {
+				return null;
+			}
+			internalIds.add(relatedInternalId);
+		}
+		return internalIds;
+	}
+
+	private void expungeStaleSnapshots() {
+
+		Reference<?> staleReference;
+		while ((staleReference = staleReferences.poll()) != null) {
+			snapshots.remove(staleReference);
+		}
+	}
+
+	private static final class EntitySnapshot {
+
+		private final Long internalId;
+
+		@Nullable private volatile Map<String, Object> properties;
+
+		private final Map<String, List<Long>> relatedInternalIds;
+
+		EntitySnapshot(Long internalId, Map<String, Object> properties, Map<String, List<Long>> relatedInternalIds) {
+			this.internalId = internalId;
+			this.properties = Collections.unmodifiableMap(properties);
+			this.relatedInternalIds = relatedInternalIds;
+		}
+	}
+
+	/**
+	 * A weak reference that compares its referent by identity. Lookups use references that are not registered with the
+	 * queue, stale references compare only equal to themselves.
+	 */
+	private static final class IdentityReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		IdentityReference(Object referent) {
+			super(referent);
+			this.hashCode = System.identityHashCode(referent);
+		}
+
+		IdentityReference(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hashCode = System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof IdentityReference)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((IdentityReference) o).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
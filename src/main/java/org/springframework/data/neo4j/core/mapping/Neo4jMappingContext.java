@@ -17,6 +17,7 @@ package org.springframework.data.neo4j.core.mapping;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -24,10 +25,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
@@ -86,6 +90,11 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	 */
 	private final NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
 
+	/**
+	 * Immutable plans for reading and writing entities, shared between all entity converters.
+	 */
+	private final Map<Neo4jPersistentEntity<?>, EntityMappingPlan> mappingPlans = new ConcurrentHashMap<>();
+
 	private final TypeSystem typeSystem;
 
 	private final Neo4jConversionService conversionService;
@@ -94,6 +103,11 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	private boolean strict = false;
 
+	/**
+	 * Snapshots of loaded entities, only present when change tracking is enabled.
+	 */
+	private volatile @Nullable EntitySnapshots entitySnapshots;
+
 	public Neo4jMappingContext() {
 
 		this(new Neo4jConversions());
@@ -116,6 +130,41 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		this.strict = strict;
 	}
 
+	/**
+	 * Enables or disables change tracking. With change tracking enabled, the entity converter records a snapshot of the
+	 * properties and related values of every entity it reads. The {@link org.springframework.data.neo4j.core.Neo4jTemplate}
+	 * uses those snapshots to write only the properties and relationships that changed since an entity has been loaded
+	 * and skips unchanged nodes altogether. Snapshots are held weakly and are dropped together with the entities. They
+	 * refer to related entities only by the internal ids of their nodes. Reactive reads don't record snapshots.
+	 *
+	 * @param changeTracking True to enable change tracking
+	 * @since 6.1
+	 */
+	public void setChangeTracking(boolean changeTracking) {
+		this.entitySnapshots = changeTracking ? new EntitySnapshots() : null;
+	}
+
+	/**
+	 * Configures how many label combinations are memoized per node description when deriving the concrete node
+	 * description of a node. Dynamic labels can create an arbitrary number of combinations, so the least recently used
+	 * ones are evicted. Defaults to {@value NodeDescriptionStore#DEFAULT_LABEL_CACHE_SIZE}.
+	 *
+	 * @param labelCacheSize The number of label combinations per node description, must be greater than 0
+	 * @since 6.1
+	 */
+	public void setLabelCacheSize(int labelCacheSize) {
+		this.nodeDescriptionStore.setLabelCacheSize(labelCacheSize);
+	}
+
+	/**
+	 * @return The snapshots of loaded entities or {@literal null} if change tracking is disabled
+	 */
+	@API(status = API.Status.INTERNAL, since = "6.1")
+	@Nullable
+	public EntitySnapshots getEntitySnapshots() {
+		return entitySnapshots;
+	}
+
 	/**
 	 * This API is primarily used from inside the CDI extension to configure the type system. This is necessary as
 	 * we don't get notified of the context via {@link #setApplicationContext(ApplicationContext applicationContext)}.
@@ -133,7 +182,33 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	}
 
 	public Neo4jEntityConverter getEntityConverter() {
-		return new DefaultNeo4jEntityConverter(INSTANTIATORS, conversionService, nodeDescriptionStore, typeSystem);
+		return createEntityConverter(entitySnapshots);
+	}
+
+	/**
+	 * Creates a mapping function that never records snapshots, regardless whether change tracking is enabled or not. Only
+	 * the imperative {@link org.springframework.data.neo4j.core.Neo4jTemplate} makes use of snapshots, so entities read
+	 * for any other purpose, like reactive reads, should be mapped with this function.
+	 *
+	 * @param targetClass The target class to which to map to.
+	 * @param <T> Type of the target class
+	 * @return A mapping function for the given target class that does not record snapshots, scoped to a single query
+	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
+	 * @since 6.1
+	 */
+	@API(status = API.Status.INTERNAL, since = "6.1")
+	public <T> BiFunction<TypeSystem, MapAccessor, T> getRequiredMappingFunctionWithoutSnapshotsFor(Class<T> targetClass) {
+
+		if (getNodeDescription(targetClass) == null) {
+			throw new UnknownEntityException(targetClass);
+		}
+		Neo4jEntityConverter entityConverter = createEntityConverter(null);
+		return (typeSystem, record) -> entityConverter.read(targetClass, record);
+	}
+
+	private Neo4jEntityConverter createEntityConverter(@Nullable EntitySnapshots snapshots) {
+		return new DefaultNeo4jEntityConverter(INSTANTIATORS, conversionService, nodeDescriptionStore, mappingPlans,
+				snapshots, typeSystem);
 	}
 
 	public Neo4jConversionService getConversionService() {
@@ -349,16 +424,69 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		}
 	}
 
+	/**
+	 * Checks whether all related values of a relationship can be stored with batched statements: One statement per
+	 * target entity for the related nodes and one statement for all relationships. This is possible as long as the
+	 * relationship type is static and none of the related nodes requires statements that are specific to a single
+	 * instance, i.e. internally generated ids, optimistic locking or dynamic labels.
+	 *
+	 * @param relationshipContext The context of the relationship to be stored
+	 * @param relatedValues The unified values of the relationship
+	 * @return True, if the related values can be stored in a batch
+	 * @since 6.1
+	 */
+	public boolean canBatchRelatedValues(NestedRelationshipContext relationshipContext, Collection<?> relatedValues) {
+
+		if (relatedValues.size() < 2 || relationshipContext.getRelationship().isDynamic()) {
+			return false;
+		}
+
+		for (Object relatedValue : relatedValues) {
+			if (relatedValue == null) {
+				return false;
+			}
+			Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+			Neo4jPersistentEntity<?> targetEntity = getPersistentEntity(relatedNode.getClass());
+			if (targetEntity == null || targetEntity.isUsingInternalIds() || targetEntity.hasVersionProperty()
+					|| targetEntity.getDynamicLabelsProperty().isPresent()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a single row for a statement created by
+	 * {@link CypherGenerator#prepareSaveOfMultipleRelationships(Neo4jPersistentEntity, RelationshipDescription, String)}.
+	 *
+	 * @param relationshipContext The context of the relationship to be stored
+	 * @param relatedValue One of the unified values of the relationship
+	 * @param relatedInternalId The internal id of the already stored related node
+	 * @return A row containing the id of the end node and optional properties of the relationship
+	 * @since 6.1
+	 */
+	public Map<String, Object> createRelationshipRow(NestedRelationshipContext relationshipContext, Object relatedValue,
+			Long relatedInternalId) {
+
+		Map<String, Object> row = new HashMap<>();
+		if (relationshipContext.hasRelationshipWithProperties()) {
+			getEntityConverter().write(
+					((MappingSupport.RelationshipPropertiesWithEntityHolder) relatedValue).getRelationshipProperties(), row);
+		}
+		row.put(Constants.TO_ID_PARAMETER_NAME, relatedInternalId);
+		return row;
+	}
+
 	private CreateRelationshipStatementHolder createStatementForRelationShipWithProperties(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			NestedRelationshipContext relationshipContext, @Nullable  String dynamicRelationshipType, MappingSupport.RelationshipPropertiesWithEntityHolder relatedValue) {
 
-		Statement relationshipCreationQuery = CypherGenerator.INSTANCE.prepareSaveOfRelationshipWithProperties(
+		Supplier<Statement> relationshipCreationQuery = () -> CypherGenerator.INSTANCE.prepareSaveOfRelationshipWithProperties(
 						neo4jPersistentEntity, relationshipContext.getRelationship(), dynamicRelationshipType);
 		Map<String, Object> propMap = new HashMap<>();
 		// write relationship properties
 		getEntityConverter().write(relatedValue.getRelationshipProperties(), propMap);
 
-		return new CreateRelationshipStatementHolder(relationshipCreationQuery, propMap);
+		return new CreateRelationshipStatementHolder(relationshipCreationQuery, dynamicRelationshipType, propMap);
 	}
 
 	private CreateRelationshipStatementHolder createStatementForRelationshipWithoutProperties(
@@ -375,8 +503,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 			relationshipType = conversionService.writeValue(key, keyType, inverse.getOptionalWritingConverter()).asString();
 		}
 
-		Statement relationshipCreationQuery = CypherGenerator.INSTANCE.prepareSaveOfRelationship(
+		Supplier<Statement> relationshipCreationQuery = () -> CypherGenerator.INSTANCE.prepareSaveOfRelationship(
 				neo4jPersistentEntity, relationshipContext.getRelationship(), relationshipType);
-		return new CreateRelationshipStatementHolder(relationshipCreationQuery);
+		return new CreateRelationshipStatementHolder(relationshipCreationQuery, relationshipType);
 	}
 }
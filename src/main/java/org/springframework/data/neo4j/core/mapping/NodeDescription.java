@@ -17,8 +17,10 @@ package org.springframework.data.neo4j.core.mapping;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Expression;
@@ -102,6 +104,34 @@ public interface NodeDescription<T> {
 	 */
 	Collection<RelationshipDescription> getRelationships();
 
+	/**
+	 * Retrieves the relationships of this node together with the relationships of all extending classes. Relationships
+	 * of extending classes are only added if this node has no relationship defined by a field of the same name.
+	 *
+	 * @param includedProperties The names of the fields of the relationships to include, includes all relationships when
+	 *                           empty
+	 * @return The relationships of this node and all its children
+	 * @since 6.1
+	 */
+	default Collection<RelationshipDescription> getRelationshipsInHierarchy(List<String> includedProperties) {
+
+		Collection<RelationshipDescription> relationships = new HashSet<>(getRelationships());
+		for (NodeDescription<?> childDescription : getChildNodeDescriptionsInHierarchy()) {
+			childDescription.getRelationships().forEach(concreteRelationship -> {
+
+				String fieldName = concreteRelationship.getFieldName();
+
+				if (relationships.stream().noneMatch(relationship -> relationship.getFieldName().equals(fieldName))) {
+					relationships.add(concreteRelationship);
+				}
+			});
+		}
+
+		return relationships.stream().filter(relationshipDescription -> includedProperties.isEmpty()
+				|| includedProperties.contains(relationshipDescription.getFieldName()))
+				.collect(Collectors.toSet());
+	}
+
 	/**
 	 * Register a direct child node description for this entity.
 	 *
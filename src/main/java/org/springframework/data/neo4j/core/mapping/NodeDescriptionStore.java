@@ -15,7 +15,6 @@
  */
 package org.springframework.data.neo4j.core.mapping;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,24 +22,63 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * This class is more or less just a wrapper around the node description lookup map. It ensures that there is no cyclic
  * dependency between {@link Neo4jMappingContext} and {@link DefaultNeo4jEntityConverter}.
+ * <p>
+ * Besides the lookup by primary label, it indexes the node descriptions by their underlying class and memoizes the
+ * concrete node description derived from the labels of a node. The latter is kept in a LRU cache per node description,
+ * as dynamic labels can create an arbitrary number of label combinations. Its size defaults to
+ * {@value #DEFAULT_LABEL_CACHE_SIZE} and can be changed with {@link #setLabelCacheSize(int)}.
  *
  * @author Gerrit Meier
+ * @author Michael J. Simons
  */
 final class NodeDescriptionStore {
 
+	/**
+	 * Default number of label combinations memoized per node description.
+	 */
+	static final int DEFAULT_LABEL_CACHE_SIZE = 256;
+
+	private volatile int labelCacheSize = DEFAULT_LABEL_CACHE_SIZE;
+
 	/**
 	 * A lookup of entities based on their primary label. We depend on the locking mechanism provided by the
 	 * {@link AbstractMappingContext}, so this lookup is not synchronized further.
 	 */
 	private final Map<String, NodeDescription<?>> nodeDescriptionsByPrimaryLabel = new HashMap<>();
 
+	/**
+	 * A lookup of entities based on their underlying class. This is read for every record being mapped and therefore a
+	 * concurrent map.
+	 */
+	private final Map<Class<?>, NodeDescription<?>> nodeDescriptionsByClass = new ConcurrentHashMap<>();
+
+	/**
+	 * Concrete node descriptions and dynamic labels, indexed by the node description requested and the labels of a node.
+	 */
+	private final Map<NodeDescription<?>, ConcurrentLruCache<List<String>, NodeDescriptionAndLabels>> concreteNodeDescriptions = new ConcurrentHashMap<>();
+
+	/**
+	 * Changes the number of label combinations memoized per node description. Memoized combinations are dropped.
+	 *
+	 * @param labelCacheSize The new number of label combinations, must be greater than 0
+	 */
+	void setLabelCacheSize(int labelCacheSize) {
+
+		Assert.isTrue(labelCacheSize > 0, "The size of the label cache must be greater than 0.");
+		this.labelCacheSize = labelCacheSize;
+		concreteNodeDescriptions.clear();
+	}
+
 	public boolean containsKey(String primaryLabel) {
 		return nodeDescriptionsByPrimaryLabel.containsKey(primaryLabel);
 	}
@@ -50,7 +88,15 @@ final class NodeDescriptionStore {
 	}
 
 	public <T> void put(String primaryLabel, DefaultNeo4jPersistentEntity<T> newEntity) {
-		nodeDescriptionsByPrimaryLabel.put(primaryLabel, newEntity);
+
+		NodeDescription<?> previousEntity = nodeDescriptionsByPrimaryLabel.put(primaryLabel, newEntity);
+		if (previousEntity != null) {
+			nodeDescriptionsByClass.remove(previousEntity.getUnderlyingClass(), previousEntity);
+		}
+		nodeDescriptionsByClass.put(newEntity.getUnderlyingClass(), newEntity);
+
+		// A new entity might be a new child in an existing hierarchy
+		concreteNodeDescriptions.clear();
 	}
 
 	public Set<Map.Entry<String, NodeDescription<?>>> entrySet() {
@@ -68,34 +114,43 @@ final class NodeDescriptionStore {
 
 	@Nullable
 	public NodeDescription<?> getNodeDescription(Class<?> targetType) {
-		for (NodeDescription<?> nodeDescription : values()) {
-			if (nodeDescription.getUnderlyingClass().equals(targetType)) {
-				return nodeDescription;
-			}
-		}
-		return null;
+		return nodeDescriptionsByClass.get(targetType);
 	}
 
-	public static NodeDescriptionAndLabels deriveConcreteNodeDescription(Neo4jPersistentEntity<?> entityDescription,
-			List<String> labels) {
+	/**
+	 * Derives the most concrete node description for the given labels of a node.
+	 *
+	 * @param entityDescription The node description requested
+	 * @param labels The labels of the node
+	 * @return The concrete node description together with the labels that are not statically defined
+	 */
+	public NodeDescriptionAndLabels deriveConcreteNodeDescription(Neo4jPersistentEntity<?> entityDescription,
+			@Nullable List<String> labels) {
+
 		if (labels == null || labels.isEmpty()) {
 			return new NodeDescriptionAndLabels(entityDescription, Collections.emptyList());
 		}
+		return concreteNodeDescriptions
+				.computeIfAbsent(entityDescription, key -> new ConcurrentLruCache<>(labelCacheSize,
+						labelsOfNode -> computeConcreteNodeDescription(entityDescription, labelsOfNode)))
+				.get(labels);
+	}
+
+	private static NodeDescriptionAndLabels computeConcreteNodeDescription(Neo4jPersistentEntity<?> entityDescription,
+			List<String> labels) {
+
 		for (NodeDescription<?> childNodeDescription : entityDescription.getChildNodeDescriptionsInHierarchy()) {
-			String primaryLabel = childNodeDescription.getPrimaryLabel();
-			List<String> additionalLabels = new ArrayList<>(childNodeDescription.getAdditionalLabels());
-			additionalLabels.add(primaryLabel);
-			if (additionalLabels.containsAll(labels) && childNodeDescription.getChildNodeDescriptionsInHierarchy().isEmpty()) {
+			List<String> staticLabels = childNodeDescription.getStaticLabels();
+			if (staticLabels.containsAll(labels) && childNodeDescription.getChildNodeDescriptionsInHierarchy().isEmpty()) {
 				Set<String> surplusLabels = new HashSet<>(labels);
-				surplusLabels.remove(primaryLabel);
-				surplusLabels.removeAll(additionalLabels);
-				return new NodeDescriptionAndLabels(childNodeDescription, surplusLabels);
+				surplusLabels.removeAll(staticLabels);
+				return new NodeDescriptionAndLabels(childNodeDescription, Collections.unmodifiableSet(surplusLabels));
 			}
 		}
 
 		Set<String> surplusLabels = new HashSet<>(labels);
 		surplusLabels.remove(entityDescription.getPrimaryLabel());
 		surplusLabels.removeAll(entityDescription.getAdditionalLabels());
-		return new NodeDescriptionAndLabels(entityDescription, surplusLabels);
+		return new NodeDescriptionAndLabels(entityDescription, Collections.unmodifiableSet(surplusLabels));
 	}
 }
@@ -81,10 +81,14 @@ public interface Schema {
 	 * <p>
 	 * In case the mapping function returns a {@literal null}, the Neo4j client will throw an exception and prevent
 	 * further processing.
+	 * <p>
+	 * Each call creates a new mapping function. The mapping function keeps track of the objects it already mapped, so
+	 * that the same node is mapped into the same instance across all records of a result. Therefore a mapping function
+	 * should be used for one query respectively one stream of records only and not be cached beyond that.
 	 *
 	 * @param targetClass The target class to which to map to.
 	 * @param <T> Type of the target class
-	 * @return The default, stateless and reusable mapping function for the given target class
+	 * @return The default mapping function for the given target class, scoped to a single query
 	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
 	 */
 	default <T> BiFunction<TypeSystem, MapAccessor, T> getRequiredMappingFunctionFor(Class<T> targetClass) {
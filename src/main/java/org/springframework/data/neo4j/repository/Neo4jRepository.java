@@ -18,7 +18,9 @@ package org.springframework.data.neo4j.repository;
 import java.util.List;
 
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.repository.query.KeysetRequest;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
@@ -63,6 +65,17 @@ public interface Neo4jRepository<T, ID> extends PagingAndSortingRepository<T, ID
 	@Override
 	List<T> findAll(Sort sort);
 
+	/**
+	 * Returns a slice of entities, seeking behind the keys of the last element of the previous slice instead of skipping
+	 * over the previous slices. Deep slices are as fast as the first one. The request for the next slice is available
+	 * via {@link Slice#nextPageable()}.
+	 *
+	 * @param keysetRequest The request for the slice, use {@link KeysetRequest#of(int, Sort)} for the first slice
+	 * @return A slice of entities
+	 * @since 6.1
+	 */
+	Slice<T> findAll(KeysetRequest keysetRequest);
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findAll(org.springframework.data.domain.Example)
@@ -76,4 +89,26 @@ public interface Neo4jRepository<T, ID> extends PagingAndSortingRepository<T, ID
 	 */
 	@Override
 	<S extends T> List<S> findAll(Example<S> example, Sort sort);
+
+	/**
+	 * Deletes all entities managed by the repository in batches of bounded size, detaching nodes with many relationships
+	 * in slices. Each batch is committed in a new transaction of the repository's transaction manager, so that no
+	 * transaction grows beyond the batch size. An ongoing transaction is suspended in the meantime and does not include
+	 * the deletes.
+	 *
+	 * @param batchSize the maximum number of relationships or nodes deleted by one statement. Must be positive.
+	 * @since 6.1
+	 */
+	void deleteAllInBatches(int batchSize);
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of bounded size, detaching nodes with many relationships
+	 * in slices.
+	 *
+	 * @param ids the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize the maximum number of ids, relationships or nodes handled by one statement. Must be positive.
+	 * @see #deleteAllInBatches(int)
+	 * @since 6.1
+	 */
+	void deleteAllByIdInBatches(Iterable<? extends ID> ids, int batchSize);
 }
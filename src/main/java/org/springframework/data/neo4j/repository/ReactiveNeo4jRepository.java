@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.repository;
 
+import reactor.core.publisher.Mono;
+
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
@@ -29,4 +31,29 @@ import org.springframework.data.repository.reactive.ReactiveSortingRepository;
  */
 @NoRepositoryBean
 public interface ReactiveNeo4jRepository<T, ID>
-		extends ReactiveSortingRepository<T, ID>, ReactiveQueryByExampleExecutor<T> {}
+		extends ReactiveSortingRepository<T, ID>, ReactiveQueryByExampleExecutor<T> {
+
+	/**
+	 * Deletes all entities managed by the repository in batches of bounded size, detaching nodes with many relationships
+	 * in slices. Each batch is committed in a new transaction of the repository's transaction manager, so that no
+	 * transaction grows beyond the batch size. An ongoing transaction is suspended in the meantime and does not include
+	 * the deletes.
+	 *
+	 * @param batchSize the maximum number of relationships or nodes deleted by one statement. Must be positive.
+	 * @return a mono completing after the last batch has been deleted
+	 * @since 6.1
+	 */
+	Mono<Void> deleteAllInBatches(int batchSize);
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of bounded size, detaching nodes with many relationships
+	 * in slices.
+	 *
+	 * @param ids the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize the maximum number of ids, relationships or nodes handled by one statement. Must be positive.
+	 * @return a mono completing after the last batch has been deleted
+	 * @see #deleteAllInBatches(int)
+	 * @since 6.1
+	 */
+	Mono<Void> deleteAllByIdInBatches(Iterable<? extends ID> ids, int batchSize);
+}
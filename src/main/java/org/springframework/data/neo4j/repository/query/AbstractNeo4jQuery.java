@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -26,7 +28,6 @@ import java.util.function.UnaryOperator;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.convert.converter.Converter;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -80,46 +81,65 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 		ReturnedType returnedType = resultProcessor.getReturnedType();
 		PreparedQuery<?> preparedQuery = prepareQuery(returnedType.getReturnedType(),
-				getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor), incrementLimit ? l -> l + 1 : UnaryOperator.identity());
+				getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor, parameterAccessor), incrementLimit ? l -> l + 1 : UnaryOperator.identity());
 
-		Object rawResult = new Neo4jQueryExecution.DefaultQueryExecution(neo4jOperations).execute(preparedQuery,
+		// Prepare the total upfront, so that it might be counted concurrently to the content
+		LongSupplier totalSupplier = queryMethod.isPageQuery() ? prepareTotal(parameters, parameterAccessor) : null;
+
+		Neo4jQueryExecution queryExecution = queryMethod.isStreamQuery()
+				? new Neo4jQueryExecution.StreamQueryExecution(neo4jOperations)
+				: new Neo4jQueryExecution.DefaultQueryExecution(neo4jOperations);
+		Object rawResult = queryExecution.execute(preparedQuery,
 				queryMethod.isCollectionLikeQuery() || queryMethod.isPageQuery() || queryMethod.isSliceQuery());
 
 		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
 		if (returnedType.isProjecting()) {
 			DtoInstantiatingConverter converter = new DtoInstantiatingConverter(returnedType.getReturnedType(), mappingContext);
 
-			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the projecting case
-			preparingConverter = source -> converter.convert(
-					(EntityInstanceWithSource) OptionalUnwrappingConverter.INSTANCE.convert(source));
+			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the projecting case,
+			// unless derived queries could instantiate the DTO directly from the record
+			preparingConverter = source -> {
+				Object intermediateResult = OptionalUnwrappingConverter.INSTANCE.convert(source);
+				return intermediateResult instanceof EntityInstanceWithSource
+						? converter.convert((EntityInstanceWithSource) intermediateResult)
+						: intermediateResult;
+			};
 		}
 
 		if (queryMethod.isPageQuery()) {
-			rawResult = createPage(parameterAccessor, (List<?>) rawResult);
+			rawResult = PageableExecutionUtils.getPage((List<?>) rawResult, parameterAccessor.getPageable(), totalSupplier);
 		} else if (queryMethod.isSliceQuery()) {
 			rawResult = createSlice(incrementLimit, parameterAccessor, (List<?>) rawResult);
 		}
 		return resultProcessor.processResult(rawResult, preparingConverter);
 	}
 
-	private Page<?> createPage(Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
+	private LongSupplier prepareTotal(Object[] parameters, Neo4jParameterAccessor parameterAccessor) {
 
-		LongSupplier totalSupplier = () -> {
+		LongSupplier countQuery = () -> {
 
 			Supplier<PreparedQuery<Long>> defaultCountQuery = () -> prepareQuery(Long.class,
 					Collections.emptyList(), parameterAccessor, Neo4jQueryType.COUNT, null, UnaryOperator.identity());
-			PreparedQuery<Long> countQuery = getCountQuery(parameterAccessor).orElseGet(defaultCountQuery);
+			PreparedQuery<Long> preparedCountQuery = getCountQuery(parameterAccessor).orElseGet(defaultCountQuery);
 
-			return neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult();
+			return neo4jOperations.toExecutableQuery(preparedCountQuery).getRequiredSingleResult();
 		};
-		return PageableExecutionUtils.getPage(rawResult, parameterAccessor.getPageable(), totalSupplier);
+
+		// The total doesn't depend on the requested page
+		List<Object> key = new ArrayList<>();
+		key.add(this);
+		Arrays.stream(parameters).filter(parameter -> !(parameter instanceof Pageable)).forEach(key::add);
+		return neo4jOperations.prepareTotal(key, countQuery);
 	}
 
 	private Slice<?> createSlice(boolean incrementLimit, Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
 
 		Pageable pageable = parameterAccessor.getPageable();
 
-		if (incrementLimit) {
+		if (incrementLimit && isDerivedQuery() && pageable instanceof KeysetRequest) {
+			return CypherAdapterUtils.toKeysetSlice(mappingContext.getRequiredPersistentEntity(getDomainType(queryMethod)),
+					(KeysetRequest) pageable, rawResult);
+		} else if (incrementLimit) {
 			 return new SliceImpl<>(
 					rawResult.subList(0, Math.min(rawResult.size(), pageable.getPageSize())),
 					PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()),
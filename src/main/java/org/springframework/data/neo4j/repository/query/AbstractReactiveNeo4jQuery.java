@@ -56,6 +56,14 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		return this.queryMethod;
 	}
 
+	/**
+	 * Reactive reads don't record snapshots, as only the imperative template makes use of them.
+	 */
+	@Override
+	protected BiFunction<TypeSystem, MapAccessor, ?> getEntityMappingFunction(Class<?> domainType) {
+		return this.mappingContext.getRequiredMappingFunctionWithoutSnapshotsFor(domainType);
+	}
+
 	@Override
 	public final Object execute(Object[] parameters) {
 
@@ -64,7 +72,7 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 
 		ReturnedType returnedType = resultProcessor.getReturnedType();
 		PreparedQuery<?> preparedQuery = prepareQuery(returnedType.getReturnedType(),
-				getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor));
+				getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor, parameterAccessor));
 
 		Object rawResult = new Neo4jQueryExecution.ReactiveQueryExecution(neo4jOperations).execute(preparedQuery,
 				queryMethod.isCollectionLikeQuery());
@@ -73,9 +81,14 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		if (returnedType.isProjecting()) {
 			DtoInstantiatingConverter converter = new DtoInstantiatingConverter(returnedType.getReturnedType(), mappingContext);
 
-			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the projecting case
-			preparingConverter = source -> converter.convert(
-					(EntityInstanceWithSource) OptionalUnwrappingConverter.INSTANCE.convert(source));
+			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the projecting case,
+			// unless derived queries could instantiate the DTO directly from the record
+			preparingConverter = source -> {
+				Object intermediateResult = OptionalUnwrappingConverter.INSTANCE.convert(source);
+				return intermediateResult instanceof EntityInstanceWithSource
+						? converter.convert((EntityInstanceWithSource) intermediateResult)
+						: intermediateResult;
+			};
 		}
 
 		return resultProcessor.processResult(rawResult, preparingConverter);
@@ -24,7 +24,8 @@ import org.springframework.data.geo.Polygon;
 
 /**
  * This is a utility class that computes the bounding box of a polygon as a rectangle defined by the lower left and
- * upper right point.
+ * upper right point. Bounding boxes are also used to narrow down geo queries with range predicates on points, which
+ * can be answered by a point index.
  *
  * @author Michael J. Simons
  * @since 6.0
@@ -41,6 +42,49 @@ public final class BoundingBox {
 		return buildFrom(Arrays.asList(b.getFirst(), b.getSecond()));
 	}
 
+	/**
+	 * Creates the bounding box of a circle on a plane.
+	 *
+	 * @param x The x coordinate of the center
+	 * @param y The y coordinate of the center
+	 * @param radius The radius in the unit of the coordinates
+	 * @return The bounding box of the circle
+	 */
+	static BoundingBox ofCartesianCircle(double x, double y, double radius) {
+
+		return new BoundingBox(new Point(x - radius, y - radius), new Point(x + radius, y + radius));
+	}
+
+	/**
+	 * Creates the bounding box of a circle on the sphere Neo4j uses to compute the distance between geographic points.
+	 * The box covers all longitudes when the circle contains a pole or crosses the antimeridian.
+	 *
+	 * @param longitude The longitude of the center in degrees
+	 * @param latitude The latitude of the center in degrees
+	 * @param radius The radius in meters
+	 * @return The bounding box of the circle with the longitude as x and the latitude as y
+	 */
+	static BoundingBox ofGeographicCircle(double longitude, double latitude, double radius) {
+
+		double angularRadius = radius / EARTH_RADIUS_IN_METERS;
+		double minLatitude = latitude - Math.toDegrees(angularRadius);
+		double maxLatitude = latitude + Math.toDegrees(angularRadius);
+
+		double minLongitude = MIN_LONGITUDE;
+		double maxLongitude = MAX_LONGITUDE;
+		if (minLatitude > MIN_LATITUDE && maxLatitude < MAX_LATITUDE) {
+			double longitudeDelta = Math
+					.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude))));
+			if (longitude - longitudeDelta >= MIN_LONGITUDE && longitude + longitudeDelta <= MAX_LONGITUDE) {
+				minLongitude = longitude - longitudeDelta;
+				maxLongitude = longitude + longitudeDelta;
+			}
+		}
+
+		return new BoundingBox(new Point(minLongitude, minLatitude), new Point(maxLongitude, maxLatitude))
+				.toGeographicCoordinates();
+	}
+
 	private static BoundingBox buildFrom(Iterable<Point> points) {
 
 		double minX = Double.POSITIVE_INFINITY;
@@ -61,6 +105,16 @@ public final class BoundingBox {
 		return new BoundingBox(new Point(minX, minY), new Point(maxX, maxY));
 	}
 
+	/**
+	 * The radius of the earth used by Neo4j's {@code distance} function.
+	 */
+	private static final double EARTH_RADIUS_IN_METERS = 6378140.0;
+
+	private static final double MIN_LONGITUDE = -180.0;
+	private static final double MAX_LONGITUDE = 180.0;
+	private static final double MIN_LATITUDE = -90.0;
+	private static final double MAX_LATITUDE = 90.0;
+
 	private final Point lowerLeft;
 	private final Point upperRight;
 
@@ -77,6 +131,26 @@ public final class BoundingBox {
 		return upperRight;
 	}
 
+	/**
+	 * Restricts this box to valid geographic coordinates, with x being the longitude and y the latitude. All
+	 * geographic points inside this box are inside the restricted box as well, but the corners of the restricted box
+	 * can be used to create geographic points.
+	 *
+	 * @return The restricted box
+	 */
+	BoundingBox toGeographicCoordinates() {
+
+		return new BoundingBox(
+				new Point(clamp(lowerLeft.getX(), MIN_LONGITUDE, MAX_LONGITUDE),
+						clamp(lowerLeft.getY(), MIN_LATITUDE, MAX_LATITUDE)),
+				new Point(clamp(upperRight.getX(), MIN_LONGITUDE, MAX_LONGITUDE),
+						clamp(upperRight.getY(), MIN_LATITUDE, MAX_LATITUDE)));
+	}
+
+	private static double clamp(double value, double min, double max) {
+		return Math.max(min, Math.min(max, value));
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
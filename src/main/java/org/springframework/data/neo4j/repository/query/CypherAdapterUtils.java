@@ -17,17 +17,33 @@ package org.springframework.data.neo4j.repository.query;
 
 import static org.neo4j.cypherdsl.core.Cypher.property;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.Condition;
+import org.neo4j.cypherdsl.core.Conditions;
 import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Expression;
 import org.neo4j.cypherdsl.core.SortItem;
 import org.neo4j.cypherdsl.core.StatementBuilder;
+import org.neo4j.driver.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
 import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.GraphPropertyDescription;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.lang.Nullable;
 
 /**
  * Bridging between Spring Data domain Objects and Cypher constructs.
@@ -83,5 +99,180 @@ public final class CypherAdapterUtils {
 		return returning.orderBy(toSortItems(nodeDescription, sort)).skip(skip).limit(pageSize);
 	}
 
+	/**
+	 * Creates the sort items of a keyset request: The sort of the request followed by the id, if the request is not
+	 * already sorted by id.
+	 *
+	 * @param entity The entity to be paged through
+	 * @param keysetRequest The current request
+	 * @return The sort items to be used
+	 */
+	public static SortItem[] toKeysetSortItems(Neo4jPersistentEntity<?> entity, KeysetRequest keysetRequest) {
+
+		return getKeysetOrders(entity, keysetRequest).stream().map(order -> {
+			SortItem sortItem = Cypher.sort(toKeysetExpression(entity, order.getProperty()));
+			return order.isDescending() ? sortItem.descending() : sortItem;
+		}).toArray(SortItem[]::new);
+	}
+
+	/**
+	 * Creates the condition seeking behind the keys of a keyset request. With the orders {@code a, b DESC} and the id as
+	 * tie breaker the condition is {@code a > $k0 OR (a = $k0 AND b < $k1) OR (a = $k0 AND b = $k1 AND id > $k2)}.
+	 *
+	 * @param entity The entity to be paged through
+	 * @param keysetRequest The current request
+	 * @return The condition, an empty condition for the first page or a request with unresolved keys
+	 */
+	public static Condition toKeysetCondition(Neo4jPersistentEntity<?> entity, KeysetRequest keysetRequest) {
+
+		Condition condition = Conditions.noCondition();
+		if (keysetRequest.getKeys().isEmpty()) {
+			return condition;
+		}
+
+		Condition previousKeysAreEqual = Conditions.noCondition();
+		List<Sort.Order> orders = getKeysetOrders(entity, keysetRequest);
+		for (int i = 0; i < orders.size(); ++i) {
+			Sort.Order order = orders.get(i);
+			Expression property = toKeysetExpression(entity, order.getProperty());
+			Expression key = Cypher.parameter(getKeysetParameterName(i));
+
+			condition = condition.or(previousKeysAreEqual.and(order.isDescending() ? property.lt(key) : property.gt(key)));
+			previousKeysAreEqual = previousKeysAreEqual.and(property.isEqualTo(key));
+		}
+		return condition;
+	}
+
+	/**
+	 * Extracts the values of the keys for the condition created by {@link #toKeysetCondition(Neo4jPersistentEntity, KeysetRequest)}.
+	 * The keys are written like the properties they belong to, honoring custom conversions.
+	 *
+	 * @param entity The entity to be paged through
+	 * @param keysetRequest The current request
+	 * @param conversionService The conversion service used to write the keys, only custom conversions of the
+	 *                          properties are applied without one
+	 * @return The parameters of the keyset condition, empty for the first page or a request with unresolved keys
+	 */
+	public static Map<String, Object> toKeysetParameters(Neo4jPersistentEntity<?> entity, KeysetRequest keysetRequest,
+			@Nullable Neo4jConversionService conversionService) {
+
+		if (keysetRequest.getKeys().isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> parameters = new HashMap<>();
+		List<Sort.Order> orders = getKeysetOrders(entity, keysetRequest);
+		for (int i = 0; i < orders.size(); ++i) {
+			String property = orders.get(i).getProperty();
+			Object key = keysetRequest.getKeys().get(property);
+			if (key == null) {
+				throw new IllegalArgumentException(String.format("The keyset request contains no value for the key `%s`.", property));
+			}
+			parameters.put(getKeysetParameterName(i),
+					writeKey(entity.getRequiredPersistentProperty(property), key, conversionService));
+		}
+		return parameters;
+	}
+
+	private static Object writeKey(Neo4jPersistentProperty property, Object key,
+			@Nullable Neo4jConversionService conversionService) {
+
+		Function<Object, Value> writingConverter = property.getOptionalWritingConverter();
+		if (conversionService != null) {
+			return conversionService.writeValue(key, property.getTypeInformation(), writingConverter);
+		}
+		return writingConverter == null ? key : writingConverter.apply(key);
+	}
+
+	/**
+	 * Creates a slice of the results of a keyset query. The query is supposed to be limited to one more element than the
+	 * page size, so that the presence of a next slice can be determined. The next request is created from the keys of
+	 * the last element of the slice.
+	 *
+	 * @param entity The entity that has been paged through
+	 * @param keysetRequest The request that has been executed
+	 * @param results The results, including one more element than requested if available
+	 * @param <T> The type of the elements
+	 * @return A slice of the results
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Slice<T> toKeysetSlice(Neo4jPersistentEntity<?> entity, KeysetRequest keysetRequest,
+			List<T> results) {
+
+		int pageSize = keysetRequest.getPageSize();
+		boolean hasNext = results.size() > pageSize;
+		List<T> content = hasNext ? results.subList(0, pageSize) : results;
+
+		Pageable nextRequest = Pageable.unpaged();
+		if (hasNext) {
+			Object lastElement = content.get(content.size() - 1);
+			if (lastElement instanceof EntityInstanceWithSource) {
+				lastElement = ((EntityInstanceWithSource) lastElement).getEntityInstance();
+			}
+			PersistentPropertyAccessor<Object> propertyAccessor = ((Neo4jPersistentEntity<Object>) entity)
+					.getPropertyAccessor(lastElement);
+			Map<String, Object> keys = new LinkedHashMap<>();
+			for (Sort.Order order : getKeysetOrders(entity, keysetRequest)) {
+				keys.put(order.getProperty(),
+						propertyAccessor.getProperty(entity.getRequiredPersistentProperty(order.getProperty())));
+			}
+			nextRequest = keysetRequest.after(keys);
+		}
+		return new KeysetSlice<>(content, keysetRequest, hasNext, nextRequest);
+	}
+
+	private static List<Sort.Order> getKeysetOrders(Neo4jPersistentEntity<?> entity, KeysetRequest keysetRequest) {
+
+		String idPropertyName = entity.getRequiredIdProperty().getName();
+		Sort sort = keysetRequest.getSort();
+		if (sort.getOrderFor(idPropertyName) == null) {
+			sort = sort.and(Sort.by(idPropertyName));
+		}
+		return sort.toList();
+	}
+
+	private static Expression toKeysetExpression(Neo4jPersistentEntity<?> entity, String property) {
+
+		if (property.equals(entity.getRequiredIdProperty().getName())) {
+			return entity.getIdExpression();
+		}
+		return entity.getGraphProperty(property).map(GraphPropertyDescription::getPropertyName)
+				.map(graphProperty -> property(Constants.NAME_OF_ROOT_NODE, graphProperty))
+				.orElseThrow(() -> new IllegalStateException(
+						String.format("Cannot use the unknown graph property '%s' as key", property)));
+	}
+
+	private static String getKeysetParameterName(int index) {
+		return "__key" + index + "__";
+	}
+
+	/**
+	 * A slice whose next pageable is a keyset request seeking behind the last element of the slice.
+	 *
+	 * @param <T> The type of the elements
+	 */
+	private static final class KeysetSlice<T> extends SliceImpl<T> {
+
+		private static final long serialVersionUID = 3584652318823442175L;
+
+		private final Pageable nextRequest;
+
+		KeysetSlice(List<T> content, KeysetRequest keysetRequest, boolean hasNext, Pageable nextRequest) {
+			super(content, keysetRequest, hasNext);
+			this.nextRequest = nextRequest;
+		}
+
+		@Override
+		public Pageable nextPageable() {
+			return nextRequest;
+		}
+
+		@Override
+		public <U> Slice<U> map(Function<? super T, ? extends U> converter) {
+			return new KeysetSlice<>(getConvertedContent(converter), (KeysetRequest) getPageable(), hasNext(),
+					nextRequest);
+		}
+	}
+
 	private CypherAdapterUtils() {}
 }
@@ -27,6 +27,7 @@ import org.neo4j.cypherdsl.core.Predicates;
 import org.neo4j.cypherdsl.core.Property;
 import org.neo4j.cypherdsl.core.RelationshipPattern;
 import org.neo4j.cypherdsl.core.SortItem;
+import org.neo4j.cypherdsl.core.SymbolicName;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.types.Point;
 import org.springframework.data.domain.Pageable;
@@ -45,6 +46,10 @@ import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.types.CartesianPoint2d;
+import org.springframework.data.neo4j.types.CartesianPoint3d;
+import org.springframework.data.neo4j.types.GeographicPoint2d;
+import org.springframework.data.neo4j.types.GeographicPoint3d;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -52,6 +57,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -79,6 +85,11 @@ import static org.neo4j.cypherdsl.core.Functions.point;
  */
 final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndParameters, Condition> {
 
+	private static final int WGS_84_2D_SRID = 4326;
+	private static final int WGS_84_3D_SRID = 4979;
+	private static final int CARTESIAN_2D_SRID = 7203;
+	private static final int CARTESIAN_3D_SRID = 9157;
+
 	private final Neo4jMappingContext mappingContext;
 
 	private final Class<?> domainType;
@@ -115,6 +126,11 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 	 */
 	private final UnaryOperator<Integer> limitModifier;
 
+	/**
+	 * The cache to take the rendered statement from, if any.
+	 */
+	private @Nullable RenderedQueryCache renderedQueryCache;
+
 	CypherQueryCreator(Neo4jMappingContext mappingContext, Class<?> domainType, Neo4jQueryType queryType, PartTree tree,
 			Neo4jParameterAccessor actualParameters, List<String> includedProperties,
 			BiFunction<Object, Function<Object, Value>, Object> parameterConversion,
@@ -137,6 +153,12 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		this.pagingParameter = actualParameters.getPageable();
 		this.limitModifier = limitModifier;
 
+		if (this.pagingParameter instanceof KeysetRequest && (tree.getSort().isSorted()
+				|| tree.getParts().stream().anyMatch(part -> part.getType() == Part.Type.NEAR))) {
+			throw new IllegalArgumentException(
+					"Keyset requests define the order of the results on their own and cannot be combined with a static order or NEAR.");
+		}
+
 		AtomicInteger symbolicNameIndex = new AtomicInteger();
 
 		propertyPathWrappers = tree.getParts().stream()
@@ -231,6 +253,20 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		}
 	}
 
+	/**
+	 * Creates the query and takes the rendered statement from the given cache. The conditions are still created, as they
+	 * bind the actual parameters, but the remaining fragments are only created and rendered if no statement with the same
+	 * shape has been rendered before.
+	 *
+	 * @param cache The cache to take the rendered statement from
+	 * @return The fragments and parameters of the query, including the rendered statement if it is cacheable
+	 */
+	QueryFragmentsAndParameters createQuery(RenderedQueryCache cache) {
+
+		this.renderedQueryCache = cache;
+		return createQuery();
+	}
+
 	@Override
 	protected Condition create(Part part, Iterator<Object> actualParameters) {
 		return createImpl(part, actualParameters);
@@ -254,11 +290,50 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 	@Override
 	protected QueryFragmentsAndParameters complete(@Nullable Condition condition, Sort sort) {
 
-		QueryFragmentsAndParameters.QueryFragments queryFragments = createQueryFragments(condition, sort);
-
 		Map<String, Object> convertedParameters = this.boundedParameters.stream()
 				.collect(Collectors.toMap(p -> p.nameOrIndex, p -> parameterConversion.apply(p.value, p.conversionOverride)));
-		return new QueryFragmentsAndParameters(nodeDescription, queryFragments, convertedParameters);
+		if (queryType != Neo4jQueryType.COUNT && queryType != Neo4jQueryType.EXISTS
+				&& pagingParameter instanceof KeysetRequest) {
+			convertedParameters.putAll(CypherAdapterUtils.toKeysetParameters((Neo4jPersistentEntity<?>) nodeDescription,
+					(KeysetRequest) pagingParameter, mappingContext.getConversionService()));
+		}
+
+		Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) nodeDescription;
+		if (renderedQueryCache != null && renderedQueryCache.canCache(entity, includedProperties)) {
+			String cypherQuery = renderedQueryCache.getRenderedQuery(getShape(sort),
+					() -> createQueryFragments(condition, sort).toStatement());
+
+			// The statement is complete, only the properties to return are needed for mapping the results
+			QueryFragmentsAndParameters.QueryFragments queryFragments = new QueryFragmentsAndParameters.QueryFragments();
+			queryFragments.setReturnBasedOn(nodeDescription, includedProperties);
+			return new QueryFragmentsAndParameters(nodeDescription, queryFragments, convertedParameters, cypherQuery);
+		}
+		return new QueryFragmentsAndParameters(nodeDescription, createQueryFragments(condition, sort), convertedParameters);
+	}
+
+	/**
+	 * The shape of a statement comprises everything that changes the statement but is not bound as parameter.
+	 */
+	private List<Object> getShape(Sort sort) {
+
+		// Neither skip nor limit are used by count and exists queries
+		Object skip = null;
+		Object limit = null;
+		if (queryType != Neo4jQueryType.COUNT && queryType != Neo4jQueryType.EXISTS) {
+			if (pagingParameter instanceof KeysetRequest) {
+				skip = ((KeysetRequest) pagingParameter).hasUnresolvedKeys() ? pagingParameter.getOffset() : null;
+				limit = limitModifier.apply(pagingParameter.getPageSize());
+			} else if (pagingParameter.isUnpaged()) {
+				limit = maxResults;
+			} else {
+				skip = pagingParameter.getOffset();
+				limit = limitModifier.apply(pagingParameter.getPageSize());
+			}
+		}
+
+		// Keyset requests for other pages than the first add a condition on the keys
+		boolean seeking = pagingParameter instanceof KeysetRequest && !((KeysetRequest) pagingParameter).getKeys().isEmpty();
+		return Arrays.asList(queryType, includedProperties, pagingParameter.getSort(), sort, skip, limit, seeking);
 	}
 
 	@NonNull
@@ -292,6 +367,17 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 			queryFragments.setReturnExpression(Functions.count(Cypher.asterisk()), true);
 		} else if (queryType == Neo4jQueryType.EXISTS) {
 			queryFragments.setReturnExpression(Functions.count(Constants.NAME_OF_ROOT_NODE).gt(Cypher.literalOf(0)), true);
+		} else if (pagingParameter instanceof KeysetRequest) {
+			KeysetRequest keysetRequest = (KeysetRequest) pagingParameter;
+			queryFragments.setCondition(conditionFragment.and(
+					CypherAdapterUtils.toKeysetCondition((Neo4jPersistentEntity<?>) nodeDescription, keysetRequest)));
+			queryFragments.setReturnBasedOn(nodeDescription, includedProperties);
+			queryFragments.setOrderBy(
+					CypherAdapterUtils.toKeysetSortItems((Neo4jPersistentEntity<?>) nodeDescription, keysetRequest));
+			if (keysetRequest.hasUnresolvedKeys()) {
+				queryFragments.setSkip(keysetRequest.getOffset());
+			}
+			queryFragments.setLimit(limitModifier.apply(keysetRequest.getPageSize()));
 		} else {
 			queryFragments.setReturnBasedOn(nodeDescription, includedProperties);
 			queryFragments.setOrderBy(Stream
@@ -437,26 +523,34 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		Parameter p1 = nextRequiredParameter(actualParameters, leafProperty);
 		Optional<Parameter> p2 = nextOptionalParameter(actualParameters, leafProperty);
 
-		Expression referencePoint;
+		Parameter referencePoint;
 
 		Optional<Parameter> other;
 		if (p1.value instanceof Point) {
-			referencePoint = toCypherParameter(p1, false);
+			referencePoint = p1;
 			other = p2;
 		} else if (p2.isPresent() && p2.get().value instanceof Point) {
-			referencePoint = toCypherParameter(p2.get(), false);
+			referencePoint = p2.get();
 			other = Optional.of(p1);
 		} else {
 			throw new IllegalArgumentException(
 					String.format("The NEAR operation requires a reference point of type %s", Point.class));
 		}
 
-		Expression distanceFunction = Functions.distance(toCypherProperty(path, false), referencePoint);
+		Expression distanceFunction = Functions.distance(toCypherProperty(path, false),
+				toCypherParameter(referencePoint, false));
 
 		if (other.filter(p -> p.hasValueOfType(Distance.class)).isPresent()) {
-			return distanceFunction.lte(toCypherParameter(other.get(), false));
+			Distance maxDistance = (Distance) other.get().value;
+			return createBoundingBoxConditionForNear(path, referencePoint, maxDistance)
+					.and(distanceFunction.lte(toCypherParameter(other.get(), false)));
 		} else if (other.filter(p -> p.hasValueOfType(Range.class)).isPresent()) {
-			return createRangeConditionForProperty(distanceFunction, other.get());
+			Optional<Distance> maxDistance = ((Range<?>) other.get().value).getUpperBound().getValue()
+					.filter(Distance.class::isInstance).map(Distance.class::cast);
+			Condition boundingBoxCondition = maxDistance
+					.map(distance -> createBoundingBoxConditionForNear(path, referencePoint, distance))
+					.orElseGet(Conditions::noCondition);
+			return boundingBoxCondition.and(createRangeConditionForProperty(distanceFunction, other.get()));
 		} else {
 			// We only have a point toCypherParameter, that's ok, but we have to put back the last toCypherParameter when it
 			// wasn't null
@@ -473,13 +567,24 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		Neo4jPersistentProperty leafProperty = path.getRequiredLeafProperty();
 		Parameter area = nextRequiredParameter(actualParameters, leafProperty);
 		if (area.hasValueOfType(Circle.class)) {
+			Circle circle = (Circle) area.value;
+			double radius = Neo4jQuerySupport.calculateDistanceInMeter(circle.getRadius());
+			Condition boundingBoxCondition = createBoundingBoxCondition(path, area.nameOrIndex,
+					BoundingBox.ofCartesianCircle(circle.getCenter().getX(), circle.getCenter().getY(), radius),
+					BoundingBox.ofGeographicCircle(circle.getCenter().getX(), circle.getCenter().getY(), radius));
+
 			// We don't know the CRS of the point, so we assume the same as the reference toCypherProperty
 			Expression referencePoint = point(Cypher.mapOf("x", createCypherParameter(area.nameOrIndex + ".x", false), "y",
 					createCypherParameter(area.nameOrIndex + ".y", false), "srid",
 					Cypher.property(toCypherProperty(path, false), "srid")));
 			Expression distanceFunction = Functions.distance(toCypherProperty(path, false), referencePoint);
-			return distanceFunction.lte(createCypherParameter(area.nameOrIndex + ".radius", false));
+			return boundingBoxCondition.and(distanceFunction.lte(createCypherParameter(area.nameOrIndex + ".radius", false)));
 		} else if (area.hasValueOfType(BoundingBox.class) || area.hasValueOfType(Box.class)) {
+			BoundingBox boundingBox = area.hasValueOfType(Box.class) ? BoundingBox.of((Box) area.value)
+					: (BoundingBox) area.value;
+			Condition boundingBoxCondition = createBoundingBoxCondition(path, area.nameOrIndex, boundingBox,
+					boundingBox.toGeographicCoordinates());
+
 			Expression llx = createCypherParameter(area.nameOrIndex + ".llx", false);
 			Expression lly = createCypherParameter(area.nameOrIndex + ".lly", false);
 			Expression urx = createCypherParameter(area.nameOrIndex + ".urx", false);
@@ -488,15 +593,139 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 			Expression x = Cypher.property(toCypherProperty(path, false), "x");
 			Expression y = Cypher.property(toCypherProperty(path, false), "y");
 
-			return llx.lte(x).and(x.lte(urx)).and(lly.lte(y)).and(y.lte(ury));
+			return boundingBoxCondition.and(llx.lte(x).and(x.lte(urx)).and(lly.lte(y)).and(y.lte(ury)));
 		} else if (area.hasValueOfType(Polygon.class)) {
-			throw new IllegalArgumentException(String.format(
-					"The WITHIN operation does not support a %s. You might want to pass a bounding box instead: %s.of(polygon).",
-					Polygon.class, BoundingBox.class));
+			BoundingBox boundingBox = BoundingBox.of((Polygon) area.value);
+			Condition boundingBoxCondition = createBoundingBoxCondition(path, area.nameOrIndex, boundingBox,
+					boundingBox.toGeographicCoordinates());
+
+			return boundingBoxCondition.and(createPolygonCondition(path, area));
 		} else {
-			throw new IllegalArgumentException(
-					String.format("The WITHIN operation requires an area of type %s or %s.", Circle.class, Box.class));
+			throw new IllegalArgumentException(String.format("The WITHIN operation requires an area of type %s, %s or %s.",
+					Circle.class, Box.class, Polygon.class));
+		}
+	}
+
+	/**
+	 * Creates the bounding box of all points within the given distance of the reference point of a NEAR operation. The
+	 * coordinate reference system of the reference point is known, so only one box is needed.
+	 */
+	private Condition createBoundingBoxConditionForNear(PersistentPropertyPath<Neo4jPersistentProperty> path,
+			Parameter referencePoint, Distance maxDistance) {
+
+		if (referencePoint.conversionOverride != null) {
+			return Conditions.noCondition();
+		}
+
+		Point point = (Point) referencePoint.value;
+		double radius = Neo4jQuerySupport.calculateDistanceInMeter(maxDistance);
+		if (point.srid() == CARTESIAN_2D_SRID) {
+			return createBoundingBoxCondition(path, referencePoint.nameOrIndex,
+					BoundingBox.ofCartesianCircle(point.x(), point.y(), radius), null);
+		} else if (point.srid() == WGS_84_2D_SRID) {
+			return createBoundingBoxCondition(path, referencePoint.nameOrIndex, null,
+					BoundingBox.ofGeographicCircle(point.x(), point.y(), radius));
+		}
+		return Conditions.noCondition();
+	}
+
+	/**
+	 * Creates range predicates on the point property that can be answered by a point index, such as
+	 * {@code point({x: 1, y: 2, srid: 7203}) <= n.location AND n.location <= point({x: 3, y: 4, srid: 7203})}. The
+	 * bounds of the boxes are computed on the client, because the corners of a geographic box need to be valid
+	 * coordinates. Each box is used only for points of its coordinate reference system. If the reference system cannot
+	 * be derived from the type of the property, the predicates of both boxes are combined.
+	 *
+	 * @param path The path to the point property
+	 * @param nameOrIndex The name or index of the parameter the boxes have been derived from
+	 * @param cartesianBounds The bounds for cartesian points, may be {@literal null}
+	 * @param geographicBounds The bounds for geographic points, may be {@literal null}
+	 * @return A condition on the point property, {@link Conditions#noCondition()} if none of the boxes can apply
+	 */
+	private Condition createBoundingBoxCondition(PersistentPropertyPath<Neo4jPersistentProperty> path,
+			String nameOrIndex, @Nullable BoundingBox cartesianBounds, @Nullable BoundingBox geographicBounds) {
+
+		Integer srid = getSridOfStoredPoints(path.getRequiredLeafProperty());
+		Expression property = toCypherProperty(path, false);
+
+		Condition condition = Conditions.noCondition();
+		if (cartesianBounds != null && (srid == null || srid == CARTESIAN_2D_SRID)) {
+			condition = condition.or(createPointRangeCondition(property,
+					bindSyntheticParameter("__cartesian_" + nameOrIndex + "__", cartesianBounds), CARTESIAN_2D_SRID));
+		}
+		if (geographicBounds != null && (srid == null || srid == WGS_84_2D_SRID)) {
+			condition = condition.or(createPointRangeCondition(property,
+					bindSyntheticParameter("__geographic_" + nameOrIndex + "__", geographicBounds), WGS_84_2D_SRID));
 		}
+		return condition;
+	}
+
+	private Condition createPointRangeCondition(Expression property, String nameOfBounds, int srid) {
+
+		Expression lowerLeft = point(Cypher.mapOf(
+				"x", createCypherParameter(nameOfBounds + ".llx", false),
+				"y", createCypherParameter(nameOfBounds + ".lly", false),
+				"srid", Cypher.literalOf(srid)));
+		Expression upperRight = point(Cypher.mapOf(
+				"x", createCypherParameter(nameOfBounds + ".urx", false),
+				"y", createCypherParameter(nameOfBounds + ".ury", false),
+				"srid", Cypher.literalOf(srid)));
+		return lowerLeft.lte(property).and(property.lte(upperRight));
+	}
+
+	/**
+	 * Checks whether a point is inside a polygon by counting how many edges of the polygon a ray starting at the point
+	 * crosses. The edges are computed on the client.
+	 */
+	private Condition createPolygonCondition(PersistentPropertyPath<Neo4jPersistentProperty> path, Parameter area) {
+
+		Expression x = Cypher.property(toCypherProperty(path, false), "x");
+		Expression y = Cypher.property(toCypherProperty(path, false), "y");
+
+		SymbolicName edge = Cypher.name("edge");
+		Expression x1 = Cypher.property(edge, "x1");
+		Expression y1 = Cypher.property(edge, "y1");
+		Expression x2 = Cypher.property(edge, "x2");
+		Expression y2 = Cypher.property(edge, "y2");
+
+		Condition crossesEdge = y1.gt(y).xor(y2.gt(y))
+				.and(x.lt(x2.subtract(x1).multiply(y.subtract(y1)).divide(y2.subtract(y1)).add(x1)));
+		Expression crossedEdges = Functions.size(Cypher.listWith(edge)
+				.in(createCypherParameter(area.nameOrIndex + ".edges", false))
+				.where(crossesEdge)
+				.returning());
+		return crossedEdges.remainder(Cypher.literalOf(2)).isEqualTo(Cypher.literalOf(1));
+	}
+
+	/**
+	 * @param property A point property
+	 * @return The SRID of all points stored for the property if it can be derived from the type of the property,
+	 *         {@literal null} otherwise
+	 */
+	@Nullable
+	private static Integer getSridOfStoredPoints(Neo4jPersistentProperty property) {
+
+		if (property.getOptionalWritingConverter() != null) {
+			return null;
+		}
+
+		Class<?> type = property.getType();
+		if (type == org.springframework.data.geo.Point.class || type == GeographicPoint2d.class) {
+			return WGS_84_2D_SRID;
+		} else if (type == CartesianPoint2d.class) {
+			return CARTESIAN_2D_SRID;
+		} else if (type == GeographicPoint3d.class) {
+			return WGS_84_3D_SRID;
+		} else if (type == CartesianPoint3d.class) {
+			return CARTESIAN_3D_SRID;
+		}
+		return null;
+	}
+
+	private String bindSyntheticParameter(String name, Object value) {
+
+		boundedParameters.add(new Parameter(name, value, null));
+		return name;
 	}
 
 	/**
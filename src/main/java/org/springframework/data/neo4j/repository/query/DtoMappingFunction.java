@@ -0,0 +1,178 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Instantiates DTOs straight from the records of derived queries without hydrating the domain entity first. The
+ * {@link DtoInstantiatingConverter} has to map the whole entity, including all the relationships, before it can copy
+ * the values into the DTO. This function reads only the properties the DTO needs from the map projection of the root
+ * node. It is only available if all properties of the DTO are simple properties of the domain type; in all other cases
+ * {@link #of(Neo4jMappingContext, Class, Neo4jPersistentEntity, List)} returns an empty optional and the DTO is
+ * created via the domain entity.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class DtoMappingFunction implements BiFunction<TypeSystem, MapAccessor, Object> {
+
+	private final Neo4jMappingContext context;
+
+	private final PersistentEntity<?, ?> targetEntity;
+
+	/**
+	 * Properties of the domain type indexed by the name of the matching DTO property.
+	 */
+	private final Map<String, Neo4jPersistentProperty> sourceProperties;
+
+	/**
+	 * Creates a mapping function for the given DTO type if possible.
+	 *
+	 * @param context The mapping context
+	 * @param dtoType The type of the DTO, interfaces are not supported
+	 * @param sourceEntity The domain type of the query
+	 * @param includedProperties The properties of the domain type that are returned by the query
+	 * @return An optional mapping function
+	 */
+	static Optional<BiFunction<TypeSystem, MapAccessor, Object>> of(Neo4jMappingContext context, Class<?> dtoType,
+			Neo4jPersistentEntity<?> sourceEntity, List<String> includedProperties) {
+
+		// Those will be projected via the generic return statement and require the complete entity
+		if (dtoType.isInterface() || sourceEntity.containsPossibleCircles(includedProperties)) {
+			return Optional.empty();
+		}
+
+		PersistentEntity<?, ?> targetEntity = context.addPersistentEntity(ClassTypeInformation.from(dtoType)).get();
+		Map<String, Neo4jPersistentProperty> sourceProperties = new HashMap<>();
+		for (PersistentProperty<?> targetProperty : targetEntity) {
+			Neo4jPersistentProperty sourceProperty = sourceEntity.getPersistentProperty(targetProperty.getName());
+			if (targetProperty.isAssociation() || !isSimpleProperty(sourceProperty)
+					|| !ClassUtils.isAssignable(targetProperty.getType(), sourceProperty.getType())) {
+				return Optional.empty();
+			}
+			sourceProperties.put(targetProperty.getName(), sourceProperty);
+		}
+
+		return Optional.of(new DtoMappingFunction(context, targetEntity, sourceProperties));
+	}
+
+	private static boolean isSimpleProperty(@Nullable Neo4jPersistentProperty property) {
+		return property != null && !property.isAssociation() && !property.isComposite() && !property.isDynamicLabels()
+				&& !property.isEntityWithRelationshipProperties();
+	}
+
+	private DtoMappingFunction(Neo4jMappingContext context, PersistentEntity<?, ?> targetEntity,
+			Map<String, Neo4jPersistentProperty> sourceProperties) {
+
+		this.context = context;
+		this.targetEntity = targetEntity;
+		this.sourceProperties = sourceProperties;
+	}
+
+	@Override
+	public Object apply(TypeSystem typeSystem, MapAccessor record) {
+
+		MapAccessor queryRoot = determineQueryRoot(typeSystem, record);
+		PreferredConstructor<?, ? extends PersistentProperty<?>> constructor = targetEntity.getPersistenceConstructor();
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Object dto = context.getInstantiatorFor(targetEntity)
+				.createInstance(targetEntity, new ParameterValueProvider() {
+					@Override
+					public Object getParameterValue(Parameter parameter) {
+						Object value = readValue(parameter.getName(), queryRoot);
+						return value == null ? defaultValueOf(parameter.getType().getType()) : value;
+					}
+				});
+
+		PersistentPropertyAccessor<?> dtoAccessor = targetEntity.getPropertyAccessor(dto);
+		targetEntity.doWithProperties((SimplePropertyHandler) property -> {
+
+			if (constructor.isConstructorParameter(property)) {
+				return;
+			}
+			Object value = readValue(property.getName(), queryRoot);
+			// Missing values must not be assigned to primitive properties, they keep the value of their initializer
+			if (value != null || !property.getType().isPrimitive()) {
+				dtoAccessor.setProperty(property, value);
+			}
+		});
+
+		return dtoAccessor.getBean();
+	}
+
+	@Nullable
+	private Object readValue(@Nullable String targetPropertyName, MapAccessor queryRoot) {
+
+		Neo4jPersistentProperty sourceProperty = sourceProperties.get(targetPropertyName);
+		if (sourceProperty == null) {
+			return null;
+		}
+
+		Value value = sourceProperty.isInternalIdProperty()
+				? queryRoot.get(Constants.NAME_OF_INTERNAL_ID)
+				: queryRoot.get(sourceProperty.getPropertyName());
+		return context.getConversionService().readValue(value, sourceProperty.getTypeInformation(),
+				sourceProperty.getOptionalReadingConverter());
+	}
+
+	/**
+	 * Primitive constructor parameters cannot be {@literal null}, missing values fall back to the default value of the
+	 * primitive type, like they do in an uninitialized field.
+	 */
+	@Nullable
+	private static Object defaultValueOf(Class<?> type) {
+		return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+	}
+
+	/**
+	 * Derived queries return the root node as a single map projection.
+	 */
+	private static MapAccessor determineQueryRoot(TypeSystem typeSystem, MapAccessor record) {
+
+		for (Value value : record.values()) {
+			if (value.hasType(typeSystem.MAP())
+					&& !(value.hasType(typeSystem.NODE()) || value.hasType(typeSystem.RELATIONSHIP()))) {
+				return value;
+			}
+		}
+		return record;
+	}
+}
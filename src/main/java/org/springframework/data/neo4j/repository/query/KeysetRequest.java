@@ -0,0 +1,218 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Pageable} that seeks to the next page instead of skipping over the previous ones. Instead of an offset it
+ * carries the values of the sort properties and of the id of the last element of the previous page, the so called keys.
+ * The generated query filters on those keys, for example {@code WHERE n.name > $key0 OR (n.name = $key0 AND n.id > $key1)},
+ * so reading a page deep down costs the same as reading the first page, given there's an index on the sort properties.
+ * <p>
+ * The id is always added as the last sort property so that the order is unique. The first request is created via
+ * {@link #of(int, Sort)}, subsequent requests are available via {@link org.springframework.data.domain.Slice#nextPageable()}
+ * on the {@link org.springframework.data.domain.Slice slices} returned by
+ * {@link org.springframework.data.neo4j.repository.Neo4jRepository#findAll(KeysetRequest)} or derived finder methods
+ * returning a slice. Static ordering of derived finder methods ({@code findAllByNameOrderByName}) is not supported
+ * together with keyset requests, the sort of the request defines the order. Sort properties must not be {@literal null}.
+ * <p>
+ * Requests for pages other than the first one that are not created from a slice, for example via {@link #next()}, don't
+ * know the keys of the previous page. Those requests have unresolved keys and skip over the previous pages like an
+ * offset based request. The slice returned for them provides a request with resolved keys again.
+ *
+ * @author agent
+ * @since 6.1
+ */
+@API(status = API.Status.STABLE, since = "6.1")
+public final class KeysetRequest implements Pageable {
+
+	private final int pageNumber;
+
+	private final int pageSize;
+
+	private final Sort sort;
+
+	private final Map<String, Object> keys;
+
+	/**
+	 * Creates a request for the first page.
+	 *
+	 * @param pageSize The size of the pages, must be greater than zero
+	 * @param sort The order of the elements, the id will always be added as last property
+	 * @return A new request
+	 */
+	public static KeysetRequest of(int pageSize, Sort sort) {
+		return new KeysetRequest(0, pageSize, sort, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a request for the first page, ordered by id.
+	 *
+	 * @param pageSize The size of the pages, must be greater than zero
+	 * @return A new request
+	 */
+	public static KeysetRequest of(int pageSize) {
+		return of(pageSize, Sort.unsorted());
+	}
+
+	private KeysetRequest(int pageNumber, int pageSize, Sort sort, Map<String, Object> keys) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero.");
+		Assert.notNull(sort, "Sort must not be null.");
+		Assert.notNull(keys, "Keys must not be null.");
+
+		this.pageNumber = pageNumber;
+		this.pageSize = pageSize;
+		this.sort = sort;
+		this.keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+	}
+
+	/**
+	 * Creates a request for the page following the element identified by the given keys.
+	 *
+	 * @param newKeys The values of the sort properties and the id of the last element read, indexed by property name
+	 * @return A new request
+	 */
+	public KeysetRequest after(Map<String, Object> newKeys) {
+		return new KeysetRequest(this.pageNumber + 1, this.pageSize, this.sort, newKeys);
+	}
+
+	/**
+	 * @return The values of the sort properties and the id of the last element of the previous page, indexed by property
+	 * name. Will be empty for the first page.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	/**
+	 * @return True, if this request describes the first page
+	 */
+	public boolean isFirstPage() {
+		return pageNumber == 0;
+	}
+
+	/**
+	 * @return True, if this request describes a page other than the first one without knowing the keys of the previous
+	 * page, so that it has to skip over the previous pages
+	 */
+	public boolean hasUnresolvedKeys() {
+		return !isFirstPage() && keys.isEmpty();
+	}
+
+	@Override
+	public int getPageNumber() {
+		return pageNumber;
+	}
+
+	@Override
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Nothing will be skipped as long as the keys of the previous page are known.
+	 *
+	 * @return zero, or the offset of the page if the keys are unresolved
+	 */
+	@Override
+	public long getOffset() {
+		return hasUnresolvedKeys() ? (long) pageNumber * pageSize : 0;
+	}
+
+	@Override
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * The keys of the next request can only be computed from the content of a page. Prefer
+	 * {@link org.springframework.data.domain.Slice#nextPageable()} or {@link #after(Map)}, which seek behind the keys.
+	 *
+	 * @return The request for the next page with unresolved keys
+	 */
+	@Override
+	public KeysetRequest next() {
+		return withPage(this.pageNumber + 1);
+	}
+
+	/**
+	 * @return The request for the previous page with unresolved keys or the request for the first page
+	 */
+	@Override
+	public KeysetRequest previousOrFirst() {
+		return hasPrevious() ? withPage(this.pageNumber - 1) : first();
+	}
+
+	@Override
+	public KeysetRequest first() {
+		return of(this.pageSize, this.sort);
+	}
+
+	/**
+	 * @param newPageNumber The number of the requested page, must not be negative
+	 * @return The request for the requested page with unresolved keys or the request for the first page
+	 */
+	@Override
+	public KeysetRequest withPage(int newPageNumber) {
+
+		Assert.isTrue(newPageNumber >= 0, "Page number must not be negative.");
+		return newPageNumber == 0 ? first()
+				: new KeysetRequest(newPageNumber, this.pageSize, this.sort, Collections.emptyMap());
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return pageNumber > 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		KeysetRequest that = (KeysetRequest) o;
+		return pageNumber == that.pageNumber && pageSize == that.pageSize && sort.equals(that.sort) && keys
+				.equals(that.keys);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(pageNumber, pageSize, sort, keys);
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetRequest{" +
+			   "pageNumber=" + pageNumber +
+			   ", pageSize=" + pageSize +
+			   ", sort=" + sort +
+			   ", keys=" + keys +
+			   '}';
+	}
+}
@@ -55,6 +55,27 @@ interface Neo4jQueryExecution {
 		}
 	}
 
+	/**
+	 * Executes a query and returns its results as a lazily mapped {@link java.util.stream.Stream}. The stream holds on to
+	 * the underlying session or transaction until it is closed.
+	 *
+	 * @since 6.1
+	 */
+	class StreamQueryExecution implements Neo4jQueryExecution {
+
+		private final Neo4jOperations neo4jOperations;
+
+		StreamQueryExecution(Neo4jOperations neo4jOperations) {
+			this.neo4jOperations = neo4jOperations;
+		}
+
+		@Override
+		public Object execute(PreparedQuery<?> preparedQuery, boolean asCollectionQuery) {
+
+			return neo4jOperations.toExecutableQuery(preparedQuery).getResultStream();
+		}
+	}
+
 	class ReactiveQueryExecution implements Neo4jQueryExecution {
 
 		private final ReactiveNeo4jOperations neo4jOperations;
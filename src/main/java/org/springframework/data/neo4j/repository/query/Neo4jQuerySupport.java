@@ -15,13 +15,18 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.beans.PropertyDescriptor;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -36,9 +41,17 @@ import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Polygon;
 import org.springframework.data.neo4j.core.convert.Neo4jSimpleTypes;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -65,6 +78,11 @@ abstract class Neo4jQuerySupport {
 
 	static final LogAccessor REPOSITORY_QUERY_LOG = new LogAccessor(LogFactory.getLog(Neo4jQuerySupport.class));
 
+	/**
+	 * Only used to inspect nested projections, never to create them.
+	 */
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
 	/**
 	 * Centralizes inquiry of the domain type to use the result processor of the query method as the point of truth.
 	 * While this could be exposed on the query method itself, we would risk working with another type if at some point
@@ -88,7 +106,8 @@ abstract class Neo4jQuerySupport {
 		this.queryType = queryType;
 	}
 
-	protected final BiFunction<TypeSystem, MapAccessor, ?> getMappingFunction(final ResultProcessor resultProcessor) {
+	protected final BiFunction<TypeSystem, MapAccessor, ?> getMappingFunction(final ResultProcessor resultProcessor,
+			final Neo4jParameterAccessor parameterAccessor) {
 
 		final ReturnedType returnedTypeMetadata = resultProcessor.getReturnedType();
 		final Class<?> returnedType = returnedTypeMetadata.getReturnedType();
@@ -101,18 +120,99 @@ abstract class Neo4jQuerySupport {
 			// It will thrown an error if the query contains more than one column.
 			mappingFunction = null;
 		} else if (returnedTypeMetadata.isProjecting()) {
-			BiFunction<TypeSystem, MapAccessor, ?> target = this.mappingContext.getRequiredMappingFunctionFor(domainType);
-			mappingFunction = (t, r) -> new EntityInstanceWithSource(target.apply(t, r), t, r);
+			// Keyset slices need the domain entities to compute the keys of the next slice
+			boolean requiresDomainEntities = parameterAccessor.getPageable() instanceof KeysetRequest;
+			Optional<BiFunction<TypeSystem, MapAccessor, Object>> dtoMappingFunction = isDerivedQuery() && !requiresDomainEntities
+					? DtoMappingFunction.of(this.mappingContext, returnedType,
+							this.mappingContext.getRequiredPersistentEntity(domainType), getInputProperties(resultProcessor))
+					: Optional.empty();
+			if (dtoMappingFunction.isPresent()) {
+				mappingFunction = dtoMappingFunction.get();
+			} else {
+				BiFunction<TypeSystem, MapAccessor, ?> target = getEntityMappingFunction(domainType);
+				mappingFunction = (t, r) -> new EntityInstanceWithSource(target.apply(t, r), t, r);
+			}
 		} else {
-			mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(domainType);
+			mappingFunction = getEntityMappingFunction(domainType);
 		}
 		return mappingFunction;
 	}
 
+	/**
+	 * @param domainType The domain type of the query
+	 * @return The function mapping records into entities of the domain type
+	 */
+	protected BiFunction<TypeSystem, MapAccessor, ?> getEntityMappingFunction(Class<?> domainType) {
+		return this.mappingContext.getRequiredMappingFunctionFor(domainType);
+	}
+
+	/**
+	 * Derived queries create their statements themselves and the shape of the returned records is known upfront. This
+	 * allows DTOs to be instantiated directly from the records.
+	 *
+	 * @return True, if the query is derived from the method name
+	 */
+	boolean isDerivedQuery() {
+		return false;
+	}
+
+	/**
+	 * Computes the properties of the domain type that are required by a projection. Closed interface projections may
+	 * contain nested projections of related nodes. The properties of those are included as paths like
+	 * {@code friends.name}, together with the name of the relationship itself.
+	 *
+	 * @param resultProcessor The result processor of the query method
+	 * @return The properties to be returned by the query, an empty list means all properties
+	 */
 	protected final List<String> getInputProperties(final ResultProcessor resultProcessor) {
 
 		ReturnedType returnedType = resultProcessor.getReturnedType();
-		return returnedType.isProjecting() ? returnedType.getInputProperties() : Collections.emptyList();
+		if (!returnedType.isProjecting()) {
+			return Collections.emptyList();
+		}
+
+		List<String> inputProperties = returnedType.getInputProperties();
+		if (inputProperties.isEmpty() || !returnedType.getReturnedType().isInterface()) {
+			return inputProperties;
+		}
+
+		List<String> inputPropertiesIncludingNested = new ArrayList<>(inputProperties);
+		addNestedInputProperties(this.mappingContext.getRequiredPersistentEntity(returnedType.getDomainType()),
+				returnedType.getReturnedType(), "", inputPropertiesIncludingNested, new HashSet<>());
+		return inputPropertiesIncludingNested;
+	}
+
+	private static void addNestedInputProperties(Neo4jPersistentEntity<?> entity, Class<?> projectionType,
+			String prefix, List<String> inputProperties, Set<Class<?>> processedProjectionTypes) {
+
+		ProjectionInformation projectionInformation = PROJECTION_FACTORY.getProjectionInformation(projectionType);
+		if (!projectionInformation.isClosed() || !processedProjectionTypes.add(projectionType)) {
+			return;
+		}
+
+		for (PropertyDescriptor inputProperty : projectionInformation.getInputProperties()) {
+
+			Neo4jPersistentProperty property = entity.getPersistentProperty(inputProperty.getName());
+			if (property == null || !property.isRelationship() || property.isDynamicAssociation()
+					|| ((RelationshipDescription) property.getAssociation()).hasRelationshipProperties()) {
+				continue;
+			}
+
+			Class<?> nestedProjectionType = ClassTypeInformation.fromReturnTypeOf(inputProperty.getReadMethod())
+					.getRequiredActualType().getType();
+			Neo4jPersistentEntity<?> targetEntity = (Neo4jPersistentEntity<?>) ((RelationshipDescription) property
+					.getAssociation()).getTarget();
+			if (!nestedProjectionType.isInterface() || nestedProjectionType.isAssignableFrom(targetEntity.getType())
+					|| !PROJECTION_FACTORY.getProjectionInformation(nestedProjectionType).isClosed()) {
+				continue;
+			}
+
+			String nestedPrefix = prefix + inputProperty.getName() + ".";
+			PROJECTION_FACTORY.getProjectionInformation(nestedProjectionType).getInputProperties()
+					.forEach(nestedProperty -> inputProperties.add(nestedPrefix + nestedProperty.getName()));
+			addNestedInputProperties(targetEntity, nestedProjectionType, nestedPrefix, inputProperties,
+					processedProjectionTypes);
+		}
 	}
 
 	/**
@@ -157,6 +257,8 @@ abstract class Neo4jQuerySupport {
 			return convertBox((Box) parameter);
 		} else if (parameter instanceof BoundingBox) {
 			return convertBoundingBox((BoundingBox) parameter);
+		} else if (parameter instanceof Polygon) {
+			return convertPolygon((Polygon) parameter);
 		}
 
 		if (mappingContext.hasPersistentEntityFor(parameter.getClass())) {
@@ -265,7 +367,33 @@ abstract class Neo4jQuerySupport {
 		return map;
 	}
 
-	private static double calculateDistanceInMeter(Distance distance) {
+	/**
+	 * Converts a polygon into its bounding box and its edges, each edge going from {@code x1}, {@code y1} to {@code x2},
+	 * {@code y2}.
+	 */
+	private Map<String, Object> convertPolygon(Polygon polygon) {
+
+		Map<String, Object> map = convertBoundingBox(BoundingBox.of(polygon));
+
+		List<Point> points = polygon.getPoints();
+		List<Map<String, Object>> edges = new ArrayList<>(points.size());
+		for (int i = 0; i < points.size(); ++i) {
+			Point start = points.get(i);
+			Point end = points.get((i + 1) % points.size());
+
+			Map<String, Object> edge = new HashMap<>();
+			edge.put("x1", convertParameter(start.getX()));
+			edge.put("y1", convertParameter(start.getY()));
+			edge.put("x2", convertParameter(end.getX()));
+			edge.put("y2", convertParameter(end.getY()));
+			edges.add(edge);
+		}
+		map.put("edges", edges);
+
+		return map;
+	}
+
+	static double calculateDistanceInMeter(Distance distance) {
 
 		if (distance.getMetric() == Metrics.KILOMETERS) {
 			double kilometersDivisor = 0.001d;
@@ -15,18 +15,23 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * This class provides a couple of extensions to the Spring Data Neo4j SpEL support and is registered by
  * the appropriate repository factories as a root bean.
+ * <p>
+ * The replacements are kept in thread-safe LRU caches. Their size defaults to {@value #DEFAULT_CACHE_SIZE} per function
+ * and can be changed with {@link #setCacheSize(int)}.
  *
  * @author Michael J. Simons
  * @soundtrack Red Hot Chili Peppers - Californication
@@ -38,6 +43,48 @@ public final class Neo4jSpelSupport {
 	public static String FUNCTION_LITERAL = "literal";
 	public static String FUNCTION_ORDER_BY = "orderBy";
 
+	/**
+	 * Default number of cached replacements per function.
+	 */
+	static final int DEFAULT_CACHE_SIZE = 256;
+
+	/**
+	 * Cached replacements created by {@link #literal(Object)}, keyed by their value.
+	 */
+	static volatile ReplacementCache<String> LITERALS = createLiteralsCache(DEFAULT_CACHE_SIZE);
+
+	/**
+	 * Cached replacements created by {@link #orderBy(Object)}. They are keyed by the sort, so that the fragment is only
+	 * rendered once per sort.
+	 */
+	static volatile ReplacementCache<Sort> ORDER_BY_FRAGMENTS = createOrderByFragmentsCache(DEFAULT_CACHE_SIZE);
+
+	/**
+	 * Changes the number of cached replacements per function. The existing caches are replaced by empty ones with the
+	 * new size.
+	 *
+	 * @param cacheSize The new number of cached replacements per function, must be greater than 0
+	 * @since 6.1
+	 */
+	public static void setCacheSize(int cacheSize) {
+
+		Assert.isTrue(cacheSize > 0, "The size of the replacement caches must be greater than 0.");
+		LITERALS = createLiteralsCache(cacheSize);
+		ORDER_BY_FRAGMENTS = createOrderByFragmentsCache(cacheSize);
+	}
+
+	private static ReplacementCache<String> createLiteralsCache(int cacheSize) {
+		return new ReplacementCache<>(cacheSize,
+				value -> new StringBasedLiteralReplacement(LiteralReplacement.Target.UNSPECIFIED, value));
+	}
+
+	private static ReplacementCache<Sort> createOrderByFragmentsCache(int cacheSize) {
+		return new ReplacementCache<>(cacheSize, sort -> {
+			String fragment = CypherGenerator.INSTANCE.createOrderByFragment(sort);
+			return new StringBasedLiteralReplacement(LiteralReplacement.Target.SORT, fragment == null ? "" : fragment);
+		});
+	}
+
 	/**
 	 * Takes {@code arg} and tries to either extract a {@link Sort sort} from it or cast it to a sort.  That sort is
 	 * than past to the {@link CypherGenerator} that renders a valid order by fragment which replaces the SpEL placeholder
@@ -48,7 +95,7 @@ public final class Neo4jSpelSupport {
 	 */
 	public static LiteralReplacement orderBy(@Nullable Object arg) {
 
-		Sort sort = null;
+		Sort sort = Sort.unsorted();
 		if (arg instanceof Pageable) {
 			sort = ((Pageable) arg).getSort();
 		} else if (arg instanceof Sort) {
@@ -56,8 +103,7 @@ public final class Neo4jSpelSupport {
 		} else if (arg != null) {
 			throw new IllegalArgumentException(arg.getClass() + " is not a valid order criteria.");
 		}
-		return StringBasedLiteralReplacement.withTargetAndValue(LiteralReplacement.Target.SORT,
-				CypherGenerator.INSTANCE.createOrderByFragment(sort));
+		return ORDER_BY_FRAGMENTS.get(sort);
 	}
 
 	/**
@@ -69,9 +115,7 @@ public final class Neo4jSpelSupport {
 	 */
 	public static LiteralReplacement literal(@Nullable Object arg) {
 
-		LiteralReplacement literalReplacement = StringBasedLiteralReplacement
-				.withTargetAndValue(LiteralReplacement.Target.UNSPECIFIED, arg == null ? "" : arg.toString());
-		return literalReplacement;
+		return LITERALS.get(arg == null ? "" : arg.toString());
 	}
 
 	/**
@@ -92,32 +136,54 @@ public final class Neo4jSpelSupport {
 		Target getTarget();
 	}
 
-	private static class StringBasedLiteralReplacement implements LiteralReplacement {
+	/**
+	 * A thread-safe LRU cache of replacements that keeps track of its hit ratio. Done to avoid the creation of too many
+	 * small objects and to avoid rendering the same fragments over and over again.
+	 *
+	 * @param <K> The type of the keys
+	 */
+	static final class ReplacementCache<K> {
 
-		/**
-		 * Default number of cached instances.
-		 */
-		private static final int DEFAULT_CACHE_SIZE = 16;
+		private final ConcurrentLruCache<K, LiteralReplacement> cache;
 
-		/**
-		 * A small cache of instances of replacements. The cache key is the literal string value. Done to avoid
-		 * the creation of too many small objects.
-		 */
-		private static final Map<String, LiteralReplacement> INSTANCES =
-				new LinkedHashMap<String, LiteralReplacement>(DEFAULT_CACHE_SIZE) {
-					@Override
-					protected boolean removeEldestEntry(Map.Entry<String, LiteralReplacement> eldest) {
-						return size() > DEFAULT_CACHE_SIZE;
-					}
-				};
+		private final LongAdder requests = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		ReplacementCache(int size, Function<K, LiteralReplacement> generator) {
+			this.cache = new ConcurrentLruCache<>(size, key -> {
+				misses.increment();
+				return generator.apply(key);
+			});
+		}
+
+		LiteralReplacement get(K key) {
+			requests.increment();
+			return cache.get(key);
+		}
 
-		static LiteralReplacement withTargetAndValue(LiteralReplacement.Target target, @Nullable String value) {
+		long getRequestCount() {
+			return requests.sum();
+		}
 
-			String valueUsed = value == null ? "" : value;
-			StringBuilder key = new StringBuilder(target.name()).append("_").append(valueUsed);
+		long getMissCount() {
+			return misses.sum();
+		}
+
+		/**
+		 * @return The ratio of requests that have been served from the cache, {@literal 1.0} without any requests
+		 */
+		double getHitRatio() {
+			long numberOfRequests = getRequestCount();
+			return numberOfRequests == 0 ? 1.0 : (numberOfRequests - getMissCount()) / (double) numberOfRequests;
+		}
 
-			return INSTANCES.computeIfAbsent(key.toString(), k -> new StringBasedLiteralReplacement(target, valueUsed));
+		int size() {
+			return cache.size();
 		}
+	}
+
+	private static class StringBasedLiteralReplacement implements LiteralReplacement {
 
 		private final Target target;
 		private final String value;
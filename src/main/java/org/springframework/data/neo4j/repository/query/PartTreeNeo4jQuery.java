@@ -41,6 +41,8 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 
 	private final PartTree tree;
 
+	private final RenderedQueryCache renderedQueryCache;
+
 	public static RepositoryQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			Neo4jQueryMethod queryMethod) {
 		return new PartTreeNeo4jQuery(neo4jOperations, mappingContext, queryMethod,
@@ -52,23 +54,34 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree));
 
 		this.tree = tree;
+		this.renderedQueryCache = new RenderedQueryCache(tree);
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(mappingContext, queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
 	}
 
+	@Override
+	boolean isDerivedQuery() {
+		return true;
+	}
+
 	@Override
 	protected <T extends Object> PreparedQuery<T> prepareQuery(Class<T> returnedType, List<String> includedProperties,
 			Neo4jParameterAccessor parameterAccessor, @Nullable Neo4jQueryType queryType,
 			@Nullable BiFunction<TypeSystem, MapAccessor, ?> mappingFunction, UnaryOperator<Integer> limitModifier) {
 
+		Neo4jQueryType actualQueryType = Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree));
 		CypherQueryCreator queryCreator = new CypherQueryCreator(mappingContext, getDomainType(queryMethod),
-				Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
-				includedProperties, this::convertParameter, limitModifier);
+				actualQueryType, tree, parameterAccessor, includedProperties, this::convertParameter, limitModifier);
 
-		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery();
+		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery(renderedQueryCache);
 
-		return PreparedQuery.queryFor(returnedType).withQueryFragmentsAndParameters(queryAndParameters)
-				.usingMappingFunction(mappingFunction).build();
+		PreparedQuery.OptionalBuildSteps<T> preparedQuery = PreparedQuery.queryFor(returnedType)
+				.withQueryFragmentsAndParameters(queryAndParameters).usingMappingFunction(mappingFunction);
+		// Apart from derived deletes, queries derived from a part tree only ever match and return data
+		if (actualQueryType != Neo4jQueryType.DELETE) {
+			preparedQuery.readOnly();
+		}
+		return preparedQuery.build();
 	}
 }
@@ -57,10 +57,18 @@ public final class QueryFragmentsAndParameters {
 	private final String cypherQuery;
 
 	public QueryFragmentsAndParameters(NodeDescription<?> nodeDescription, QueryFragments queryFragments, Map<String, Object> parameters) {
+		this(nodeDescription, queryFragments, parameters, null);
+	}
+
+	/**
+	 * Used for derived queries whose fragments have already been rendered into a Cypher statement.
+	 */
+	QueryFragmentsAndParameters(NodeDescription<?> nodeDescription, QueryFragments queryFragments,
+			Map<String, Object> parameters, @Nullable String cypherQuery) {
 		this.nodeDescription = nodeDescription;
 		this.queryFragments = queryFragments;
 		this.parameters = parameters;
-		this.cypherQuery = null;
+		this.cypherQuery = cypherQuery;
 	}
 
 	public QueryFragmentsAndParameters(String cypherQuery) {
@@ -230,6 +238,14 @@ public final class QueryFragmentsAndParameters {
 			this.skip = skip;
 		}
 
+		public Number getLimit() {
+			return limit;
+		}
+
+		public Long getSkip() {
+			return skip;
+		}
+
 		public void setReturnBasedOn(NodeDescription<?> nodeDescription, List<String> includedProperties) {
 			this.returnTuple = new ReturnTuple(nodeDescription, includedProperties);
 		}
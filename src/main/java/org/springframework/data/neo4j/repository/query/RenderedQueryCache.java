@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Caches the rendered Cypher of a derived query method. The shape of a statement derived from a {@link PartTree} only
+ * depends on the method itself, the type of query, the included properties, the sort order and the values of skip and
+ * limit, but not on the actual values of the parameters. The latter are only bound by name. Hence the rendered
+ * statement can be reused for all invocations with the same shape.
+ * <p>
+ * Parts of type {@link Part.Type#BETWEEN}, {@link Part.Type#NEAR} and {@link Part.Type#WITHIN} create different
+ * conditions depending on the type of the actual arguments. Queries containing those are never cached. Neither are
+ * queries for domains with possible circles, as those are not loaded with a single statement.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class RenderedQueryCache {
+
+	/**
+	 * The number of different shapes cached per query method. Only different skip and limit values lead to different
+	 * shapes in practice, so this limit only protects against unbounded paging through large results. The least recently
+	 * used shapes are evicted first.
+	 */
+	static final int MAX_NUMBER_OF_SHAPES = 128;
+
+	private static final Set<Part.Type> TYPES_WITH_ARGUMENT_DEPENDENT_SHAPES = EnumSet
+			.of(Part.Type.BETWEEN, Part.Type.NEAR, Part.Type.WITHIN);
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private final boolean enabled;
+
+	private final ConcurrentLruCache<Shape, String> renderedQueries;
+
+	RenderedQueryCache(PartTree tree) {
+		this(tree, MAX_NUMBER_OF_SHAPES);
+	}
+
+	RenderedQueryCache(PartTree tree, int maximumNumberOfShapes) {
+		this.enabled = tree.getParts().stream().map(Part::getType)
+				.noneMatch(TYPES_WITH_ARGUMENT_DEPENDENT_SHAPES::contains);
+		this.renderedQueries = new ConcurrentLruCache<>(maximumNumberOfShapes, Shape::render);
+	}
+
+	/**
+	 * @param nodeDescription The entity queried
+	 * @param includedProperties The properties included in the result
+	 * @return True if queries of the given entity can be taken from this cache
+	 */
+	boolean canCache(Neo4jPersistentEntity<?> nodeDescription, List<String> includedProperties) {
+		return enabled && !nodeDescription.containsPossibleCircles(includedProperties);
+	}
+
+	/**
+	 * Returns the rendered statement of the given shape. The statement is only built and rendered when no statement with
+	 * the same shape has been rendered before.
+	 *
+	 * @param shape Everything the statement depends on
+	 * @param statementSupplier Supplier for the statement in case it needs to be rendered
+	 * @return The rendered statement
+	 */
+	String getRenderedQuery(List<Object> shape, Supplier<Statement> statementSupplier) {
+
+		return renderedQueries.get(new Shape(shape, statementSupplier));
+	}
+
+	/**
+	 * The key of a rendered statement. Only the components of the shape are part of its identity, the supplier is only
+	 * needed once for rendering the statement and is dropped afterwards.
+	 */
+	private static final class Shape {
+
+		private final List<Object> components;
+
+		private @Nullable Supplier<Statement> statementSupplier;
+
+		Shape(List<Object> components, Supplier<Statement> statementSupplier) {
+			this.components = components;
+			this.statementSupplier = statementSupplier;
+		}
+
+		String render() {
+
+			Supplier<Statement> supplier = this.statementSupplier;
+			this.statementSupplier = null;
+			if (supplier == null) {
+				throw new IllegalStateException("The statement of this shape has already been rendered");
+			}
+			return renderer.render(supplier.get());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Shape)) {
+				return false;
+			}
+			return components.equals(((Shape) o).components);
+		}
+
+		@Override
+		public int hashCode() {
+			return components.hashCode();
+		}
+	}
+}
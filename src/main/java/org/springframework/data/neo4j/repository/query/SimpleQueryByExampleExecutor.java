@@ -28,6 +28,7 @@ import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.LongSupplier;
@@ -79,10 +80,12 @@ public final class SimpleQueryByExampleExecutor<T> implements QueryByExampleExec
 	@Override
 	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
 
+		LongSupplier totalCountSupplier = this.neo4jOperations
+				.prepareTotal(Arrays.asList(SimpleQueryByExampleExecutor.class, example), () -> this.count(example));
+
 		List<S> page = this.neo4jOperations.toExecutableQuery(example.getProbeType(),
 				QueryFragmentsAndParameters.forExample(mappingContext, example, pageable)).getResults();
 
-		LongSupplier totalCountSupplier = () -> this.count(example);
 		return PageableExecutionUtils.getPage(page, pageable, totalCountSupplier);
 	}
 
@@ -98,7 +101,12 @@ public final class SimpleQueryByExampleExecutor<T> implements QueryByExampleExec
 
 	@Override
 	public <S extends T> boolean exists(Example<S> example) {
-		return findAll(example).iterator().hasNext();
+
+		Predicate predicate = Predicate.create(mappingContext, example);
+		Statement statement = cypherGenerator.prepareExistenceCheckOf(predicate.getNeo4jPersistentEntity(),
+				predicate.getCondition());
+
+		return this.neo4jOperations.count(statement, predicate.getParameters()) > 0;
 	}
 
 }
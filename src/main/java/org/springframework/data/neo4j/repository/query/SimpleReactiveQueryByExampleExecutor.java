@@ -86,6 +86,11 @@ public final class SimpleReactiveQueryByExampleExecutor<T> implements ReactiveQu
 
 	@Override
 	public <S extends T> Mono<Boolean> exists(Example<S> example) {
-		return findAll(example).hasElements();
+
+		Predicate predicate = Predicate.create(mappingContext, example);
+		Statement statement = cypherGenerator.prepareExistenceCheckOf(predicate.getNeo4jPersistentEntity(),
+				predicate.getCondition());
+
+		return this.neo4jOperations.count(statement, predicate.getParameters()).map(count -> count > 0);
 	}
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.apiguardian.api.API;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Prepares the total count of {@link org.springframework.data.domain.Page pages}. By default, the count query runs after
+ * the query for the content. Two options are available to lower the latency of page requests:
+ * <ul>
+ * <li>With {@link #setConcurrentCount(boolean)} enabled, the count query is started on a separate thread, and therefore
+ * on a separate session, before the query for the content is executed. This happens only when there is no transaction
+ * or a read-only transaction, so that the count never misses uncommitted changes.</li>
+ * <li>With {@link #setCountTtl(Duration)} set to a positive duration, totals are cached for that amount of time, keyed
+ * by the query and its parameters. This is only suitable for datasets that don't change often.</li>
+ * </ul>
+ * Each {@link org.springframework.data.neo4j.core.Neo4jTemplate} has its own instance, so that cached totals are never
+ * shared between templates. The template adds the targeted database to the keys.
+ *
+ * @author agent
+ * @since 6.1
+ */
+@API(status = API.Status.INTERNAL, since = "6.1")
+public final class TotalCountSupport {
+
+	/**
+	 * Cached totals are dropped when the cache reaches this size.
+	 */
+	static final int MAX_NUMBER_OF_CACHED_TOTALS = 1024;
+
+	/**
+	 * The number of count queries the default executor queues before further counts run on the calling thread.
+	 */
+	static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+	private final Clock clock;
+
+	private final Map<Object, CachedTotal> cachedTotals = new ConcurrentHashMap<>();
+
+	private volatile boolean concurrentCount;
+
+	private volatile Duration countTtl = Duration.ZERO;
+
+	@Nullable private volatile Executor executor;
+
+	private volatile TaskDecorator taskDecorator = TotalCountSupport::propagateContextClassLoader;
+
+	public TotalCountSupport() {
+		this(Clock.systemUTC());
+	}
+
+	TotalCountSupport(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * @param concurrentCount True to start count queries on a separate thread before the query for the content
+	 */
+	public void setConcurrentCount(boolean concurrentCount) {
+		this.concurrentCount = concurrentCount;
+	}
+
+	/**
+	 * @param countTtl The time to live of cached totals, {@link Duration#ZERO} disables caching
+	 */
+	public void setCountTtl(Duration countTtl) {
+
+		Assert.notNull(countTtl, "The time to live of cached totals must not be null.");
+		Assert.isTrue(!countTtl.isNegative(), "The time to live of cached totals must not be negative.");
+		this.countTtl = countTtl;
+		this.cachedTotals.clear();
+	}
+
+	/**
+	 * Configures the executor running concurrent count queries. Defaults to a pool bounded by the number of processors
+	 * and {@value #DEFAULT_QUEUE_CAPACITY} queued counts. Counts rejected by the executor run on the calling thread.
+	 *
+	 * @param executor The executor running concurrent count queries
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "The executor must not be null.");
+		this.executor = executor;
+	}
+
+	/**
+	 * Configures the decorator applied to concurrent count queries, for example to propagate thread bound state that the
+	 * count depends on, like a thread bound database selection. Defaults to a decorator propagating the context class
+	 * loader.
+	 *
+	 * @param taskDecorator The decorator applied to concurrent count queries
+	 */
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+
+		Assert.notNull(taskDecorator, "The task decorator must not be null.");
+		this.taskDecorator = taskDecorator;
+	}
+
+	/**
+	 * Prepares the total count of a page. Must be called before the query for the content is executed, so that a
+	 * concurrent count overlaps with it.
+	 *
+	 * @param key Identifies the count query and its parameters, used for caching. Must implement equals and hashCode.
+	 * @param countQuery Executes the count query
+	 * @return A supplier of the total count
+	 */
+	public LongSupplier prepareTotal(Object key, LongSupplier countQuery) {
+
+		Duration ttl = this.countTtl;
+		LongSupplier countQueryOrCachedTotal = ttl.isZero() ? countQuery : () -> getCachedTotal(key, countQuery, ttl);
+		if (!concurrentCount || !isCountOnSeparateSessionSafe()) {
+			return countQueryOrCachedTotal;
+		}
+
+		CompletableFuture<Long> total = new CompletableFuture<>();
+		Runnable count = taskDecorator.decorate(() -> {
+			try {
+				total.complete(countQueryOrCachedTotal.getAsLong());
+			} catch (Throwable e) {
+				total.completeExceptionally(e);
+			}
+		});
+		try {
+			getExecutor().execute(count);
+		} catch (RejectedExecutionException e) {
+			return countQueryOrCachedTotal;
+		}
+
+		return () -> {
+			try {
+				return total.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		};
+	}
+
+	private static boolean isCountOnSeparateSessionSafe() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+			   || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private long getCachedTotal(Object key, LongSupplier countQuery, Duration ttl) {
+
+		long now = clock.millis();
+		CachedTotal cachedTotal = cachedTotals.get(key);
+		if (cachedTotal != null && cachedTotal.validUntil > now) {
+			return cachedTotal.value;
+		}
+
+		long value = countQuery.getAsLong();
+		if (cachedTotals.size() >= MAX_NUMBER_OF_CACHED_TOTALS) {
+			cachedTotals.clear();
+		}
+		cachedTotals.put(key, new CachedTotal(value, now + ttl.toMillis()));
+		return value;
+	}
+
+	private Executor getExecutor() {
+
+		Executor result = this.executor;
+		if (result == null) {
+			synchronized (this) {
+				result = this.executor;
+				if (result == null) {
+					result = createDefaultExecutor();
+					this.executor = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Executor createDefaultExecutor() {
+
+		int poolSize = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), new CountThreadFactory());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static Runnable propagateContextClassLoader(Runnable runnable) {
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return () -> {
+			Thread currentThread = Thread.currentThread();
+			ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+			currentThread.setContextClassLoader(contextClassLoader);
+			try {
+				runnable.run();
+			} finally {
+				currentThread.setContextClassLoader(previousClassLoader);
+			}
+		};
+	}
+
+	private static final class CachedTotal {
+
+		private final long value;
+
+		private final long validUntil;
+
+		CachedTotal(long value, long validUntil) {
+			this.value = value;
+			this.validUntil = validUntil;
+		}
+	}
+
+	private static final class CountThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "neo4j-page-count-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.repository.support;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
@@ -31,6 +32,8 @@ import org.springframework.data.repository.core.support.RepositoryFragment;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Factory to create {@link Neo4jRepository} instances.
@@ -45,6 +48,8 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 	private final Neo4jMappingContext mappingContext;
 
+	@Nullable private Supplier<TransactionTemplate> batchTransactionTemplate;
+
 	Neo4jRepositoryFactory(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -53,6 +58,13 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 		setEvaluationContextProvider(QueryMethodEvaluationContextProvider.DEFAULT);
 	}
 
+	/**
+	 * @param batchTransactionTemplate Provides the template running each batch of batched deletes in a new transaction
+	 */
+	void setBatchTransactionTemplate(Supplier<TransactionTemplate> batchTransactionTemplate) {
+		this.batchTransactionTemplate = batchTransactionTemplate;
+	}
+
 	@Override
 	public <T, ID> Neo4jEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
 
@@ -65,7 +77,14 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		Neo4jEntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
 		Neo4jRepositoryFactorySupport.assertIdentifierType(metadata.getIdType(), entityInformation.getIdType());
-		return getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		if (repository instanceof SimpleNeo4jRepository) {
+			((SimpleNeo4jRepository<?, ?>) repository).setConversionService(mappingContext.getConversionService());
+			if (batchTransactionTemplate != null) {
+				((SimpleNeo4jRepository<?, ?>) repository).setBatchTransactionTemplate(batchTransactionTemplate);
+			}
+		}
+		return repository;
 	}
 
 	@Override
@@ -18,11 +18,18 @@ package org.springframework.data.neo4j.repository.support;
 import java.io.Serializable;
 
 import org.apiguardian.api.API;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -43,6 +50,10 @@ public final class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID
 
 	private Neo4jMappingContext neo4jMappingContext;
 
+	@Nullable private String transactionManagerName;
+
+	@Nullable private BeanFactory beanFactory;
+
 	/**
 	 * Creates a new {@link TransactionalRepositoryFactoryBeanSupport} for the given repository interface.
 	 *
@@ -61,8 +72,36 @@ public final class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID
 		this.neo4jMappingContext = neo4jMappingContext;
 	}
 
+	@Override
+	public void setTransactionManager(String transactionManager) {
+		super.setTransactionManager(transactionManager);
+		this.transactionManagerName = transactionManager;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
-		return new Neo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+
+		Neo4jRepositoryFactory repositoryFactory = new Neo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+		BeanFactory currentBeanFactory = this.beanFactory;
+		String currentTransactionManagerName = this.transactionManagerName;
+		if (currentBeanFactory != null) {
+			// The transaction manager is resolved lazily, just like the one of the transactional proxies
+			repositoryFactory.setBatchTransactionTemplate(SingletonSupplier.of(() -> {
+				PlatformTransactionManager transactionManager = currentTransactionManagerName == null
+						? currentBeanFactory.getBean(PlatformTransactionManager.class)
+						: BeanFactoryAnnotationUtils.qualifiedBeanOfType(currentBeanFactory, PlatformTransactionManager.class,
+								currentTransactionManagerName);
+				TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+				transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+				return transactionTemplate;
+			}));
+		}
+		return repositoryFactory;
 	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.repository.support;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -34,6 +35,8 @@ import org.springframework.data.repository.core.support.RepositoryFragment;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 /**
  * Factory to create {@link ReactiveNeo4jRepository} instances.
@@ -48,12 +51,21 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 
 	private final Neo4jMappingContext mappingContext;
 
+	@Nullable private Supplier<TransactionalOperator> batchTransactionalOperator;
+
 	ReactiveNeo4jRepositoryFactory(ReactiveNeo4jOperations neo4jOperations, Neo4jMappingContext mappingContext) {
 
 		this.neo4jOperations = neo4jOperations;
 		this.mappingContext = mappingContext;
 	}
 
+	/**
+	 * @param batchTransactionalOperator Provides the operator running each batch of batched deletes in a new transaction
+	 */
+	void setBatchTransactionalOperator(Supplier<TransactionalOperator> batchTransactionalOperator) {
+		this.batchTransactionalOperator = batchTransactionalOperator;
+	}
+
 	@Override
 	public <T, ID> Neo4jEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
 
@@ -66,7 +78,11 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 
 		Neo4jEntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
 		Neo4jRepositoryFactorySupport.assertIdentifierType(metadata.getIdType(), entityInformation.getIdType());
-		return getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		if (repository instanceof SimpleReactiveNeo4jRepository && batchTransactionalOperator != null) {
+			((SimpleReactiveNeo4jRepository<?, ?>) repository).setBatchTransactionalOperator(batchTransactionalOperator);
+		}
+		return repository;
 	}
 
 	@Override
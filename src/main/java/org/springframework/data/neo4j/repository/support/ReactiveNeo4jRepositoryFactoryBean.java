@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.repository.support;
 import java.io.Serializable;
 
 import org.apiguardian.api.API;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.neo4j.core.ReactiveNeo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
@@ -25,6 +27,11 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -47,6 +54,10 @@ public final class ReactiveNeo4jRepositoryFactoryBean<T extends Repository<S, ID
 
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	@Nullable private String transactionManagerName;
+
+	@Nullable private BeanFactory beanFactory;
+
 	/**
 	 * Creates a new {@link TransactionalRepositoryFactoryBeanSupport} for the given repository interface.
 	 *
@@ -65,8 +76,36 @@ public final class ReactiveNeo4jRepositoryFactoryBean<T extends Repository<S, ID
 		this.neo4jMappingContext = neo4jMappingContext;
 	}
 
+	@Override
+	public void setTransactionManager(String transactionManager) {
+		super.setTransactionManager(transactionManager);
+		this.transactionManagerName = transactionManager;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
-		return new ReactiveNeo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+
+		ReactiveNeo4jRepositoryFactory repositoryFactory = new ReactiveNeo4jRepositoryFactory(neo4jOperations,
+				neo4jMappingContext);
+		BeanFactory currentBeanFactory = this.beanFactory;
+		String currentTransactionManagerName = this.transactionManagerName;
+		if (currentBeanFactory != null) {
+			// The transaction manager is resolved lazily, just like the one of the transactional proxies
+			repositoryFactory.setBatchTransactionalOperator(SingletonSupplier.of(() -> {
+				ReactiveTransactionManager transactionManager = currentTransactionManagerName == null
+						? currentBeanFactory.getBean(ReactiveTransactionManager.class)
+						: BeanFactoryAnnotationUtils.qualifiedBeanOfType(currentBeanFactory, ReactiveTransactionManager.class,
+								currentTransactionManagerName);
+				return TransactionalOperator.create(transactionManager,
+						new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+			}));
+		}
+		return repositoryFactory;
 	}
 }
@@ -15,9 +15,11 @@
  */
 package org.springframework.data.neo4j.repository.support;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -27,16 +29,22 @@ import org.neo4j.cypherdsl.core.StatementBuilder;
 import org.neo4j.cypherdsl.core.StatementBuilder.OngoingReadingAndReturn;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jOperations;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.query.CypherAdapterUtils;
+import org.springframework.data.neo4j.repository.query.KeysetRequest;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Repository base implementation for Neo4j.
@@ -62,6 +70,17 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	private final CypherGenerator cypherGenerator;
 
+	/**
+	 * Used to write the keys of keyset requests, set by the {@link Neo4jRepositoryFactory}.
+	 */
+	@Nullable private Neo4jConversionService conversionService;
+
+	/**
+	 * Provides the template running each batch of the batched deletes in a new transaction, set by the
+	 * {@link Neo4jRepositoryFactory}.
+	 */
+	@Nullable private Supplier<TransactionTemplate> batchTransactionTemplate;
+
 	protected SimpleNeo4jRepository(Neo4jOperations neo4jOperations, Neo4jEntityInformation<T, ID> entityInformation) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -70,6 +89,14 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 	}
 
+	void setConversionService(Neo4jConversionService conversionService) {
+		this.conversionService = conversionService;
+	}
+
+	void setBatchTransactionTemplate(Supplier<TransactionTemplate> batchTransactionTemplate) {
+		this.batchTransactionTemplate = batchTransactionTemplate;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 
@@ -101,6 +128,9 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 	@Override
 	public Page<T> findAll(Pageable pageable) {
 
+		LongSupplier totalCountSupplier = this.neo4jOperations
+				.prepareTotal(Arrays.asList(SimpleNeo4jRepository.class, entityInformation.getJavaType()), this::count);
+
 		OngoingReadingAndReturn returning = cypherGenerator.prepareMatchOf(entityMetaData)
 				.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData));
 
@@ -110,10 +140,32 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 		Statement statement = returningWithPaging.build();
 
 		List<T> allResult = this.neo4jOperations.findAll(statement, entityInformation.getJavaType());
-		LongSupplier totalCountSupplier = this::count;
 		return PageableExecutionUtils.getPage(allResult, pageable, totalCountSupplier);
 	}
 
+	/**
+	 * Seeks to the slice described by the keyset request instead of skipping over the previous slices.
+	 *
+	 * @param keysetRequest The request for the slice
+	 * @return The slice, containing the request for the next slice if any
+	 * @see KeysetRequest
+	 */
+	public Slice<T> findAll(KeysetRequest keysetRequest) {
+
+		// Requests with unresolved keys skip over the previous slices, all others seek behind their keys
+		Statement statement = cypherGenerator
+				.prepareMatchOf(entityMetaData, CypherAdapterUtils.toKeysetCondition(entityMetaData, keysetRequest))
+				.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+				.orderBy(CypherAdapterUtils.toKeysetSortItems(entityMetaData, keysetRequest))
+				.skip(keysetRequest.hasUnresolvedKeys() ? keysetRequest.getOffset() : null)
+				.limit(keysetRequest.getPageSize() + 1).build();
+
+		List<T> allResult = this.neo4jOperations.findAll(statement,
+				CypherAdapterUtils.toKeysetParameters(entityMetaData, keysetRequest, conversionService),
+				entityInformation.getJavaType());
+		return CypherAdapterUtils.toKeysetSlice(entityMetaData, keysetRequest, allResult);
+	}
+
 	@Override
 	public long count() {
 
@@ -122,7 +174,7 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+		return this.neo4jOperations.existsById(id, this.entityInformation.getJavaType());
 	}
 
 	@Override
@@ -183,4 +235,36 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 		this.neo4jOperations.deleteAll(this.entityInformation.getJavaType());
 	}
+
+	/**
+	 * Deletes all entities in batches of bounded size, each in a new transaction.
+	 *
+	 * @param batchSize The maximum number of relationships or nodes deleted by one statement
+	 * @see Neo4jOperations#deleteAllInBatches
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void deleteAllInBatches(int batchSize) {
+
+		this.neo4jOperations.deleteAllInBatches(this.entityInformation.getJavaType(), batchSize,
+				getBatchTransactionTemplate());
+	}
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of bounded size, each in a new transaction.
+	 *
+	 * @param ids The ids of the entities to be deleted
+	 * @param batchSize The maximum number of ids, relationships or nodes handled by one statement
+	 * @see Neo4jOperations#deleteAllByIdInBatches
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void deleteAllByIdInBatches(Iterable<? extends ID> ids, int batchSize) {
+
+		this.neo4jOperations.deleteAllByIdInBatches(ids, this.entityInformation.getJavaType(), batchSize,
+				getBatchTransactionTemplate());
+	}
+
+	@Nullable
+	private TransactionTemplate getBatchTransactionTemplate() {
+		return this.batchTransactionTemplate == null ? null : this.batchTransactionTemplate.get();
+	}
 }
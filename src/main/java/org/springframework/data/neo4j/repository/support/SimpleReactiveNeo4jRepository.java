@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -33,8 +34,11 @@ import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.query.CypherAdapterUtils;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.Assert;
 
 /**
@@ -60,6 +64,12 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 
 	private final CypherGenerator cypherGenerator;
 
+	/**
+	 * Provides the operator running each batch of the batched deletes in a new transaction, set by the
+	 * {@link ReactiveNeo4jRepositoryFactory}.
+	 */
+	@Nullable private Supplier<TransactionalOperator> batchTransactionalOperator;
+
 	protected SimpleReactiveNeo4jRepository(ReactiveNeo4jOperations neo4jOperations,
 			Neo4jEntityInformation<T, ID> entityInformation) {
 
@@ -69,6 +79,10 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 	}
 
+	void setBatchTransactionalOperator(Supplier<TransactionalOperator> batchTransactionalOperator) {
+		this.batchTransactionalOperator = batchTransactionalOperator;
+	}
+
 	@Override
 	public Mono<T> findById(ID id) {
 
@@ -114,7 +128,7 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 
 	@Override
 	public Mono<Boolean> existsById(ID id) {
-		return findById(id).hasElement();
+		return this.neo4jOperations.existsById(id, this.entityInformation.getJavaType());
 	}
 
 	@Override
@@ -236,4 +250,40 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 
 		return this.neo4jOperations.deleteAll(this.entityInformation.getJavaType());
 	}
+
+	/**
+	 * Deletes all entities in batches of bounded size, each in a new transaction.
+	 *
+	 * @param batchSize The maximum number of relationships or nodes deleted by one statement
+	 * @return A mono completing after the last batch has been deleted
+	 * @see ReactiveNeo4jOperations#deleteAllInBatches
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Mono<Void> deleteAllInBatches(int batchSize) {
+
+		return this.neo4jOperations.deleteAllInBatches(this.entityInformation.getJavaType(), batchSize,
+				getBatchTransactionalOperator());
+	}
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of bounded size, each in a new transaction.
+	 *
+	 * @param ids The ids of the entities to be deleted
+	 * @param batchSize The maximum number of ids, relationships or nodes handled by one statement
+	 * @return A mono completing after the last batch has been deleted
+	 * @see ReactiveNeo4jOperations#deleteAllByIdInBatches
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Mono<Void> deleteAllByIdInBatches(Iterable<? extends ID> ids, int batchSize) {
+
+		Assert.notNull(ids, "The given Iterable of ids must not be null!");
+
+		return this.neo4jOperations.deleteAllByIdInBatches(ids, this.entityInformation.getJavaType(), batchSize,
+				getBatchTransactionalOperator());
+	}
+
+	@Nullable
+	private TransactionalOperator getBatchTransactionalOperator() {
+		return this.batchTransactionalOperator == null ? null : this.batchTransactionalOperator.get();
+	}
 }
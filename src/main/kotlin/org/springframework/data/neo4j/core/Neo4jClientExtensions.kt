@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.core
 import org.neo4j.driver.Record
 import org.neo4j.driver.types.TypeSystem
 import java.util.function.BiFunction
+import java.util.stream.Stream
 
 /**
  * Extension for [Neo4jClient.RunnableSpec. in] providing an `inDatabase` alias since `in` is a reserved keyword in Kotlin.
@@ -47,6 +48,8 @@ class KRecordFetchSpec<T : Any>(private val delegate: Neo4jClient.RecordFetchSpe
     fun first(): T = delegate.first().orElse(null)
 
     fun all(): Collection<T> = delegate.all()
+
+    fun stream(): Stream<T> = delegate.stream()
 }
 
 /**
@@ -62,6 +65,8 @@ class KMappingSpec<T : Any>(private val delegate: Neo4jClient.MappingSpec<T>) {
     fun first(): T = delegate.first().orElse(null)
 
     fun all(): Collection<T> = delegate.all()
+
+    fun stream(): Stream<T> = delegate.stream()
 }
 
 /**
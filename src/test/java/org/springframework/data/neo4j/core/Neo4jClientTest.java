@@ -22,7 +22,9 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +51,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.hamcrest.MockitoHamcrest;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
@@ -133,6 +136,97 @@ class Neo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	@DisplayName("Streams should map lazily and close the session when they are closed")
+	void streamsShouldMapLazilyAndCloseTheSession() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String cypher = "MATCH (u:User) RETURN u";
+		try (Stream<Map<String, Object>> users = client.query(cypher).fetch().stream()) {
+
+			verify(session, never()).close();
+			verifyNoInteractions(record1, record2);
+
+			assertThat(users.limit(1)).hasSize(1);
+			verify(record1).asMap();
+		}
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(session).close();
+	}
+
+	@Test
+	@DisplayName("Read-only queries should be routed to read sessions")
+	void readOnlyQueriesShouldUseReadSessions() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String cypher = "MATCH (u:User) RETURN u";
+		Collection<Map<String, Object>> users = client.query(cypher).in("bikingDatabase").readOnly().fetch().all();
+
+		assertThat(users).hasSize(2);
+
+		verifyDatabaseSelection("bikingDatabase");
+		assertThat(configArgumentCaptor.getValue().defaultAccessMode()).isEqualTo(AccessMode.READ);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	@DisplayName("The summary of a result should be passed on after all records have been fetched")
+	void summaryShouldBePassedOnAfterAllRecordsHaveBeenFetched() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		List<ResultSummary> summaries = new ArrayList<>();
+		String cypher = "UNWIND $names AS name CREATE (u:User {name: name}) RETURN u";
+		Collection<Map<String, Object>> users = client.query(cypher).bind(Arrays.asList("a", "b")).to("names").fetch()
+				.all(summaries::add);
+
+		assertThat(users).hasSize(2);
+		assertThat(summaries).containsExactly(resultSummary);
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
 	@Test
 	void databaseSelectionShouldBePossibleOnlyOnce() {
 
@@ -25,17 +25,22 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -48,11 +53,13 @@ import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.reactive.RxResult;
 import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.reactive.RxTransaction;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
+import org.springframework.dao.DataIntegrityViolationException;
 
 /**
  * @author Michael J. Simons
@@ -78,12 +85,18 @@ class ReactiveNeo4jClientTest {
 
 	@Mock private Record record2;
 
+	@BeforeAll
+	static void installBlockHound() {
+
+		// Any blocking call on a non-blocking thread, i.e. the ones of the parallel scheduler, signals an error
+		BlockHound.install();
+	}
+
 	void prepareMocks() {
 
 		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
 
 		when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
-		when(session.beginTransaction()).thenReturn(Mono.just(transaction));
 
 		when(session.close()).thenReturn(Mono.empty());
 	}
@@ -99,8 +112,7 @@ class ReactiveNeo4jClientTest {
 
 		prepareMocks();
 
-		when(transaction.run(anyString(), anyMap())).thenReturn(result);
-		when(transaction.commit()).thenReturn(Mono.empty());
+		when(session.run(anyString(), anyMap())).thenReturn(result);
 		when(result.records()).thenReturn(Flux.just(record1, record2));
 		when(result.consume()).thenReturn(Mono.just(resultSummary));
 
@@ -124,15 +136,44 @@ class ReactiveNeo4jClientTest {
 		expectedParameters.putAll(parameters);
 		expectedParameters.put("name", "michael");
 		expectedParameters.put("aDate", LocalDate.of(2019, 1, 1));
-		verify(transaction).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+		verify(session).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+
+		verify(result).records();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	@DisplayName("The summary of a result should be passed on after all records have been fetched")
+	void summaryShouldBePassedOnAfterAllRecordsHaveBeenFetched() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.records()).thenReturn(Flux.just(record1, record2));
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+
+		List<ResultSummary> summaries = new ArrayList<>();
+		String cypher = "UNWIND $names AS name CREATE (u:User {name: name}) RETURN u";
+		Flux<Map<String, Object>> users = client.query(cypher).bind(Arrays.asList("a", "b")).to("names").fetch()
+				.all(summaries::add);
+
+		StepVerifier.create(users).expectNextCount(2L).verifyComplete();
+		assertThat(summaries).containsExactly(resultSummary);
+
+		verifyDatabaseSelection(null);
 
+		verify(session).run(eq(cypher), anyMap());
 		verify(result).records();
 		verify(result).consume();
 		verify(resultSummary).notifications();
 		verify(record1).asMap();
 		verify(record2).asMap();
-		verify(transaction).commit();
-		verify(transaction).rollback();
 		verify(session).close();
 	}
 
@@ -141,8 +182,7 @@ class ReactiveNeo4jClientTest {
 
 		prepareMocks();
 
-		when(transaction.run(anyString(), anyMap())).thenReturn(result);
-		when(transaction.commit()).thenReturn(Mono.empty());
+		when(session.run(anyString(), anyMap())).thenReturn(result);
 		when(result.records()).thenReturn(Flux.just(record1, record2));
 		when(result.consume()).thenReturn(Mono.just(resultSummary));
 
@@ -159,13 +199,39 @@ class ReactiveNeo4jClientTest {
 		Map<String, Object> expectedParameters = new HashMap<>();
 		expectedParameters.put("name", "Someone.*");
 
-		verify(transaction).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+		verify(session).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
 		verify(result).records();
 		verify(result).consume();
 		verify(resultSummary).notifications();
 		verify(record1).asMap();
-		verify(transaction).commit();
-		verify(transaction).rollback();
+		verify(session).close();
+	}
+
+	@Test
+	@DisplayName("Queries should run on threads that must not block")
+	void queriesShouldNotBlock() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.records()).thenReturn(Flux.just(record1, record2));
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+
+		String cypher = "MATCH (u:User) RETURN u";
+		Flux<Map<String, Object>> users = client.query(cypher).fetch().all().subscribeOn(Schedulers.parallel());
+
+		StepVerifier.create(users).expectNextCount(2L).verifyComplete();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result).records();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(record1).asMap();
+		verify(record2).asMap();
 		verify(session).close();
 	}
 
@@ -199,6 +265,7 @@ class ReactiveNeo4jClientTest {
 
 			prepareMocks();
 
+			when(session.beginTransaction()).thenReturn(Mono.just(transaction));
 			when(transaction.commit()).thenReturn(Mono.empty());
 
 			ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
@@ -218,6 +285,7 @@ class ReactiveNeo4jClientTest {
 
 			prepareMocks();
 
+			when(session.beginTransaction()).thenReturn(Mono.just(transaction));
 			when(transaction.commit()).thenReturn(Mono.empty());
 
 			ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
@@ -242,8 +310,7 @@ class ReactiveNeo4jClientTest {
 
 			prepareMocks();
 
-			when(transaction.run(anyString(), anyMap())).thenReturn(result);
-			when(transaction.commit()).thenReturn(Mono.empty());
+			when(session.run(anyString(), anyMap())).thenReturn(result);
 			when(result.records()).thenReturn(Flux.just(record1));
 			when(result.consume()).thenReturn(Mono.just(resultSummary));
 			when(record1.get("name")).thenReturn(Values.value("michael"));
@@ -263,12 +330,10 @@ class ReactiveNeo4jClientTest {
 			Map<String, Object> expectedParameters = new HashMap<>();
 			expectedParameters.put("name", "michael");
 
-			verify(transaction).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+			verify(session).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
 			verify(result).records();
 			verify(resultSummary).notifications();
 			verify(record1).get("name");
-			verify(transaction).commit();
-			verify(transaction).rollback();
 			verify(session).close();
 		}
 
@@ -277,8 +342,7 @@ class ReactiveNeo4jClientTest {
 
 			prepareMocks();
 
-			when(transaction.run(anyString(), anyMap())).thenReturn(result);
-			when(transaction.rollback()).thenReturn(Mono.empty());
+			when(session.run(anyString(), anyMap())).thenReturn(result);
 			when(result.records()).thenReturn(Flux.just(record1, record2));
 			when(result.consume()).thenReturn(Mono.just(resultSummary));
 			when(record1.get("name")).thenReturn(Values.value("michael"));
@@ -297,13 +361,11 @@ class ReactiveNeo4jClientTest {
 
 			verifyDatabaseSelection(null);
 
-			verify(transaction).run(eq("MATCH (n) RETURN n"),
+			verify(session).run(eq("MATCH (n) RETURN n"),
 					MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(Collections.emptyMap())));
 			verify(result).records();
 			verify(resultSummary).notifications();
 			verify(record1).get("name");
-			verify(transaction).commit();
-			verify(transaction).rollback();
 			verify(session).close();
 		}
 
@@ -312,8 +374,7 @@ class ReactiveNeo4jClientTest {
 
 			prepareMocks();
 
-			when(transaction.run(anyString(), anyMap())).thenReturn(result);
-			when(transaction.commit()).thenReturn(Mono.empty());
+			when(session.run(anyString(), anyMap())).thenReturn(result);
 			when(result.records()).thenReturn(Flux.empty());
 			when(result.consume()).thenReturn(Mono.just(resultSummary));
 
@@ -334,11 +395,9 @@ class ReactiveNeo4jClientTest {
 			Map<String, Object> expectedParameters = new HashMap<>();
 			expectedParameters.put("name", "Michael");
 
-			verify(transaction).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+			verify(session).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
 			verify(result).consume();
 			verify(resultSummary).notifications();
-			verify(transaction).commit();
-			verify(transaction).rollback();
 			verify(session).close();
 		}
 
@@ -348,8 +407,7 @@ class ReactiveNeo4jClientTest {
 
 			prepareMocks();
 
-			when(transaction.run(anyString(), anyMap())).thenReturn(result);
-			when(transaction.commit()).thenReturn(Mono.empty());
+			when(session.run(anyString(), anyMap())).thenReturn(result);
 			when(result.records()).thenReturn(Flux.just(record1));
 			when(result.consume()).thenReturn(Mono.just(resultSummary));
 			when(record1.size()).thenReturn(1);
@@ -366,9 +424,7 @@ class ReactiveNeo4jClientTest {
 
 			verify(result).consume();
 			verify(resultSummary).notifications();
-			verify(transaction).run(eq(cypher), anyMap());
-			verify(transaction).commit();
-			verify(transaction).rollback();
+			verify(session).run(eq(cypher), anyMap());
 			verify(session).close();
 		}
 	}
@@ -379,8 +435,7 @@ class ReactiveNeo4jClientTest {
 
 		prepareMocks();
 
-		when(transaction.run(anyString(), anyMap())).thenReturn(result);
-		when(transaction.commit()).thenReturn(Mono.empty());
+		when(session.run(anyString(), anyMap())).thenReturn(result);
 		when(result.records()).thenReturn(Flux.empty());
 		when(result.consume()).thenReturn(Mono.just(resultSummary));
 
@@ -397,11 +452,60 @@ class ReactiveNeo4jClientTest {
 		Map<String, Object> expectedParameters = new HashMap<>();
 		expectedParameters.put("name", "fixie");
 
-		verify(transaction).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+		verify(session).run(eq(cypher), MockitoHamcrest.argThat(new Neo4jClientTest.MapAssertionMatcher(expectedParameters)));
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(session).close();
+	}
+
+	@Test
+	void errorsShouldBeTranslatedAndCloseTheSession() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.records()).thenReturn(
+				Flux.error(new ClientException("Neo.ClientError.Schema.ConstraintValidationFailed", "Node already exists.")));
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+
+		String cypher = "CREATE (b:Bike {name: 'fixie'})";
+		Flux<Map<String, Object>> bikes = client.query(cypher).fetch().all();
+
+		StepVerifier.create(bikes).expectError(DataIntegrityViolationException.class).verify();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result).records();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(session).close();
+	}
+
+	@Test
+	void cancellationShouldCloseTheSession() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.records()).thenReturn(Flux.never());
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+
+		String cypher = "MATCH (b:Bike) RETURN b";
+		Flux<Map<String, Object>> bikes = client.query(cypher).fetch().all();
+
+		StepVerifier.create(bikes).expectSubscription().thenCancel().verify();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), anyMap());
+		verify(result).records();
 		verify(result).consume();
 		verify(resultSummary).notifications();
-		verify(transaction).commit();
-		verify(transaction).rollback();
 		verify(session).close();
 	}
 
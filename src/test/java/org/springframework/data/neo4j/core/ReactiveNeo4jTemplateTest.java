@@ -0,0 +1,215 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.blockhound.BlockHound;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.reactive.RxResult;
+import org.neo4j.driver.reactive.RxSession;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
+
+/**
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveNeo4jTemplateTest {
+
+	@Mock private Driver driver;
+
+	@Mock private TypeSystem typeSystem;
+
+	@Mock private RxSession session;
+
+	@Mock private RxResult result;
+
+	@Mock private ResultSummary resultSummary;
+
+	@Mock private Record rootNodesRecord;
+
+	@Mock private Record expansionRecord;
+
+	@BeforeAll
+	static void installBlockHound() {
+
+		// Any blocking call on a non-blocking thread, i.e. the ones of the parallel scheduler, signals an error
+		BlockHound.install();
+	}
+
+	@BeforeEach
+	void prepareMocks() {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+		when(session.close()).thenReturn(Mono.empty());
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+	}
+
+	@Test
+	void preparingQueriesForCyclicDomainsShouldNotBlock() {
+
+		Map<String, Object> rootNodes = new HashMap<>();
+		rootNodes.put(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE, Collections.singletonList(1L));
+		when(rootNodesRecord.asMap()).thenReturn(rootNodes);
+
+		// The only root node knows itself, so that the expansion ends after the first level
+		Map<String, Object> expansion = new HashMap<>();
+		expansion.put(Constants.NAME_OF_EXPANDED_RELATIONSHIP, 0L);
+		expansion.put(Constants.NAME_OF_SYNTHESIZED_RELATIONS, Collections.singletonList(10L));
+		expansion.put(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES, Collections.singletonList(1L));
+		when(expansionRecord.asMap()).thenReturn(expansion);
+
+		when(result.records()).thenReturn(Flux.just(rootNodesRecord), Flux.just(expansionRecord));
+
+		StepVerifier.create(prepareFindAll()).expectNextCount(1L).verifyComplete();
+
+		ArgumentCaptor<String> cypher = ArgumentCaptor.forClass(String.class);
+		verify(session, times(2)).run(cypher.capture(), anyMap());
+		assertThat(cypher.getAllValues().get(0)).startsWith("MATCH (n:`CyclicEntity`)");
+		assertThat(cypher.getAllValues().get(1))
+				.startsWith("MATCH (startNode)-[relProps:`KNOWS`]->(endNode:`CyclicEntity`)");
+		verify(session, times(2)).close();
+	}
+
+	@Test
+	void preparingQueriesForCyclicDomainsWithoutRootNodesShouldNotExpandAnything() {
+
+		when(rootNodesRecord.asMap()).thenReturn(
+				Collections.singletonMap(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE, Collections.emptyList()));
+		when(result.records()).thenReturn(Flux.just(rootNodesRecord));
+
+		StepVerifier.create(prepareFindAll()).expectNextCount(1L).verifyComplete();
+
+		verify(session).run(anyString(), anyMap());
+		verify(session).close();
+	}
+
+	@Test
+	void readOnlyQueriesShouldNotBeRoutedForReadingByDefault() {
+
+		when(result.records()).thenReturn(Flux.empty());
+
+		StepVerifier.create(createTemplate().findAll(SimpleEntity.class)).verifyComplete();
+
+		assertThat(captureSessionConfig().defaultAccessMode()).isEqualTo(AccessMode.WRITE);
+		verify(session).close();
+	}
+
+	@Test
+	void readOnlyQueriesShouldBeRoutedForReadingWhenEnabled() {
+
+		when(result.records()).thenReturn(Flux.empty());
+
+		ReactiveNeo4jTemplate template = createTemplate();
+		template.setRouteReadOnlyQueries(true);
+		StepVerifier.create(template.findAll(SimpleEntity.class)).verifyComplete();
+
+		assertThat(captureSessionConfig().defaultAccessMode()).isEqualTo(AccessMode.READ);
+		verify(session).close();
+	}
+
+	@Test
+	void customCypherShouldNeverBeRoutedForReading() {
+
+		when(result.records()).thenReturn(Flux.empty());
+
+		ReactiveNeo4jTemplate template = createTemplate();
+		template.setRouteReadOnlyQueries(true);
+		StepVerifier.create(template.findAll("MATCH (n:SimpleEntity) SET n.visited = true RETURN n", SimpleEntity.class))
+				.verifyComplete();
+
+		assertThat(captureSessionConfig().defaultAccessMode()).isEqualTo(AccessMode.WRITE);
+		verify(session).close();
+	}
+
+	private SessionConfig captureSessionConfig() {
+
+		ArgumentCaptor<SessionConfig> sessionConfig = ArgumentCaptor.forClass(SessionConfig.class);
+		verify(driver).rxSession(sessionConfig.capture());
+		return sessionConfig.getValue();
+	}
+
+	private ReactiveNeo4jTemplate createTemplate() {
+
+		return new ReactiveNeo4jTemplate(ReactiveNeo4jClient.create(driver), new Neo4jMappingContext(),
+				ReactiveDatabaseSelectionProvider.getDefaultSelectionProvider());
+	}
+
+	private Mono<ReactiveNeo4jOperations.ExecutableQuery<CyclicEntity>> prepareFindAll() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(CyclicEntity.class);
+
+		ReactiveNeo4jTemplate template = new ReactiveNeo4jTemplate(ReactiveNeo4jClient.create(driver), mappingContext,
+				ReactiveDatabaseSelectionProvider.getDefaultSelectionProvider());
+
+		return template.toExecutableQuery(CyclicEntity.class, QueryFragmentsAndParameters.forFindAll(entity))
+				.subscribeOn(Schedulers.parallel());
+	}
+
+	@Node
+	private static class SimpleEntity {
+
+		@Id @GeneratedValue private Long id;
+
+		private String name;
+	}
+
+	@Node
+	private static class CyclicEntity {
+
+		@Id @GeneratedValue private Long id;
+
+		@Relationship("KNOWS") private List<CyclicEntity> friends;
+	}
+}
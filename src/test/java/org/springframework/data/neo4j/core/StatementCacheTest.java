@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Statement;
+
+/**
+ * @author agent
+ */
+class StatementCacheTest {
+
+	@Test
+	void shouldRenderStatementsOnlyOnce() {
+
+		AtomicInteger numberOfBuiltStatements = new AtomicInteger();
+		Supplier<Statement> statement = () -> {
+			numberOfBuiltStatements.incrementAndGet();
+			return Cypher.match(Cypher.node("Test").named("n")).returning("n").build();
+		};
+
+		StatementCache statementCache = new StatementCache();
+		String first = statementCache.render(StatementCache.Kind.FIND_ALL, statement, "Test");
+		String second = statementCache.render(StatementCache.Kind.FIND_ALL, statement, "Test");
+
+		assertThat(first).isEqualTo("MATCH (n:`Test`) RETURN n").isSameAs(second);
+		assertThat(numberOfBuiltStatements).hasValue(1);
+		assertThat(statementCache.getHitCount()).isEqualTo(1L);
+		assertThat(statementCache.getMissCount()).isEqualTo(1L);
+
+		statementCache.render(StatementCache.Kind.COUNT, statement, "Test");
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "Test", Arrays.asList("A", "B"));
+		assertThat(numberOfBuiltStatements).hasValue(3);
+		assertThat(statementCache.getMissCount()).isEqualTo(3L);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedStatements() {
+
+		AtomicInteger numberOfBuiltStatements = new AtomicInteger();
+		Supplier<Statement> statement = () -> {
+			numberOfBuiltStatements.incrementAndGet();
+			return Cypher.match(Cypher.node("Test").named("n")).returning("n").build();
+		};
+
+		StatementCache statementCache = new StatementCache(2);
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "A");
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "B");
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "A");
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "C");
+		assertThat(numberOfBuiltStatements).hasValue(3);
+
+		// B has been used least recently and must have been evicted to make room for C
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "A");
+		assertThat(numberOfBuiltStatements).hasValue(3);
+		statementCache.render(StatementCache.Kind.FIND_ALL, statement, "B");
+		assertThat(numberOfBuiltStatements).hasValue(4);
+		assertThat(statementCache.getHitCount()).isEqualTo(2L);
+		assertThat(statementCache.getMissCount()).isEqualTo(4L);
+	}
+
+	@Test
+	void shouldOnlyCacheStatementsNotChangingDynamicLabels() {
+
+		AtomicInteger numberOfBuiltStatements = new AtomicInteger();
+		Supplier<Statement> statement = () -> {
+			numberOfBuiltStatements.incrementAndGet();
+			return Cypher.match(Cypher.node("Test").named("n")).returning("n").build();
+		};
+
+		StatementCache statementCache = new StatementCache();
+		DynamicLabels changedLabels = new DynamicLabels(Collections.singletonList("Old"), Collections.singletonList("New"));
+		statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE, statement, "Test", changedLabels);
+		statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE, statement, "Test", changedLabels);
+		assertThat(numberOfBuiltStatements).hasValue(2);
+		assertThat(statementCache.getMissCount()).isZero();
+
+		statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE, statement, "Test", DynamicLabels.EMPTY);
+		statementCache.renderWithDynamicLabels(StatementCache.Kind.SAVE, statement, "Test",
+				new DynamicLabels(Collections.emptyList(), Collections.emptyList()));
+		assertThat(numberOfBuiltStatements).hasValue(3);
+		assertThat(statementCache.getHitCount()).isEqualTo(1L);
+	}
+}
@@ -81,7 +81,7 @@ class TransactionHandlingTest {
 		@Mock private Transaction transaction;
 
 		@Nested
-		class AutoCloseableQueryRunnerHandlerTest {
+		class AutoCloseableQueryRunnerTest {
 
 			@Test
 			void shouldCallCloseOnSession() {
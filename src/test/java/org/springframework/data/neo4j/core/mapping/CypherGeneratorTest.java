@@ -24,13 +24,20 @@ import org.mockito.Mockito;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -94,6 +101,22 @@ class CypherGeneratorTest {
 		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
 	}
 
+	@Test
+	void shouldCreateBatchedRelationshipCreationQuery() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		when(relationshipDescription.getType()).thenReturn("REL");
+		when(relationshipDescription.isOutgoing()).thenReturn(true);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleRelationships(persistentEntity,
+				relationshipDescription, null);
+
+		String expectedQuery = "MATCH (startNode:`Entity1`) WHERE startNode.id = $fromId"
+							   + " UNWIND $__relationships__ AS relationship MATCH (endNode) WHERE id(endNode) = relationship.toId"
+							   + " MERGE (startNode)-[relProps:`REL`]->(endNode) RETURN collect(id(relProps)) AS __ids__";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
 	@Test
 	void shouldCreateRelationshipRemoveQueryWithLabelIfPresent() {
 		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
@@ -107,6 +130,22 @@ class CypherGeneratorTest {
 		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
 	}
 
+	@Test
+	void shouldCreateQueryRemovingObsoleteRelationships() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+		when(relationshipDescription.getType()).thenReturn("REL");
+		when(relationshipDescription.isOutgoing()).thenReturn(true);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareDeleteOfObsoleteRelationships(persistentEntity,
+				relationshipDescription);
+
+		String expectedQuery = "MATCH (startNode:`Entity1`)-[rel:`REL`]->(endNode:`Entity2`) WHERE (startNode.id = $fromId AND NOT (id(endNode) IN $__knownRelatedNodeIds__)) DELETE rel";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
 	@Test
 	void shouldCreateRelationshipRemoveQueryWithMultipleLabels() {
 		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
@@ -222,6 +261,169 @@ class CypherGeneratorTest {
 		assertThat(renderedStatement).doesNotContainPattern(typedRelationshipsPattern);
 	}
 
+	@Test
+	void shouldExpandRelationshipsOnlyInTheirDirectionAndToTheirTarget() {
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		List<RelationshipDescription> relationships = new ArrayList<>();
+		relationships.addAll(mappingContext.getPersistentEntity(Author.class).getRelationships());
+		relationships.addAll(mappingContext.getPersistentEntity(Book.class).getRelationships());
+
+		Statement statement = CypherGenerator.INSTANCE.prepareExpansionOf(relationships);
+
+		String expectedQuery = "MATCH (startNode)-[relProps:`WROTE`]->(endNode:`Book`) "
+				+ "WHERE id(startNode) IN $__ids__0 "
+				+ "RETURN 0 AS __er__, collect(DISTINCT id(relProps)) AS __sr__, collect(DISTINCT id(endNode)) AS __srn__ "
+				+ "UNION ALL "
+				+ "MATCH (startNode)<-[relProps:`WROTE`]-(endNode:`Author`) "
+				+ "WHERE id(startNode) IN $__ids__1 "
+				+ "RETURN 1 AS __er__, collect(DISTINCT id(relProps)) AS __sr__, collect(DISTINCT id(endNode)) AS __srn__";
+		assertThat(Renderer.getDefaultRenderer().render(statement)).isEqualTo(expectedQuery);
+	}
+
+	@Test
+	void shouldExpandDynamicRelationshipsWithAllTheirTypes() {
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		List<RelationshipDescription> relationships = new ArrayList<>();
+		relationships.addAll(mappingContext.getPersistentEntity(CyclicEntityWithEnumeratedDynamicRelationship1.class)
+				.getRelationships());
+		relationships.addAll(mappingContext.getPersistentEntity(CyclicEntityWithStringDynamicRelationship1.class)
+				.getRelationships());
+
+		Statement statement = CypherGenerator.INSTANCE.prepareExpansionOf(relationships);
+
+		Pattern enumeratedTypesPattern = Pattern.compile(
+				"\\(startNode\\)-\\[relProps:(`CORNERED`\\|`ROUND`|`ROUND`\\|`CORNERED`)]->"
+				+ "\\(endNode:`CyclicEntityWithEnumeratedDynamicRelationship2`\\)");
+
+		String renderedStatement = Renderer.getDefaultRenderer().render(statement);
+		assertThat(renderedStatement).containsPattern(enumeratedTypesPattern);
+		assertThat(renderedStatement)
+				.contains("(startNode)-[relProps]->(endNode:`CyclicEntityWithStringDynamicRelationship2`)");
+	}
+
+	@Test
+	void shouldRequireRelationshipsToExpand() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> CypherGenerator.INSTANCE.prepareExpansionOf(Collections.emptyList()));
+	}
+
+	@Test
+	void shouldCreateExistenceCheckWithoutLoadingProperties() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareExistenceCheckOf(persistentEntity,
+				persistentEntity.getIdExpression().isEqualTo(Cypher.parameter(Constants.NAME_OF_ID)));
+
+		String expectedQuery = "MATCH (n:`Entity1`) WHERE n.id = $__id__ WITH n LIMIT 1 RETURN count(n)";
+		assertThat(Renderer.getDefaultRenderer().render(statement)).isEqualTo(expectedQuery);
+	}
+
+	@Test
+	void shouldRestrictPropertiesOfRelatedNodesToNestedIncludedProperties() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Company.class);
+
+		Statement statement = Cypher.match(Cypher.anyNode(Constants.NAME_OF_ROOT_NODE))
+				.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity,
+						Arrays.asList("name", "employees", "employees.name")))
+				.build();
+
+		String renderedStatement = Renderer.getDefaultRenderer().render(statement);
+		assertThat(renderedStatement).contains("n{.name, __nodeLabels__: labels(n)");
+		assertThat(renderedStatement).contains("n_employees{.name, __nodeLabels__: labels(n_employees)");
+		assertThat(renderedStatement).doesNotContain(".age", ".city");
+	}
+
+	@Test
+	void shouldIncludeAllPropertiesOfRelatedNodesWithoutNestedIncludedProperties() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Company.class);
+
+		Statement statement = Cypher.match(Cypher.anyNode(Constants.NAME_OF_ROOT_NODE))
+				.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity,
+						Arrays.asList("name", "employees")))
+				.build();
+
+		String renderedStatement = Renderer.getDefaultRenderer().render(statement);
+		assertThat(renderedStatement).doesNotContain(".city");
+		assertThat(renderedStatement).contains(".age");
+	}
+
+	@Test
+	void shouldCheckVersionsOfEachRowWhenSavingMultipleInstances() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+				.getPersistentEntity(VersionedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(persistentEntity,
+				UnaryOperator.identity());
+
+		String renderedStatement = Renderer.getDefaultRenderer().render(statement);
+		assertThat(renderedStatement).startsWith("UNWIND $__entities__ AS entity OPTIONAL MATCH (hlp:`VersionedEntity`)");
+		assertThat(renderedStatement).contains("UNION ALL UNWIND $__entities__ AS entity MATCH (n:`VersionedEntity`)");
+		assertThat(renderedStatement).contains("n.version = entity.__version__");
+		assertThat(renderedStatement)
+				.endsWith("RETURN collect(entity.__row__) AS __rows__, collect(id(n)) AS __ids__");
+	}
+
+	@Test
+	void shouldDeleteRelationshipsAndNodesInBatches() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+
+		String deleteRelationships = Renderer.getDefaultRenderer()
+				.render(CypherGenerator.INSTANCE.prepareDeleteOfRelationshipsInBatch(persistentEntity, null));
+		assertThat(deleteRelationships)
+				.isEqualTo("MATCH (n:`Entity1`)-[rel]-() WITH DISTINCT rel LIMIT $__batchSize__ DELETE rel");
+
+		String deleteNodes = Renderer.getDefaultRenderer()
+				.render(CypherGenerator.INSTANCE.prepareDeleteOfNodesInBatch(persistentEntity, null));
+		assertThat(deleteNodes).isEqualTo("MATCH (n:`Entity1`) WITH n LIMIT $__batchSize__ DETACH DELETE n");
+	}
+
+	@Node
+	private static class Author {
+
+		@Id private Long id;
+
+		@Relationship("WROTE") private List<Book> books;
+	}
+
+	@Node
+	private static class Book {
+
+		@Id private Long id;
+
+		@Relationship(type = "WROTE", direction = Relationship.Direction.INCOMING) private List<Author> authors;
+	}
+
+	@Node
+	private static class VersionedEntity {
+
+		@Id private String id;
+
+		@Version private Long version;
+	}
+
+	@Node
+	private static class Company {
+
+		@Id private Long id;
+
+		private String name;
+
+		private String city;
+
+		private List<Employee> employees;
+	}
+
+	@Node
+	private static class Employee {
+
+		@Id private Long id;
+
+		private String name;
+
+		private Integer age;
+	}
+
 	@Node
 	private static class Entity1 {
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.TypeSystem;
+
+/**
+ * @author agent
+ */
+class DefaultNeo4jEntityConverterTest {
+
+	@Nested
+	class RecordIndexTest {
+
+		private final InternalNode alice = new InternalNode(1L, Collections.singletonList("Person"),
+				Collections.emptyMap());
+
+		private final InternalNode bob = new InternalNode(2L, Collections.singletonList("Person"),
+				Collections.emptyMap());
+
+		private final InternalNode carol = new InternalNode(3L, Collections.singletonList("Person"),
+				Collections.emptyMap());
+
+		private final InternalNode hobby = new InternalNode(4L, Collections.singletonList("Hobby"),
+				Collections.emptyMap());
+
+		@Test
+		void shouldFindOutgoingRelationshipsOnlyFromTheirStartNode() {
+
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, bob),
+					Collections.singletonList(new InternalRelationship(10L, 1L, 2L, "KNOWS")));
+
+			assertThat(relatedNodeIds(index.findRelatedNodes(1L, false, "KNOWS", "Person"))).containsExactly(2L);
+			assertThat(index.findRelatedNodes(2L, false, "KNOWS", "Person")).isEmpty();
+		}
+
+		@Test
+		void shouldFindIncomingRelationshipsOnlyFromTheirEndNode() {
+
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, bob),
+					Collections.singletonList(new InternalRelationship(10L, 1L, 2L, "KNOWS")));
+
+			assertThat(relatedNodeIds(index.findRelatedNodes(2L, true, "KNOWS", "Person"))).containsExactly(1L);
+			assertThat(index.findRelatedNodes(1L, true, "KNOWS", "Person")).isEmpty();
+		}
+
+		@Test
+		void shouldOnlyFindRelationshipsOfTheRequestedTypeAndTargetLabel() {
+
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, bob, hobby),
+					Arrays.asList(new InternalRelationship(10L, 1L, 2L, "KNOWS"),
+							new InternalRelationship(11L, 1L, 4L, "LIKES"),
+							new InternalRelationship(12L, 1L, 4L, "KNOWS")));
+
+			assertThat(relatedNodeIds(index.findRelatedNodes(1L, false, "KNOWS", "Person"))).containsExactly(2L);
+			assertThat(relatedNodeIds(index.findRelatedNodes(1L, false, "LIKES", "Hobby"))).containsExactly(4L);
+			assertThat(index.findRelatedNodes(1L, false, "LIKES", "Person")).isEmpty();
+			assertThat(index.containsRelationship("LIKES")).isTrue();
+			assertThat(index.containsRelationship("HATES")).isFalse();
+			assertThat(index.containsNodeWithLabel("Hobby")).isTrue();
+			assertThat(index.containsNodeWithLabel("Animal")).isFalse();
+		}
+
+		@Test
+		void dynamicRelationshipsShouldMatchAnyType() {
+
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, bob, carol),
+					Arrays.asList(new InternalRelationship(10L, 1L, 2L, "KNOWS"),
+							new InternalRelationship(11L, 1L, 3L, "LOVES")));
+
+			List<DefaultNeo4jEntityConverter.RelatedNode> relatedNodes = index.findRelatedNodes(1L, false, null, "Person");
+			assertThat(relatedNodeIds(relatedNodes)).containsExactly(2L, 3L);
+			assertThat(relatedNodes).extracting(relatedNode -> relatedNode.getRelationship().type())
+					.containsExactly("KNOWS", "LOVES");
+			assertThat(index.containsRelationship(null)).isTrue();
+			assertThat(indexOf(Arrays.asList(alice, bob), Collections.emptyList()).containsRelationship(null))
+					.isFalse();
+		}
+
+		@Test
+		void parallelRelationshipsShouldYieldTheRelatedNodeOnceWithTheFirstRelationship() {
+
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, bob),
+					Arrays.asList(new InternalRelationship(10L, 1L, 2L, "KNOWS"),
+							new InternalRelationship(11L, 1L, 2L, "KNOWS")));
+
+			List<DefaultNeo4jEntityConverter.RelatedNode> relatedNodes = index
+					.findRelatedNodes(1L, false, "KNOWS", "Person");
+			assertThat(relatedNodeIds(relatedNodes)).containsExactly(2L);
+			assertThat(relatedNodes.get(0).getRelationship().id()).isEqualTo(10L);
+		}
+
+		@Test
+		void relatedNodesShouldBeInTheOrderOfTheRecord() {
+
+			// The relationships are in a different order than the nodes they point to
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, carol, bob),
+					Arrays.asList(new InternalRelationship(10L, 1L, 2L, "KNOWS"),
+							new InternalRelationship(11L, 1L, 3L, "KNOWS")));
+
+			assertThat(relatedNodeIds(index.findRelatedNodes(1L, false, "KNOWS", "Person"))).containsExactly(3L, 2L);
+		}
+
+		@Test
+		void nodesShouldBePositionedByTheirFirstOccurrence() {
+
+			Map<String, Value> record = new LinkedHashMap<>();
+			record.put("rootNodes", Values.value(Arrays.asList(alice.asValue(), carol.asValue())));
+			record.put("relatedNodes", Values.value(Arrays.asList(bob.asValue(), carol.asValue())));
+			record.put("relationships", Values.value(Arrays.asList(
+					new InternalRelationship(10L, 1L, 2L, "KNOWS").asValue(),
+					new InternalRelationship(11L, 1L, 3L, "KNOWS").asValue())));
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(record);
+
+			assertThat(relatedNodeIds(index.findRelatedNodes(1L, false, "KNOWS", "Person"))).containsExactly(3L, 2L);
+		}
+
+		@Test
+		void unknownSourceNodesShouldNotHaveRelatedNodes() {
+
+			DefaultNeo4jEntityConverter.RecordIndex index = indexOf(Arrays.asList(alice, bob),
+					Collections.singletonList(new InternalRelationship(10L, 1L, 2L, "KNOWS")));
+
+			assertThat(index.findRelatedNodes(null, false, "KNOWS", "Person")).isEmpty();
+			assertThat(index.findRelatedNodes(23L, false, "KNOWS", "Person")).isEmpty();
+		}
+
+		private DefaultNeo4jEntityConverter.RecordIndex indexOf(List<InternalNode> nodes,
+				List<InternalRelationship> relationships) {
+
+			Map<String, Value> record = new LinkedHashMap<>();
+			record.put("nodes", Values.value(nodes.stream().map(InternalNode::asValue).collect(Collectors.toList())));
+			record.put("relationships", Values
+					.value(relationships.stream().map(InternalRelationship::asValue).collect(Collectors.toList())));
+			return indexOf(record);
+		}
+
+		private DefaultNeo4jEntityConverter.RecordIndex indexOf(Map<String, Value> record) {
+
+			TypeSystem typeSystem = InternalTypeSystem.TYPE_SYSTEM;
+			return new DefaultNeo4jEntityConverter.RecordIndex(Values.value(record), typeSystem.LIST(),
+					typeSystem.NODE(), typeSystem.RELATIONSHIP());
+		}
+
+		private List<Long> relatedNodeIds(List<DefaultNeo4jEntityConverter.RelatedNode> relatedNodes) {
+			return relatedNodes.stream().map(relatedNode -> relatedNode.getNode().id()).collect(Collectors.toList());
+		}
+	}
+}
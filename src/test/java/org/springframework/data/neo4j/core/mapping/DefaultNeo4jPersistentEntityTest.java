@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -131,6 +132,37 @@ class DefaultNeo4jPersistentEntityTest {
 		}
 	}
 
+	@Nested
+	class MemoizedMetadata {
+
+		@Test
+		void shouldReuseMetadata() {
+
+			Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+					.getPersistentEntity(NodeWithDynamicLabels.class);
+
+			assertThat(persistentEntity.getRelationships()).isSameAs(persistentEntity.getRelationships());
+			assertThat(persistentEntity.getRelationshipsInHierarchy(Collections.emptyList()))
+					.isSameAs(persistentEntity.getRelationshipsInHierarchy(Collections.emptyList()))
+					.extracting(RelationshipDescription::getFieldName).containsExactly("relatedTo");
+			assertThat(persistentEntity.getRelationshipsInHierarchy(Collections.singletonList("dynamicLabels"))).isEmpty();
+			assertThat(persistentEntity.getGraphPropertiesInHierarchy())
+					.isSameAs(persistentEntity.getGraphPropertiesInHierarchy());
+			assertThat(persistentEntity.containsPossibleCircles(Collections.emptyList())).isFalse();
+		}
+
+		@Test
+		void shouldRecomputeHierarchyWhenChildrenAreAdded() {
+
+			Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+			Neo4jPersistentEntity<?> parentEntity = mappingContext.getPersistentEntity(BaseClass.class);
+			assertThat(parentEntity.getChildNodeDescriptionsInHierarchy()).isEmpty();
+
+			Neo4jPersistentEntity<?> childEntity = mappingContext.getPersistentEntity(Child.class);
+			assertThat(parentEntity.getChildNodeDescriptionsInHierarchy()).containsExactly(childEntity);
+		}
+	}
+
 	@Nested
 	class Labels {
 
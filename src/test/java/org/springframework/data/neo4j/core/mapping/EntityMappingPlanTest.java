@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.neo4j.core.schema.DynamicLabels;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Property;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+/**
+ * @author agent
+ */
+class EntityMappingPlanTest {
+
+	private final EntityMappingPlan mappingPlan = EntityMappingPlan
+			.of(new Neo4jMappingContext().getPersistentEntity(Person.class));
+
+	@Test
+	void shouldOnlyWriteStoredProperties() {
+
+		assertThat(mappingPlan.getWrittenProperties())
+				.extracting(EntityMappingPlan.PropertyPlan::getGraphPropertyName)
+				.containsExactlyInAnyOrder("name", "nick");
+		assertThat(mappingPlan.getIdProperty()).isNotNull()
+				.extracting(EntityMappingPlan.PropertyPlan::getKind).isEqualTo(EntityMappingPlan.Kind.INTERNAL_ID);
+		assertThat(mappingPlan.getVersionProperty()).isNull();
+	}
+
+	@Test
+	void shouldNotPopulateConstructorParameters() {
+
+		assertThat(mappingPlan.getPopulatedProperties())
+				.extracting(propertyPlan -> propertyPlan.getProperty().getName())
+				.containsExactlyInAnyOrder("id", "nickname", "labels");
+		assertThat(mappingPlan.getPopulatedAssociations()).isEmpty();
+		assertThat(mappingPlan.getRequiredProperty("friends").getKind()).isEqualTo(EntityMappingPlan.Kind.RELATIONSHIP);
+		assertThat(mappingPlan.getRequiredProperty("labels").getKind()).isEqualTo(EntityMappingPlan.Kind.DYNAMIC_LABELS);
+	}
+
+	@Test
+	void shouldFailOnUnknownProperties() {
+
+		assertThatExceptionOfType(MappingException.class).isThrownBy(() -> mappingPlan.getRequiredProperty("unknown"));
+	}
+
+	@Node
+	static class Person {
+
+		@Id @GeneratedValue private Long id;
+
+		private final String name;
+
+		@Property("nick") private String nickname;
+
+		@DynamicLabels private List<String> labels;
+
+		@Relationship("KNOWS") private final List<Person> friends;
+
+		Person(String name, List<Person> friends) {
+			this.name = name;
+			this.friends = friends;
+		}
+	}
+}
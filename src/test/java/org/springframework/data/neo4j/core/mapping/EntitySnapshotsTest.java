@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+
+/**
+ * @author agent
+ */
+class EntitySnapshotsTest {
+
+	private final EntitySnapshots entitySnapshots = new EntitySnapshots();
+
+	private final Object entity = new Object();
+
+	private final Object friend1 = new Object();
+
+	private final Object friend2 = new Object();
+
+	@Test
+	void shouldDetermineChangedProperties() {
+
+		record();
+
+		assertThat(entitySnapshots.getInternalId(entity)).isEqualTo(23L);
+		assertThat(entitySnapshots.getChangedProperties(entity, properties("a", "b"))).isEmpty();
+		assertThat(entitySnapshots.getChangedProperties(entity, properties("a", "c")))
+				.containsOnlyKeys("second")
+				.containsEntry("second", Values.value("c"));
+		assertThat(entitySnapshots.getChangedProperties(new Object(), properties("a", "b"))).isNull();
+	}
+
+	@Test
+	void shouldCompareRelatedValuesByTheirNodes() {
+
+		record();
+
+		assertThat(entitySnapshots.containsRelatedValues(entity, "friends", Arrays.asList(friend2, friend1))).isTrue();
+		assertThat(entitySnapshots.containsRelatedValues(entity, "friends", Arrays.asList(friend1, friend1))).isFalse();
+		assertThat(entitySnapshots.containsRelatedValues(entity, "friends", Arrays.asList(friend1, new Object())))
+				.isFalse();
+		assertThat(entitySnapshots.containsRelatedValues(entity, "friends", Collections.singletonList(friend1)))
+				.isFalse();
+		assertThat(entitySnapshots.containsRelatedValues(entity, "enemies", Collections.emptyList())).isFalse();
+	}
+
+	@Test
+	void otherInstancesLoadedFromTheSameNodesShouldBeConsideredUnchanged() {
+
+		record();
+
+		Object sameFriend = new Object();
+		entitySnapshots.record(sameFriend, 2L, properties("a", "b"), Collections.emptyMap());
+
+		assertThat(entitySnapshots.containsRelatedValues(entity, "friends", Arrays.asList(friend1, sameFriend)))
+				.isTrue();
+	}
+
+	@Test
+	void relationshipsToRelatedValuesWithoutSnapshotShouldNotBeRecorded() {
+
+		Object other = new Object();
+		Object stranger = new Object();
+		entitySnapshots.record(other, 42L, properties("a", "b"),
+				Collections.singletonMap("friends", Arrays.asList(friend1, stranger)));
+
+		assertThat(entitySnapshots.getInternalId(other)).isEqualTo(42L);
+		assertThat(entitySnapshots.containsRelatedValues(other, "friends", Arrays.asList(friend1, stranger))).isFalse();
+	}
+
+	@Test
+	void relationshipsToTheEntityItselfShouldBeRecorded() {
+
+		Object narcissist = new Object();
+		entitySnapshots.record(narcissist, 42L, properties("a", "b"),
+				Collections.singletonMap("friends", Collections.singletonList(narcissist)));
+
+		assertThat(entitySnapshots.containsRelatedValues(narcissist, "friends", Collections.singletonList(narcissist)))
+				.isTrue();
+	}
+
+	@Test
+	void shouldForgetWrittenState() {
+
+		record();
+
+		entitySnapshots.forgetProperties(entity);
+		assertThat(entitySnapshots.getChangedProperties(entity, properties("a", "b"))).isNull();
+		assertThat(entitySnapshots.getInternalId(entity)).isEqualTo(23L);
+
+		entitySnapshots.forgetRelatedValues(entity, "friends");
+		assertThat(entitySnapshots.containsRelatedValues(entity, "friends", Arrays.asList(friend1, friend2))).isFalse();
+	}
+
+	private void record() {
+
+		entitySnapshots.record(friend1, 1L, properties("a", "b"), Collections.emptyMap());
+		entitySnapshots.record(friend2, 2L, properties("a", "b"), Collections.emptyMap());
+
+		List<Object> friends = new ArrayList<>(Arrays.asList(friend1, friend2));
+		Map<String, Collection<?>> relatedValues = new HashMap<>();
+		relatedValues.put("friends", friends);
+		entitySnapshots.record(entity, 23L, properties("a", "b"), relatedValues);
+
+		// Changes to the original collection must not affect the snapshot
+		friends.clear();
+	}
+
+	private static Map<String, Object> properties(String first, String second) {
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("first", Values.value(first));
+		properties.put("second", Values.value(second));
+		return properties;
+	}
+}
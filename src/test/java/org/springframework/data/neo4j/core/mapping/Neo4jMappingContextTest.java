@@ -24,10 +24,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -36,7 +38,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.StringValue;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.annotation.Transient;
@@ -378,6 +386,30 @@ class Neo4jMappingContextTest {
 		}).withMessageMatching(".*Only one dynamic relationship between to entities is permitted.");
 	}
 
+	@Test
+	void mappingFunctionsShouldBeScopedToOneQuery() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Collections.singletonList(TripNode.class)));
+		schema.initialize();
+
+		Map<String, Value> properties = new HashMap<>();
+		properties.put("id", Values.value("t1"));
+		properties.put("name", Values.value("A trip"));
+		Value record = new NodeValue(new InternalNode(1L, Collections.singletonList("TripNode"), properties));
+
+		BiFunction<TypeSystem, MapAccessor, TripNode> mappingFunction = schema
+				.getRequiredMappingFunctionFor(TripNode.class);
+		TripNode trip = mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM, record);
+		assertThat(trip.name).isEqualTo("A trip");
+		assertThat(mappingFunction.apply(InternalTypeSystem.TYPE_SYSTEM, record)).isSameAs(trip);
+
+		TripNode tripOfAnotherQuery = schema.getRequiredMappingFunctionFor(TripNode.class)
+				.apply(InternalTypeSystem.TYPE_SYSTEM, record);
+		assertThat(tripOfAnotherQuery).isNotSameAs(trip);
+		assertThat(tripOfAnotherQuery.name).isEqualTo("A trip");
+	}
+
 	static class DummyIdGenerator implements IdGenerator<Void> {
 
 		@Override
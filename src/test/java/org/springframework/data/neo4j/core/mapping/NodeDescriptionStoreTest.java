@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+
+/**
+ * @author agent
+ */
+class NodeDescriptionStoreTest {
+
+	private final NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	@Test
+	void shouldIndexNodeDescriptionsByClass() {
+
+		DefaultNeo4jPersistentEntity<?> animal = getEntity(Animal.class);
+		nodeDescriptionStore.put(animal.getPrimaryLabel(), animal);
+
+		assertThat(nodeDescriptionStore.getNodeDescription(Animal.class)).isSameAs(animal);
+		assertThat(nodeDescriptionStore.getNodeDescription(Dog.class)).isNull();
+	}
+
+	@Test
+	void shouldDeriveConcreteNodeDescriptionAndDynamicLabels() {
+
+		DefaultNeo4jPersistentEntity<?> animal = getEntity(Animal.class);
+		DefaultNeo4jPersistentEntity<?> dog = getEntity(Dog.class);
+		nodeDescriptionStore.put(animal.getPrimaryLabel(), animal);
+		nodeDescriptionStore.put(dog.getPrimaryLabel(), dog);
+
+		NodeDescriptionAndLabels result = nodeDescriptionStore
+				.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Dog"));
+		assertThat(result.getNodeDescription()).isSameAs(dog);
+		assertThat(result.getDynamicLabels()).isEmpty();
+		assertThat(nodeDescriptionStore.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Dog")))
+				.isSameAs(result);
+
+		result = nodeDescriptionStore.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Good"));
+		assertThat(result.getNodeDescription()).isSameAs(animal);
+		assertThat(result.getDynamicLabels()).containsExactly("Good");
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedLabelCombinations() {
+
+		DefaultNeo4jPersistentEntity<?> animal = getEntity(Animal.class);
+		nodeDescriptionStore.put(animal.getPrimaryLabel(), animal);
+		nodeDescriptionStore.setLabelCacheSize(1);
+
+		NodeDescriptionAndLabels first = nodeDescriptionStore
+				.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Good"));
+		assertThat(nodeDescriptionStore.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Good")))
+				.isSameAs(first);
+		nodeDescriptionStore.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Bad"));
+		assertThat(nodeDescriptionStore.deriveConcreteNodeDescription(animal, Arrays.asList("Animal", "Good")))
+				.isNotSameAs(first);
+	}
+
+	@Test
+	void labelCacheSizeMustBePositive() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> nodeDescriptionStore.setLabelCacheSize(0))
+				.withMessage("The size of the label cache must be greater than 0.");
+	}
+
+	private DefaultNeo4jPersistentEntity<?> getEntity(Class<?> type) {
+		return (DefaultNeo4jPersistentEntity<?>) mappingContext.getPersistentEntity(type);
+	}
+
+	@Node
+	static abstract class Animal {
+
+		@Id Long id;
+	}
+
+	@Node
+	static class Dog extends Animal {
+	}
+}
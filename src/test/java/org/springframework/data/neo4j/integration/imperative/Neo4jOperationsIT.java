@@ -17,6 +17,7 @@ package org.springframework.data.neo4j.integration.imperative;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -45,11 +46,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.neo4j.config.AbstractNeo4jConfig;
 import org.springframework.data.neo4j.core.Neo4jOperations;
+import org.springframework.data.neo4j.core.SaveAllProgress;
 import org.springframework.data.neo4j.integration.shared.common.PersonWithAllConstructor;
 import org.springframework.data.neo4j.integration.shared.common.ThingWithGeneratedId;
+import org.springframework.data.neo4j.integration.shared.common.VersionedThing;
 import org.springframework.data.neo4j.test.Neo4jExtension.Neo4jConnectionSupport;
 import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Gerrit Meier
@@ -65,14 +70,16 @@ class Neo4jOperationsIT {
 
 	private final Driver driver;
 	private final Neo4jOperations neo4jOperations;
+	private final PlatformTransactionManager transactionManager;
 
 	private Long person1Id;
 	private Long person2Id;
 
 	@Autowired
-	Neo4jOperationsIT(Driver driver, Neo4jOperations neo4jOperations) {
+	Neo4jOperationsIT(Driver driver, Neo4jOperations neo4jOperations, PlatformTransactionManager transactionManager) {
 		this.driver = driver;
 		this.neo4jOperations = neo4jOperations;
+		this.transactionManager = transactionManager;
 	}
 
 	/**
@@ -260,6 +267,46 @@ class Neo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void saveAllInChunks() {
+
+		List<ThingWithGeneratedId> things = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			things.add(new ThingWithGeneratedId("testThing" + i));
+		}
+
+		List<SaveAllProgress> reportedProgress = new ArrayList<>();
+		SaveAllProgress progress = neo4jOperations.saveAllInChunks(things, 2,
+				new TransactionTemplate(transactionManager), reportedProgress::add);
+
+		assertThat(reportedProgress).extracting(SaveAllProgress::getEntitiesInLastChunk).containsExactly(2, 2, 1);
+		assertThat(progress.getChunks()).isEqualTo(3);
+		assertThat(progress.getEntitiesSaved()).isEqualTo(5L);
+		assertThat(progress.getNodesCreated()).isEqualTo(5L);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (t:ThingWithGeneratedId) return count(t) as count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(5L);
+		}
+	}
+
+	@Test
+	void saveAllInChunksShouldCountNodesSavedWithChecks() {
+
+		List<VersionedThing> things = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			things.add(new VersionedThing("testThing" + i));
+		}
+
+		SaveAllProgress progress = neo4jOperations.saveAllInChunks(things, 2, null, p -> {
+		});
+
+		assertThat(progress.getChunks()).isEqualTo(3);
+		assertThat(progress.getEntitiesSaved()).isEqualTo(5L);
+		assertThat(progress.getNodesCreated()).isEqualTo(5L);
+		assertThat(progress.getPropertiesSet()).isPositive();
+	}
+
 	@Test
 	void deleteById() {
 		neo4jOperations.deleteById(person1Id, PersonWithAllConstructor.class);
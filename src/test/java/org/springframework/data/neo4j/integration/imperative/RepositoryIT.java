@@ -17,7 +17,6 @@ package org.springframework.data.neo4j.integration.imperative;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
-import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.Instant;
@@ -37,6 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.Assertions;
@@ -3044,8 +3044,8 @@ class RepositoryIT {
 			persons = repository.findAllByPlaceWithin(BoundingBox.of(p));
 			assertThat(persons).hasSize(1).contains(person1);
 
-			assertThatIllegalArgumentException().isThrownBy(() -> repository.findAllByPlaceWithin(p)).withMessage(
-					"The WITHIN operation does not support a class org.springframework.data.geo.Polygon. You might want to pass a bounding box instead: class org.springframework.data.neo4j.repository.query.BoundingBox.of(polygon).");
+			persons = repository.findAllByPlaceWithin(p);
+			assertThat(persons).hasSize(1).contains(person1);
 
 			persons = repository.findAllByPlaceNear(CLARION, distance);
 			assertThat(persons).isEmpty();
@@ -3220,6 +3220,27 @@ class RepositoryIT {
 			assertThat(repository.findAllByNameLike(TEST_PERSON1_NAME)).hasSize(2);
 		}
 
+		@Test
+		void streamMethodsShouldMapAllResultsAndBeClosable(@Autowired PersonRepository repository) {
+
+			try (Stream<PersonWithAllConstructor> people = repository.findAllByNameLike(TEST_PERSON1_NAME)) {
+				assertThat(people.map(PersonWithAllConstructor::getName))
+						.containsExactlyInAnyOrder(TEST_PERSON1_NAME, TEST_PERSON2_NAME);
+			}
+
+			// The session of the closed stream must not be in the way of the next query
+			assertThat(repository.count()).isEqualTo(2L);
+		}
+
+		@Test
+		void streamMethodsShouldFlattenAggregatedResults(@Autowired PersonRepository repository) {
+
+			try (Stream<PersonWithAllConstructor> people = repository.streamAggregateOfAllPeople()) {
+				assertThat(people.map(PersonWithAllConstructor::getName))
+						.containsExactlyInAnyOrder(TEST_PERSON1_NAME, TEST_PERSON2_NAME);
+			}
+		}
+
 		// commented see PersonRepository line 126
 		// @Test
 		// void asyncMethodsShouldWork(@Autowired PersonRepository repository) {
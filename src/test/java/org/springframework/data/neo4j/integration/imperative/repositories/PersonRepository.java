@@ -130,6 +130,9 @@ public interface PersonRepository extends Neo4jRepository<PersonWithAllConstruct
 
 	Stream<PersonWithAllConstructor> findAllByNameLike(String aName);
 
+	@Query("MATCH (n:PersonWithAllConstructor) return collect(n)")
+	Stream<PersonWithAllConstructor> streamAggregateOfAllPeople();
+
 	List<PersonWithAllConstructor> findAllBySameValue(String sameValue);
 
 	List<PersonWithAllConstructor> findAllBySameValueIgnoreCase(String sameValue);
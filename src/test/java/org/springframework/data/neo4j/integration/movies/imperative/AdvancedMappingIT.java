@@ -23,7 +23,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.neo4j.config.AbstractNeo4jConfig;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.integration.movies.shared.Actor;
 import org.springframework.data.neo4j.integration.movies.shared.CypherUtils;
 import org.springframework.data.neo4j.integration.movies.shared.Movie;
@@ -173,6 +176,72 @@ class AdvancedMappingIT {
 		assertThat(movies).hasSize(38);
 	}
 
+	@Test
+	void cyclicMappingShouldOnlyFollowMappedRelationshipsInTheirDirection(@Autowired Driver driver,
+			@Autowired Neo4jTemplate template) {
+
+		long c1Id = createCycleWithForeignRelationships(driver);
+		try {
+			Organisation c1 = template.findById(c1Id, Organisation.class).get();
+
+			assertThat(c1.getOrganisations()).extracting(Organisation::getCode).containsExactly("c2");
+			Organisation c2 = c1.getOrganisations().get(0);
+			assertThat(c2.getOrganisations()).extracting(Organisation::getCode).containsExactly("c3");
+			Organisation c3 = c2.getOrganisations().get(0);
+			assertThat(c3.getOrganisations()).hasSize(1);
+			assertThat(c3.getOrganisations().get(0)).isSameAs(c1);
+		} finally {
+			deleteCycleWithForeignRelationships(driver);
+		}
+	}
+
+	@Test
+	void cyclicMappingShouldStopAtTheMaximumTraversalDepth(@Autowired Driver driver, @Autowired Neo4jClient neo4jClient,
+			@Autowired Neo4jMappingContext mappingContext) {
+
+		Neo4jTemplate template = new Neo4jTemplate(neo4jClient, mappingContext,
+				DatabaseSelectionProvider.getDefaultSelectionProvider());
+		template.setMaxTraversalDepth(1);
+
+		long c1Id = createCycleWithForeignRelationships(driver);
+		try {
+			Organisation c1 = template.findById(c1Id, Organisation.class).get();
+
+			assertThat(c1.getOrganisations()).extracting(Organisation::getCode).containsExactly("c2");
+			assertThat(c1.getOrganisations().get(0).getOrganisations()).isEmpty();
+		} finally {
+			deleteCycleWithForeignRelationships(driver);
+		}
+	}
+
+	/**
+	 * Creates a cycle {@code c1 -> c2 -> c3 -> c1} of organisations together with an incoming relationship of the same
+	 * type from an organisation outside the cycle and an outgoing relationship of the same type to a node that is not
+	 * an organisation.
+	 *
+	 * @return The internal id of {@code c1}
+	 */
+	private static long createCycleWithForeignRelationships(Driver driver) {
+
+		try (Session session = driver.session()) {
+			return session.run(""
+					+ "CREATE (c1:Organisation {partnerCode: 'cyclic', code: 'c1'})"
+					+ "-[:CHILD_ORGANISATIONS]->(c2:Organisation {partnerCode: 'cyclic', code: 'c2'})"
+					+ "-[:CHILD_ORGANISATIONS]->(c3:Organisation {partnerCode: 'cyclic', code: 'c3'})"
+					+ "-[:CHILD_ORGANISATIONS]->(c1) "
+					+ "CREATE (:Organisation {partnerCode: 'cyclic', code: 'foreign'})-[:CHILD_ORGANISATIONS]->(c2) "
+					+ "CREATE (c3)-[:CHILD_ORGANISATIONS]->(:CyclicStranger) "
+					+ "RETURN id(c1)").single().get(0).asLong();
+		}
+	}
+
+	private static void deleteCycleWithForeignRelationships(Driver driver) {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) WHERE n:CyclicStranger OR n.partnerCode = 'cyclic' DETACH DELETE n").consume();
+		}
+	}
+
 	@Test // GH-2117
 	void bothCyclicAndNonCyclicRelationshipsAreExcludedFromProjections(@Autowired MovieRepository movieRepository) {
 
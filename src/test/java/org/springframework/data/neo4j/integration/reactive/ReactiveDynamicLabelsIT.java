@@ -23,6 +23,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.UUID;
@@ -128,6 +129,25 @@ public class ReactiveDynamicLabelsIT {
 			template.save(superNode).map(SuperNode::getRelatedTo).map(SimpleDynamicLabels::getId).flatMapMany(this::getLabels)
 					.sort().as(StepVerifier::create).expectNext("A", "B", "C", "SimpleDynamicLabels").verifyComplete();
 		}
+
+		@Test
+		void shouldUpdateAndWriteDynamicLabelsOfMultipleEntities(@Autowired ReactiveNeo4jTemplate template) {
+
+			SimpleDynamicLabels newEntity = new SimpleDynamicLabels();
+			newEntity.moreLabels = new HashSet<>();
+			newEntity.moreLabels.add("A");
+
+			template.findById(existingEntityId, SimpleDynamicLabels.class).flatMapMany(existingEntity -> {
+				existingEntity.moreLabels.remove("Foo");
+				existingEntity.moreLabels.add("Fizz");
+				return template.saveAll(Arrays.asList(existingEntity, newEntity));
+			}).then().as(StepVerifier::create).verifyComplete();
+
+			getLabels(existingEntityId).sort().as(StepVerifier::create)
+					.expectNext("Bar", "Baz", "Fizz", "Foobar", "SimpleDynamicLabels").verifyComplete();
+			getLabels(newEntity.getId()).sort().as(StepVerifier::create).expectNext("A", "SimpleDynamicLabels")
+					.verifyComplete();
+		}
 	}
 
 	@Nested
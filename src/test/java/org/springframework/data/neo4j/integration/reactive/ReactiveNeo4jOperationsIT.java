@@ -18,8 +18,10 @@ package org.springframework.data.neo4j.integration.reactive;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,10 +52,13 @@ import org.springframework.data.neo4j.config.AbstractReactiveNeo4jConfig;
 import org.springframework.data.neo4j.core.ReactiveNeo4jOperations;
 import org.springframework.data.neo4j.integration.shared.common.PersonWithAllConstructor;
 import org.springframework.data.neo4j.integration.shared.common.ThingWithGeneratedId;
+import org.springframework.data.neo4j.integration.shared.common.VersionedThing;
 import org.springframework.data.neo4j.test.Neo4jExtension;
 import org.springframework.data.neo4j.test.Neo4jExtension.Neo4jConnectionSupport;
 import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 /**
  * @author Gerrit Meier
@@ -69,14 +74,17 @@ class ReactiveNeo4jOperationsIT {
 
 	private final Driver driver;
 	private final ReactiveNeo4jOperations neo4jOperations;
+	private final ReactiveTransactionManager transactionManager;
 
 	private Long person1Id;
 	private Long person2Id;
 
 	@Autowired
-	ReactiveNeo4jOperationsIT(Driver driver, ReactiveNeo4jOperations neo4jOperations) {
+	ReactiveNeo4jOperationsIT(Driver driver, ReactiveNeo4jOperations neo4jOperations,
+			ReactiveTransactionManager transactionManager) {
 		this.driver = driver;
 		this.neo4jOperations = neo4jOperations;
+		this.transactionManager = transactionManager;
 	}
 
 	/**
@@ -257,6 +265,50 @@ class ReactiveNeo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void saveAllInChunks() {
+
+		List<ThingWithGeneratedId> things = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			things.add(new ThingWithGeneratedId("testThing" + i));
+		}
+
+		StepVerifier.create(neo4jOperations.saveAllInChunks(Flux.fromIterable(things), 2,
+				TransactionalOperator.create(transactionManager)))
+				.assertNext(progress -> assertThat(progress.getEntitiesInLastChunk()).isEqualTo(2))
+				.assertNext(progress -> assertThat(progress.getEntitiesInLastChunk()).isEqualTo(2))
+				.assertNext(progress -> {
+					assertThat(progress.getEntitiesInLastChunk()).isEqualTo(1);
+					assertThat(progress.getChunks()).isEqualTo(3);
+					assertThat(progress.getEntitiesSaved()).isEqualTo(5L);
+					assertThat(progress.getNodesCreated()).isEqualTo(5L);
+				})
+				.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (t:ThingWithGeneratedId) return count(t) as count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(5L);
+		}
+	}
+
+	@Test
+	void saveAllInChunksShouldCountNodesSavedWithChecks() {
+
+		List<VersionedThing> things = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			things.add(new VersionedThing("testThing" + i));
+		}
+
+		StepVerifier.create(neo4jOperations.saveAllInChunks(Flux.fromIterable(things), 2, null).last())
+				.assertNext(progress -> {
+					assertThat(progress.getChunks()).isEqualTo(3);
+					assertThat(progress.getEntitiesSaved()).isEqualTo(5L);
+					assertThat(progress.getNodesCreated()).isEqualTo(5L);
+					assertThat(progress.getPropertiesSet()).isPositive();
+				})
+				.verifyComplete();
+	}
+
 	@Test
 	void deleteById() {
 		StepVerifier.create(neo4jOperations.deleteById(person1Id, PersonWithAllConstructor.class)).verifyComplete();
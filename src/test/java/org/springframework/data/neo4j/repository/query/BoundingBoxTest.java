@@ -16,9 +16,11 @@
 package org.springframework.data.neo4j.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -49,6 +51,46 @@ class BoundingBoxTest {
 		assertThat(boundingBox.getUpperRight()).isEqualTo(ur);
 	}
 
+	@Test
+	void shouldComputeBoxesOfCartesianCircles() {
+
+		BoundingBox boundingBox = BoundingBox.ofCartesianCircle(3, 4, 2);
+		assertThat(boundingBox.getLowerLeft()).isEqualTo(new Point(1, 2));
+		assertThat(boundingBox.getUpperRight()).isEqualTo(new Point(5, 6));
+	}
+
+	@Test
+	void shouldComputeBoxesOfGeographicCircles() {
+
+		// 1000 meters are about 0.009 degrees of latitude and, in Malmö, about 0.016 degrees of longitude
+		BoundingBox boundingBox = BoundingBox.ofGeographicCircle(12.994823, 55.612191, 1000);
+		assertThat(boundingBox.getLowerLeft().getX()).isCloseTo(12.978918, within(0.000001));
+		assertThat(boundingBox.getLowerLeft().getY()).isCloseTo(55.603208, within(0.000001));
+		assertThat(boundingBox.getUpperRight().getX()).isCloseTo(13.010728, within(0.000001));
+		assertThat(boundingBox.getUpperRight().getY()).isCloseTo(55.621174, within(0.000001));
+	}
+
+	@Test
+	void shouldCoverAllLongitudesOfGeographicCirclesContainingAPoleOrCrossingTheAntimeridian() {
+
+		BoundingBox boundingBox = BoundingBox.ofGeographicCircle(12.0, 89.99, 10_000);
+		assertThat(boundingBox.getLowerLeft().getX()).isEqualTo(-180.0);
+		assertThat(boundingBox.getUpperRight()).isEqualTo(new Point(180.0, 90.0));
+
+		boundingBox = BoundingBox.ofGeographicCircle(179.99, 0.0, 10_000);
+		assertThat(boundingBox.getLowerLeft().getX()).isEqualTo(-180.0);
+		assertThat(boundingBox.getUpperRight().getX()).isEqualTo(180.0);
+	}
+
+	@Test
+	void shouldRestrictToGeographicCoordinates() {
+
+		BoundingBox boundingBox = BoundingBox.of(new Box(new Point(-200, -100), new Point(10, 20)))
+				.toGeographicCoordinates();
+		assertThat(boundingBox.getLowerLeft()).isEqualTo(new Point(-180, -90));
+		assertThat(boundingBox.getUpperRight()).isEqualTo(new Point(10, 20));
+	}
+
 	private static Stream<Arguments> polygonsToTest() {
 		return Stream.of(
 				Arguments.of(new Polygon(new Point(1, 1), new Point(5, 1), new Point(5, 5), new Point(5, 1)), new Point(1, 1),
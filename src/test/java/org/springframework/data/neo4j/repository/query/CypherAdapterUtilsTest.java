@@ -0,0 +1,205 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.convert.ConvertWith;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+
+/**
+ * @author agent
+ */
+class CypherAdapterUtilsTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(Thing.class);
+
+	@Test
+	void firstKeysetRequestShouldNotFilter() {
+
+		KeysetRequest keysetRequest = KeysetRequest.of(10, Sort.by("name"));
+
+		assertThat(render(keysetRequest)).isEqualTo("MATCH (n) RETURN n ORDER BY n.name ASC, n.id ASC LIMIT 11");
+		assertThat(CypherAdapterUtils.toKeysetParameters(entity, keysetRequest, null)).isEmpty();
+	}
+
+	@Test
+	void keysetRequestShouldSeekBehindKeys() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("name", "b");
+		keys.put("id", 23L);
+		KeysetRequest keysetRequest = KeysetRequest.of(10, Sort.by("name").descending()).after(keys);
+
+		String renderedStatement = render(keysetRequest);
+		assertThat(renderedStatement).contains("n.name < $__key0__");
+		assertThat(renderedStatement).contains("n.name = $__key0__ AND n.id > $__key1__");
+		assertThat(renderedStatement).doesNotContain("SKIP");
+		assertThat(renderedStatement).endsWith("ORDER BY n.name DESC, n.id ASC LIMIT 11");
+		assertThat(CypherAdapterUtils.toKeysetParameters(entity, keysetRequest, null))
+				.containsEntry("__key0__", "b")
+				.containsEntry("__key1__", 23L);
+	}
+
+	@Test
+	void keysetSliceShouldProvideNextRequest() {
+
+		KeysetRequest keysetRequest = KeysetRequest.of(2, Sort.by("name"));
+		Slice<Thing> slice = CypherAdapterUtils.toKeysetSlice(entity, keysetRequest,
+				Arrays.asList(new Thing(1L, "a"), new Thing(2L, "b"), new Thing(3L, "c")));
+
+		assertThat(slice.getContent()).extracting(thing -> thing.name).containsExactly("a", "b");
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(slice.nextPageable()).isInstanceOfSatisfying(KeysetRequest.class, nextRequest -> {
+			assertThat(nextRequest.getPageNumber()).isEqualTo(1);
+			assertThat(nextRequest.getKeys()).containsEntry("name", "b").containsEntry("id", 2L);
+		});
+
+		Slice<Thing> lastSlice = CypherAdapterUtils.toKeysetSlice(entity, (KeysetRequest) slice.nextPageable(),
+				Arrays.asList(new Thing(3L, "c")));
+		assertThat(lastSlice.hasNext()).isFalse();
+		assertThat(lastSlice.nextPageable()).isEqualTo(Pageable.unpaged());
+	}
+
+	@Test
+	void nextKeysetRequestShouldHaveUnresolvedKeys() {
+
+		KeysetRequest keysetRequest = KeysetRequest.of(10, Sort.by("name"));
+		KeysetRequest nextRequest = keysetRequest.next();
+
+		assertThat(keysetRequest.getOffset()).isZero();
+		assertThat(nextRequest.isFirstPage()).isFalse();
+		assertThat(nextRequest.hasUnresolvedKeys()).isTrue();
+		assertThat(nextRequest.getOffset()).isEqualTo(10L);
+		assertThat(nextRequest.next().getOffset()).isEqualTo(20L);
+		assertThat(nextRequest.previousOrFirst()).isEqualTo(keysetRequest);
+		assertThat(keysetRequest.withPage(3).getOffset()).isEqualTo(30L);
+
+		// Without keys there's nothing to seek behind
+		assertThat(render(nextRequest)).isEqualTo("MATCH (n) RETURN n ORDER BY n.name ASC, n.id ASC LIMIT 11");
+		assertThat(CypherAdapterUtils.toKeysetParameters(entity, nextRequest, null)).isEmpty();
+	}
+
+	@Test
+	void keysetRequestsWithResolvedKeysShouldNotSkip() {
+
+		KeysetRequest keysetRequest = KeysetRequest.of(10).next().after(Collections.singletonMap("id", 23L));
+
+		assertThat(keysetRequest.hasUnresolvedKeys()).isFalse();
+		assertThat(keysetRequest.getOffset()).isZero();
+		assertThat(keysetRequest.getPageNumber()).isEqualTo(2);
+	}
+
+	@Test
+	void keysShouldBeWrittenWithTheConversionService() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("name", "b");
+		keys.put("id", 23L);
+		KeysetRequest keysetRequest = KeysetRequest.of(10, Sort.by("name")).after(keys);
+
+		assertThat(CypherAdapterUtils.toKeysetParameters(entity, keysetRequest, mappingContext.getConversionService()))
+				.containsEntry("__key0__", Values.value("b"))
+				.containsEntry("__key1__", Values.value(23L));
+	}
+
+	@Test
+	void keysShouldBeWrittenWithCustomConversions() {
+
+		Neo4jPersistentEntity<?> thingWithCode = mappingContext.getPersistentEntity(ThingWithCode.class);
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("code", new Code("a1"));
+		keys.put("id", 23L);
+		KeysetRequest keysetRequest = KeysetRequest.of(10, Sort.by("code")).after(keys);
+
+		assertThat(CypherAdapterUtils.toKeysetParameters(thingWithCode, keysetRequest, mappingContext.getConversionService()))
+				.containsEntry("__key0__", Values.value("A1"));
+		assertThat(CypherAdapterUtils.toKeysetParameters(thingWithCode, keysetRequest, null))
+				.containsEntry("__key0__", Values.value("A1"));
+	}
+
+	private String render(KeysetRequest keysetRequest) {
+
+		return Renderer.getDefaultRenderer().render(Cypher.match(Cypher.anyNode("n"))
+				.where(CypherAdapterUtils.toKeysetCondition(entity, keysetRequest))
+				.returning(Cypher.name("n"))
+				.orderBy(CypherAdapterUtils.toKeysetSortItems(entity, keysetRequest))
+				.limit(keysetRequest.getPageSize() + 1).build());
+	}
+
+	@Node
+	static class Thing {
+
+		@Id private final Long id;
+
+		private final String name;
+
+		Thing(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Node
+	static class ThingWithCode {
+
+		@Id private Long id;
+
+		@ConvertWith(converter = CodeConverter.class) private Code code;
+	}
+
+	static class Code {
+
+		private final String value;
+
+		Code(String value) {
+			this.value = value;
+		}
+	}
+
+	static class CodeConverter implements Neo4jPersistentPropertyConverter<Code> {
+
+		@Override
+		public Value write(Code source) {
+			return Values.value(source.value.toUpperCase(Locale.ENGLISH));
+		}
+
+		@Override
+		public Code read(Value source) {
+			return new Code(source.asString().toLowerCase(Locale.ENGLISH));
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+/**
+ * @author agent
+ */
+class DtoMappingFunctionTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext(new Neo4jConversions(),
+			InternalTypeSystem.TYPE_SYSTEM);
+
+	private final Neo4jPersistentEntity<?> person = mappingContext.getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void dtosShouldBeCreatedFromTheMapProjectionOfTheRootNode() {
+
+		Map<String, Object> rootNode = new HashMap<>();
+		rootNode.put(Constants.NAME_OF_INTERNAL_ID, 23L);
+		rootNode.put("name", "Helge");
+		rootNode.put("age", 42);
+
+		Object dto = mappingFunctionFor(PersonWithConstructor.class).apply(InternalTypeSystem.TYPE_SYSTEM,
+				recordOf(rootNode));
+
+		assertThat(dto).isInstanceOfSatisfying(PersonWithConstructor.class, p -> {
+			assertThat(p.id).isEqualTo(23L);
+			assertThat(p.name).isEqualTo("Helge");
+			assertThat(p.age).isEqualTo(42);
+		});
+	}
+
+	@Test
+	void missingValuesOfPrimitiveConstructorParametersShouldFallBackToDefaults() {
+
+		Object dto = mappingFunctionFor(PersonWithConstructor.class).apply(InternalTypeSystem.TYPE_SYSTEM,
+				recordOf(Collections.singletonMap("name", "Helge")));
+
+		assertThat(dto).isInstanceOfSatisfying(PersonWithConstructor.class, p -> {
+			assertThat(p.id).isNull();
+			assertThat(p.name).isEqualTo("Helge");
+			assertThat(p.age).isZero();
+		});
+	}
+
+	@Test
+	void missingValuesShouldNotBeAssignedToPrimitiveProperties() {
+
+		Object dto = mappingFunctionFor(PersonWithProperties.class).apply(InternalTypeSystem.TYPE_SYSTEM,
+				recordOf(Collections.singletonMap("name", "Helge")));
+
+		assertThat(dto).isInstanceOfSatisfying(PersonWithProperties.class, p -> {
+			assertThat(p.name).isEqualTo("Helge");
+			assertThat(p.age).isEqualTo(-1);
+		});
+	}
+
+	@Test
+	void dtosWithRelationshipsShouldNotBeSupported() {
+
+		assertThat(DtoMappingFunction.of(mappingContext, PersonWithHobbies.class, person, Collections.emptyList()))
+				.isEmpty();
+	}
+
+	@Test
+	void dtosWithPropertiesUnknownToTheDomainShouldNotBeSupported() {
+
+		assertThat(DtoMappingFunction.of(mappingContext, PersonWithNickname.class, person, Collections.emptyList()))
+				.isEmpty();
+	}
+
+	@Test
+	void interfacesShouldNotBeSupported() {
+
+		assertThat(DtoMappingFunction.of(mappingContext, NameOnly.class, person, Collections.emptyList())).isEmpty();
+	}
+
+	private BiFunction<TypeSystem, MapAccessor, Object> mappingFunctionFor(Class<?> dtoType) {
+
+		Optional<BiFunction<TypeSystem, MapAccessor, Object>> mappingFunction = DtoMappingFunction
+				.of(mappingContext, dtoType, person, Collections.emptyList());
+		assertThat(mappingFunction).isPresent();
+		return mappingFunction.get();
+	}
+
+	private static MapAccessor recordOf(Map<String, Object> rootNode) {
+		return Values.value(Collections.singletonMap(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE, rootNode));
+	}
+
+	@Node
+	static class Person {
+
+		@Id @GeneratedValue private Long id;
+
+		private String name;
+
+		private Integer age;
+
+		@Relationship("LIKES") private List<Hobby> hobbies;
+	}
+
+	@Node
+	static class Hobby {
+
+		@Id @GeneratedValue private Long id;
+	}
+
+	static class PersonWithConstructor {
+
+		private final Long id;
+
+		private final String name;
+
+		private final int age;
+
+		PersonWithConstructor(Long id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	static class PersonWithProperties {
+
+		private String name;
+
+		private int age = -1;
+	}
+
+	static class PersonWithHobbies {
+
+		private String name;
+
+		private List<Hobby> hobbies;
+	}
+
+	static class PersonWithNickname {
+
+		private String name;
+
+		private String nickname;
+	}
+
+	interface NameOnly {
+
+		String getName();
+	}
+}
@@ -18,6 +18,14 @@ package org.springframework.data.neo4j.repository.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -77,4 +85,71 @@ class Neo4jSpelSupportTest {
 		LiteralReplacement literalReplacement2 = Neo4jSpelSupport.literal("x");
 		assertThat(literalReplacement1).isSameAs(literalReplacement2);
 	}
+
+	@Test
+	void cacheShouldBeUsableConcurrently() throws Exception {
+
+		int numberOfThreads = 8;
+		int numberOfIterations = 1_000;
+		int numberOfDistinctValues = Neo4jSpelSupport.DEFAULT_CACHE_SIZE * 2;
+
+		long requestsBefore = Neo4jSpelSupport.LITERALS.getRequestCount();
+
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int t = 0; t < numberOfThreads; ++t) {
+				int offset = t;
+				results.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < numberOfIterations; ++i) {
+						String value = "v" + ((offset + i) % numberOfDistinctValues);
+						assertThat(Neo4jSpelSupport.literal(value).getValue()).isEqualTo(value);
+						String property = i % 2 == 0 ? "a" : "b";
+						assertThat(Neo4jSpelSupport.orderBy(Sort.by(property)).getValue())
+								.isEqualTo("ORDER BY " + property + " ASC");
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> result : results) {
+				result.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(Neo4jSpelSupport.LITERALS.getRequestCount() - requestsBefore)
+				.isEqualTo((long) numberOfThreads * numberOfIterations);
+		assertThat(Neo4jSpelSupport.LITERALS.size()).isLessThanOrEqualTo(Neo4jSpelSupport.DEFAULT_CACHE_SIZE);
+		assertThat(Neo4jSpelSupport.ORDER_BY_FRAGMENTS.getHitRatio()).isGreaterThan(0.9);
+		assertThat(Neo4jSpelSupport.orderBy(Sort.by("a"))).isSameAs(Neo4jSpelSupport.orderBy(Sort.by("a")));
+	}
+
+	@Test
+	void cacheSizeShouldBeConfigurable() {
+
+		try {
+			Neo4jSpelSupport.setCacheSize(2);
+
+			LiteralReplacement first = Neo4jSpelSupport.literal("a");
+			Neo4jSpelSupport.literal("b");
+			Neo4jSpelSupport.literal("c");
+
+			assertThat(Neo4jSpelSupport.LITERALS.size()).isLessThanOrEqualTo(2);
+			assertThat(Neo4jSpelSupport.LITERALS.getMissCount()).isEqualTo(3L);
+			assertThat(Neo4jSpelSupport.literal("a")).isNotSameAs(first);
+		} finally {
+			Neo4jSpelSupport.setCacheSize(Neo4jSpelSupport.DEFAULT_CACHE_SIZE);
+		}
+	}
+
+	@Test
+	void cacheSizeMustBePositive() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> Neo4jSpelSupport.setCacheSize(0))
+				.withMessage("The size of the replacement caches must be greater than 0.");
+	}
 }
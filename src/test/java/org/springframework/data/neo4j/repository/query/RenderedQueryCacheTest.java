@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Node;
+import org.neo4j.cypherdsl.core.Statement;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * @author agent
+ */
+class RenderedQueryCacheTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	@Test
+	void statementsShouldOnlyBeBuiltOncePerShape() {
+
+		RenderedQueryCache cache = new RenderedQueryCache(new PartTree("findAllByName", TestEntity.class));
+		AtomicInteger builtStatements = new AtomicInteger();
+		Supplier<Statement> statementSupplier = countingStatementSupplier(builtStatements);
+
+		String first = cache.getRenderedQuery(shape(0L), statementSupplier);
+		String second = cache.getRenderedQuery(shape(0L), statementSupplier);
+
+		assertThat(first).isEqualTo("MATCH (n:`TestEntity`) RETURN n").isSameAs(second);
+		assertThat(builtStatements).hasValue(1);
+	}
+
+	@Test
+	void leastRecentlyUsedShapesShouldBeEvicted() {
+
+		RenderedQueryCache cache = new RenderedQueryCache(new PartTree("findAllByName", TestEntity.class), 2);
+		AtomicInteger builtStatements = new AtomicInteger();
+		Supplier<Statement> statementSupplier = countingStatementSupplier(builtStatements);
+
+		cache.getRenderedQuery(shape(0L), statementSupplier);
+		cache.getRenderedQuery(shape(10L), statementSupplier);
+		cache.getRenderedQuery(shape(0L), statementSupplier);
+		cache.getRenderedQuery(shape(20L), statementSupplier);
+		assertThat(builtStatements).hasValue(3);
+
+		// The shape with skip 10 has been used least recently and must have been evicted, the one with skip 0 must not
+		cache.getRenderedQuery(shape(0L), statementSupplier);
+		assertThat(builtStatements).hasValue(3);
+		cache.getRenderedQuery(shape(10L), statementSupplier);
+		assertThat(builtStatements).hasValue(4);
+	}
+
+	@Test
+	void queriesWithArgumentDependentShapesShouldNotBeCached() {
+
+		RenderedQueryCache cache = new RenderedQueryCache(new PartTree("findAllByNameBetween", TestEntity.class));
+
+		assertThat(cache.canCache(mappingContext.getPersistentEntity(TestEntity.class), Collections.emptyList()))
+				.isFalse();
+	}
+
+	@Test
+	void queriesOfDomainsWithPossibleCirclesShouldNotBeCached() {
+
+		RenderedQueryCache cache = new RenderedQueryCache(new PartTree("findAllByName", CyclicEntity.class));
+
+		assertThat(cache.canCache(mappingContext.getPersistentEntity(TestEntity.class), Collections.emptyList()))
+				.isTrue();
+		assertThat(cache.canCache(mappingContext.getPersistentEntity(CyclicEntity.class), Collections.emptyList()))
+				.isFalse();
+		assertThat(cache.canCache(mappingContext.getPersistentEntity(CyclicEntity.class),
+				Collections.singletonList("name"))).isTrue();
+	}
+
+	private static List<Object> shape(long skip) {
+		return Arrays.asList(Neo4jQueryType.DEFAULT, Collections.emptyList(), skip);
+	}
+
+	private static Supplier<Statement> countingStatementSupplier(AtomicInteger counter) {
+		return () -> {
+			counter.incrementAndGet();
+			Node n = Cypher.node("TestEntity").named("n");
+			return Cypher.match(n).returning(n).build();
+		};
+	}
+
+	static class CyclicEntity {
+
+		@org.springframework.data.annotation.Id private Long id;
+
+		private String name;
+
+		@Relationship("KNOWS") private List<CyclicEntity> friends;
+	}
+}
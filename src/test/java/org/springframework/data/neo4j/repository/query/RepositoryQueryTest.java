@@ -83,6 +83,7 @@ import org.springframework.util.ReflectionUtils;
  * <ul>
  * <li>{@link Neo4jQueryLookupStrategy}</li>
  * <li>{@link Neo4jQueryMethod}</li>
+ * <li>{@link PartTreeNeo4jQuery}</li>
  * <li>{@link StringBasedNeo4jQuery}</li>
  * </ul>
  *
@@ -231,6 +232,37 @@ final class RepositoryQueryTest {
 		}
 	}
 
+	@Nested
+	class PartTreeNeo4jQueryTest {
+
+		@Test
+		void shouldReuseRenderedQueriesOfTheSameShape() {
+
+			Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+			Neo4jQueryMethod method = neo4jQueryMethod("findAllByIdGreaterThan", long.class);
+			PartTreeNeo4jQuery query = (PartTreeNeo4jQuery) PartTreeNeo4jQuery
+					.create(neo4jOperations, mappingContext, method);
+
+			QueryFragmentsAndParameters first = query.prepareQuery(TestEntity.class, Collections.emptyList(),
+					parameterAccessor(method, 1L), null, null, UnaryOperator.identity()).getQueryFragmentsAndParameters();
+			QueryFragmentsAndParameters second = query.prepareQuery(TestEntity.class, Collections.emptyList(),
+					parameterAccessor(method, 2L), null, null, UnaryOperator.identity()).getQueryFragmentsAndParameters();
+
+			assertThat(first.getCypherQuery()).isNotNull().isSameAs(second.getCypherQuery());
+			assertThat(first.getParameters()).isNotEqualTo(second.getParameters());
+
+			QueryFragmentsAndParameters count = query.prepareQuery(Long.class, Collections.emptyList(),
+					parameterAccessor(method, 1L), Neo4jQueryType.COUNT, null, UnaryOperator.identity())
+					.getQueryFragmentsAndParameters();
+			assertThat(count.getCypherQuery()).isNotEqualTo(first.getCypherQuery());
+		}
+
+		private Neo4jParameterAccessor parameterAccessor(Neo4jQueryMethod method, Object... values) {
+
+			return new Neo4jParameterAccessor((Neo4jQueryMethod.Neo4jParameters) method.getParameters(), values);
+		}
+	}
+
 	@Nested
 	@ExtendWith(LogbackCapturingExtension.class)
 	class StringBasedNeo4jQueryTest {
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @author agent
+ */
+class TotalCountSupportTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final TotalCountSupport totalCountSupport = new TotalCountSupport(clock);
+
+	private final AtomicInteger numberOfCounts = new AtomicInteger();
+
+	private final AtomicReference<Thread> countingThread = new AtomicReference<>();
+
+	private final LongSupplier countQuery = () -> {
+		countingThread.set(Thread.currentThread());
+		return numberOfCounts.incrementAndGet();
+	};
+
+	@Test
+	void shouldCountAfterTheContentByDefault() {
+
+		LongSupplier total = totalCountSupport.prepareTotal("key", countQuery);
+		assertThat(numberOfCounts).hasValue(0);
+
+		assertThat(total.getAsLong()).isEqualTo(1L);
+		assertThat(countingThread).hasValue(Thread.currentThread());
+	}
+
+	@Nested
+	class TimeToLive {
+
+		@Test
+		void totalsShouldBeCachedUntilTheyExpire() {
+
+			totalCountSupport.setCountTtl(Duration.ofSeconds(10));
+
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			clock.advance(Duration.ofSeconds(9));
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			clock.advance(Duration.ofSeconds(1));
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(2L);
+			assertThat(numberOfCounts).hasValue(2);
+		}
+
+		@Test
+		void totalsShouldBeCachedPerKey() {
+
+			totalCountSupport.setCountTtl(Duration.ofSeconds(10));
+
+			assertThat(totalCountSupport.prepareTotal("key1", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(totalCountSupport.prepareTotal("key2", countQuery).getAsLong()).isEqualTo(2L);
+			assertThat(totalCountSupport.prepareTotal("key1", countQuery).getAsLong()).isEqualTo(1L);
+		}
+
+		@Test
+		void totalsShouldNotBeSharedBetweenInstances() {
+
+			totalCountSupport.setCountTtl(Duration.ofSeconds(10));
+			TotalCountSupport otherTotalCountSupport = new TotalCountSupport(clock);
+			otherTotalCountSupport.setCountTtl(Duration.ofSeconds(10));
+
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(otherTotalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(2L);
+		}
+
+		@Test
+		void totalsShouldNotBeCachedWithoutTtl() {
+
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(2L);
+		}
+	}
+
+	@Nested
+	class ConcurrentCount {
+
+		@AfterEach
+		void clearTransactionState() {
+
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+
+		@Test
+		void countShouldStartBeforeTheContentIsRead() throws InterruptedException {
+
+			CountDownLatch counted = new CountDownLatch(1);
+			totalCountSupport.setConcurrentCount(true);
+
+			LongSupplier total = totalCountSupport.prepareTotal("key", () -> {
+				long value = countQuery.getAsLong();
+				counted.countDown();
+				return value;
+			});
+
+			assertThat(counted.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(total.getAsLong()).isEqualTo(1L);
+			assertThat(countingThread.get().getName()).startsWith("neo4j-page-count-");
+		}
+
+		@Test
+		void countShouldRunOnTheConfiguredExecutorWithTheConfiguredDecorator() {
+
+			AtomicInteger decoratedTasks = new AtomicInteger();
+			totalCountSupport.setConcurrentCount(true);
+			totalCountSupport.setExecutor(runnable -> new Thread(runnable, "custom-count").start());
+			totalCountSupport.setTaskDecorator(runnable -> {
+				decoratedTasks.incrementAndGet();
+				return runnable;
+			});
+
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(countingThread.get().getName()).isEqualTo("custom-count");
+			assertThat(decoratedTasks).hasValue(1);
+		}
+
+		@Test
+		void contextClassLoaderShouldBePropagatedByDefault() {
+
+			ClassLoader contextClassLoader = new ClassLoader(getClass().getClassLoader()) {
+			};
+			AtomicReference<ClassLoader> classLoaderOfCount = new AtomicReference<>();
+			totalCountSupport.setConcurrentCount(true);
+
+			Thread currentThread = Thread.currentThread();
+			ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+			currentThread.setContextClassLoader(contextClassLoader);
+			try {
+				totalCountSupport.prepareTotal("key", () -> {
+					classLoaderOfCount.set(Thread.currentThread().getContextClassLoader());
+					return 1L;
+				}).getAsLong();
+			} finally {
+				currentThread.setContextClassLoader(previousClassLoader);
+			}
+
+			assertThat(classLoaderOfCount).hasValue(contextClassLoader);
+		}
+
+		@Test
+		void rejectedCountsShouldRunOnTheCallingThread() {
+
+			totalCountSupport.setConcurrentCount(true);
+			totalCountSupport.setExecutor(runnable -> {
+				throw new RejectedExecutionException();
+			});
+
+			LongSupplier total = totalCountSupport.prepareTotal("key", countQuery);
+			assertThat(numberOfCounts).hasValue(0);
+			assertThat(total.getAsLong()).isEqualTo(1L);
+			assertThat(countingThread).hasValue(Thread.currentThread());
+		}
+
+		@Test
+		void failuresOfTheCountShouldBeRethrown() {
+
+			totalCountSupport.setConcurrentCount(true);
+
+			LongSupplier total = totalCountSupport.prepareTotal("key", () -> {
+				throw new IllegalStateException("Count failed");
+			});
+
+			assertThatIllegalStateException().isThrownBy(total::getAsLong).withMessage("Count failed");
+		}
+
+		@Test
+		void countShouldRunOnTheCallingThreadInReadWriteTransactions() {
+
+			TransactionSynchronizationManager.setActualTransactionActive(true);
+			totalCountSupport.setConcurrentCount(true);
+
+			LongSupplier total = totalCountSupport.prepareTotal("key", countQuery);
+			assertThat(numberOfCounts).hasValue(0);
+			assertThat(total.getAsLong()).isEqualTo(1L);
+			assertThat(countingThread).hasValue(Thread.currentThread());
+		}
+
+		@Test
+		void countShouldRunConcurrentlyInReadOnlyTransactions() {
+
+			TransactionSynchronizationManager.setActualTransactionActive(true);
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+			totalCountSupport.setConcurrentCount(true);
+
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(countingThread.get()).isNotSameAs(Thread.currentThread());
+		}
+
+		@Test
+		void concurrentCountsShouldUseCachedTotals() {
+
+			totalCountSupport.setConcurrentCount(true);
+			totalCountSupport.setCountTtl(Duration.ofSeconds(10));
+
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(totalCountSupport.prepareTotal("key", countQuery).getAsLong()).isEqualTo(1L);
+			assertThat(numberOfCounts).hasValue(1);
+		}
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}